@@ -0,0 +1,90 @@
+package edu.smith.cs.csc212.p6.bench;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import edu.smith.cs.csc212.p6.ChunkyLinkedList;
+
+/**
+ * Sweeps the chunk size of {@link ChunkyLinkedList}. Small chunks make
+ * inserts cheap and indexing expensive; big chunks do the opposite.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ChunkSizeBenchmark {
+	private static final int NUM_INDICES = 1 << 12;
+
+	@Param({ "10", "1000", "100000", "10000000" })
+	public int size;
+
+	@Param({ "8", "64", "512", "4096" })
+	public int chunkSize;
+
+	private ChunkyLinkedList<Integer> list;
+	private int[] indices;
+	private int cursor;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		list = new ChunkyLinkedList<>(chunkSize);
+		for (int i = 0; i < size; i++) {
+			list.addBack(i);
+		}
+		Random rand = new Random(13);
+		indices = new int[NUM_INDICES];
+		for (int i = 0; i < NUM_INDICES; i++) {
+			indices[i] = rand.nextInt(size);
+		}
+	}
+
+	private int nextIndex() {
+		cursor = (cursor + 1) & (NUM_INDICES - 1);
+		return indices[cursor];
+	}
+
+	@Benchmark
+	public Integer getIndex() {
+		return list.getIndex(nextIndex());
+	}
+
+	@Benchmark
+	public int size() {
+		return list.size();
+	}
+
+	@Benchmark
+	public Integer addBackRemoveBack() {
+		list.addBack(-1);
+		return list.removeBack();
+	}
+
+	@Benchmark
+	public Integer addFrontRemoveFront() {
+		list.addFront(-1);
+		return list.removeFront();
+	}
+
+	@Benchmark
+	public Integer addIndexRemoveIndex() {
+		int index = nextIndex();
+		list.addIndex(-1, index);
+		return list.removeIndex(index);
+	}
+}
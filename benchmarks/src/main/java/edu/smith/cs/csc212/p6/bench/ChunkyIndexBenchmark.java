@@ -0,0 +1,77 @@
+package edu.smith.cs.csc212.p6.bench;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import edu.smith.cs.csc212.p6.ChunkyLinkedList;
+
+/**
+ * Random reads on a big {@link ChunkyLinkedList}, which go through its chunk
+ * directory (a binary search) instead of walking the chunks.
+ * 
+ * {@code appendThenRead} checks that appending at the back does not throw the
+ * directory away, so reads stay fast on a list that is still growing.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ChunkyIndexBenchmark {
+	private static final int NUM_INDICES = 1 << 12;
+
+	@Param({ "1000000", "10000000" })
+	public int size;
+
+	@Param({ "64", "256", "1024", "4096" })
+	public int chunkSize;
+
+	private ChunkyLinkedList<Integer> list;
+	private int[] indices;
+	private int cursor;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		list = new ChunkyLinkedList<>(chunkSize);
+		for (int i = 0; i < size; i++) {
+			list.addBack(i);
+		}
+		Random rand = new Random(13);
+		indices = new int[NUM_INDICES];
+		for (int i = 0; i < NUM_INDICES; i++) {
+			indices[i] = rand.nextInt(size);
+		}
+	}
+
+	private int nextIndex() {
+		cursor = (cursor + 1) & (NUM_INDICES - 1);
+		return indices[cursor];
+	}
+
+	@Benchmark
+	public Integer getIndex() {
+		return list.getIndex(nextIndex());
+	}
+
+	@Benchmark
+	public Integer appendThenRead() {
+		list.addBack(-1);
+		Integer found = list.getIndex(nextIndex());
+		list.removeBack();
+		return found;
+	}
+}
@@ -0,0 +1,103 @@
+package edu.smith.cs.csc212.p6.bench;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import edu.smith.cs.csc212.p6.ChunkyLinkedList;
+import edu.smith.cs.csc212.p6.ConcurrentChunkyLinkedList;
+import edu.smith.cs.csc212.p6.P6List;
+
+/**
+ * Throughput of one list shared by every benchmark thread: the striped-lock
+ * {@link ConcurrentChunkyLinkedList} against a plain ChunkyLinkedList with
+ * every call inside {@code synchronized}. Run with {@code -t 1,2,4,8} to see
+ * how each scales with threads.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+public class ConcurrentChunkyBenchmark {
+	@Param({ "CONCURRENT", "SYNCHRONIZED" })
+	public String locking;
+
+	@Param({ "100000" })
+	public int size;
+
+	@Param({ "256" })
+	public int chunkSize;
+
+	private P6List<Integer> list;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		list = locking.equals("CONCURRENT") ? new ConcurrentChunkyLinkedList<>(chunkSize)
+				: new ChunkyLinkedList<>(chunkSize);
+		for (int i = 0; i < size; i++) {
+			list.addBack(i);
+		}
+	}
+
+	/**
+	 * Half the threads' calls work at the front and half at the back, like a
+	 * work queue with producers and consumers.
+	 */
+	@Benchmark
+	public Integer ends() {
+		boolean front = ThreadLocalRandom.current().nextBoolean();
+		if (locking.equals("CONCURRENT")) {
+			return front ? cycleFront() : cycleBack();
+		}
+		synchronized (list) {
+			return front ? cycleFront() : cycleBack();
+		}
+	}
+
+	/**
+	 * Mostly end operations, with one getIndex in ten.
+	 */
+	@Benchmark
+	public Integer endsAndReads() {
+		ThreadLocalRandom rand = ThreadLocalRandom.current();
+		if (locking.equals("CONCURRENT")) {
+			return mixed(rand);
+		}
+		synchronized (list) {
+			return mixed(rand);
+		}
+	}
+
+	private Integer mixed(ThreadLocalRandom rand) {
+		if (rand.nextInt(10) == 0) {
+			return list.getIndex(rand.nextInt(size / 2));
+		}
+		return rand.nextBoolean() ? cycleFront() : cycleBack();
+	}
+
+	private Integer cycleFront() {
+		list.addFront(-1);
+		return list.removeFront();
+	}
+
+	private Integer cycleBack() {
+		list.addBack(-1);
+		return list.removeBack();
+	}
+}
@@ -0,0 +1,118 @@
+package edu.smith.cs.csc212.p6.bench;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import edu.smith.cs.csc212.p6.P6List;
+
+/**
+ * Time to build a list of {@code size} items from nothing, or to empty one
+ * out, using a single P6List method the whole way. This is where an O(n)
+ * method turns into an O(n^2) loop.
+ * 
+ * Each invocation gets a fresh list, so this runs in single-shot mode.
+ *
+ * The default sizes stop at 100k: at 10M, the O(n^2) fills and drains (FIXED
+ * removeFront, SINGLY removeBack, any addIndex, ...) would never finish. The
+ * README shows how to run 10M against just the kinds and methods that are O(1)
+ * (or O(log n)) per item.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class FillDrainBenchmark {
+	@Param({ "GROWABLE", "GAP_BUFFER", "FIXED", "SINGLY", "DOUBLY", "CHUNKY", "CHUNKY_TREE", "JAVA_ARRAY_LIST",
+			"JAVA_LINKED_LIST", "JAVA_ARRAY_DEQUE" })
+	public ListKind kind;
+
+	@Param({ "10", "1000", "100000" })
+	public int size;
+
+	@Param({ "64" })
+	public int chunkSize;
+
+	private P6List<Integer> empty;
+	private P6List<Integer> full;
+	private int[] indices;
+
+	@Setup(Level.Invocation)
+	public void setup() {
+		empty = kind.make(size, chunkSize);
+		full = kind.make(size, chunkSize);
+		for (int i = 0; i < size; i++) {
+			full.addBack(i);
+		}
+		// indices[i] is valid for a list holding i items (insert) or i+1 items (remove).
+		if (indices == null) {
+			Random rand = new Random(13);
+			indices = new int[size];
+			for (int i = 0; i < size; i++) {
+				indices[i] = rand.nextInt(i + 1);
+			}
+		}
+	}
+
+	@Benchmark
+	public P6List<Integer> addFront() {
+		for (int i = 0; i < size; i++) {
+			empty.addFront(i);
+		}
+		return empty;
+	}
+
+	@Benchmark
+	public P6List<Integer> addBack() {
+		for (int i = 0; i < size; i++) {
+			empty.addBack(i);
+		}
+		return empty;
+	}
+
+	@Benchmark
+	public P6List<Integer> addIndex() {
+		for (int i = 0; i < size; i++) {
+			empty.addIndex(i, indices[i]);
+		}
+		return empty;
+	}
+
+	@Benchmark
+	public P6List<Integer> removeFront() {
+		while (!full.isEmpty()) {
+			full.removeFront();
+		}
+		return full;
+	}
+
+	@Benchmark
+	public P6List<Integer> removeBack() {
+		while (!full.isEmpty()) {
+			full.removeBack();
+		}
+		return full;
+	}
+
+	@Benchmark
+	public P6List<Integer> removeIndex() {
+		for (int i = size - 1; i >= 0; i--) {
+			full.removeIndex(indices[i]);
+		}
+		return full;
+	}
+}
@@ -0,0 +1,131 @@
+package edu.smith.cs.csc212.p6.bench;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.Spliterator;
+
+import edu.smith.cs.csc212.p6.P6List;
+import edu.smith.cs.csc212.p6.errors.BadIndexError;
+import edu.smith.cs.csc212.p6.errors.EmptyListError;
+
+/**
+ * Lets an {@link ArrayDeque} stand in as a baseline for our own lists.
+ * 
+ * ArrayDeque has no indexed operations, so those walk from the front the same
+ * way a linked list would. That is the point: it shows what the ends cost
+ * when nothing else is needed.
+ * 
+ * @param <T> the type of item inside the list.
+ */
+public class JavaDequeAdapter<T> implements P6List<T> {
+	private final ArrayDeque<T> items;
+
+	public JavaDequeAdapter(int capacity) {
+		this.items = new ArrayDeque<>(capacity);
+	}
+
+	@Override
+	public T removeFront() {
+		checkNotEmpty();
+		return items.removeFirst();
+	}
+
+	@Override
+	public T removeBack() {
+		checkNotEmpty();
+		return items.removeLast();
+	}
+
+	@Override
+	public T removeIndex(int index) {
+		checkNotEmpty();
+		if (index < 0 || index >= items.size()) {
+			throw new BadIndexError();
+		}
+		// Rotate the first index items out of the way, take one, rotate back.
+		ArrayDeque<T> skipped = new ArrayDeque<>(index);
+		for (int i = 0; i < index; i++) {
+			skipped.addFirst(items.removeFirst());
+		}
+		T removed = items.removeFirst();
+		while (!skipped.isEmpty()) {
+			items.addFirst(skipped.removeFirst());
+		}
+		return removed;
+	}
+
+	@Override
+	public void addFront(T item) {
+		items.addFirst(item);
+	}
+
+	@Override
+	public void addBack(T item) {
+		items.addLast(item);
+	}
+
+	@Override
+	public T getFront() {
+		checkNotEmpty();
+		return items.getFirst();
+	}
+
+	@Override
+	public T getBack() {
+		checkNotEmpty();
+		return items.getLast();
+	}
+
+	@Override
+	public void addIndex(T item, int index) {
+		if (index < 0 || index > items.size()) {
+			throw new BadIndexError();
+		}
+		ArrayDeque<T> skipped = new ArrayDeque<>(index);
+		for (int i = 0; i < index; i++) {
+			skipped.addFirst(items.removeFirst());
+		}
+		items.addFirst(item);
+		while (!skipped.isEmpty()) {
+			items.addFirst(skipped.removeFirst());
+		}
+	}
+
+	@Override
+	public T getIndex(int index) {
+		if (index < 0 || index >= items.size()) {
+			throw new BadIndexError();
+		}
+		Iterator<T> it = items.iterator();
+		for (int i = 0; i < index; i++) {
+			it.next();
+		}
+		return it.next();
+	}
+
+	@Override
+	public int size() {
+		return items.size();
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return items.isEmpty();
+	}
+
+	private void checkNotEmpty() {
+		if (items.isEmpty()) {
+			throw new EmptyListError();
+		}
+	}
+
+	@Override
+	public Iterator<T> iterator() {
+		return items.iterator();
+	}
+
+	@Override
+	public Spliterator<T> spliterator() {
+		return items.spliterator();
+	}
+}
@@ -0,0 +1,108 @@
+package edu.smith.cs.csc212.p6.bench;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
+
+import edu.smith.cs.csc212.p6.P6List;
+import edu.smith.cs.csc212.p6.errors.BadIndexError;
+import edu.smith.cs.csc212.p6.errors.EmptyListError;
+
+/**
+ * Lets a {@link java.util.List} such as {@link java.util.ArrayList} or
+ * {@link java.util.LinkedList} stand in as a baseline for our own lists.
+ * 
+ * @param <T> the type of item inside the list.
+ */
+public class JavaListAdapter<T> implements P6List<T> {
+	private final List<T> items;
+
+	public JavaListAdapter(List<T> items) {
+		this.items = items;
+	}
+
+	@Override
+	public T removeFront() {
+		checkNotEmpty();
+		return items.remove(0);
+	}
+
+	@Override
+	public T removeBack() {
+		checkNotEmpty();
+		return items.remove(items.size() - 1);
+	}
+
+	@Override
+	public T removeIndex(int index) {
+		checkNotEmpty();
+		if (index < 0 || index >= items.size()) {
+			throw new BadIndexError();
+		}
+		return items.remove(index);
+	}
+
+	@Override
+	public void addFront(T item) {
+		items.add(0, item);
+	}
+
+	@Override
+	public void addBack(T item) {
+		items.add(item);
+	}
+
+	@Override
+	public T getFront() {
+		checkNotEmpty();
+		return items.get(0);
+	}
+
+	@Override
+	public T getBack() {
+		checkNotEmpty();
+		return items.get(items.size() - 1);
+	}
+
+	@Override
+	public void addIndex(T item, int index) {
+		if (index < 0 || index > items.size()) {
+			throw new BadIndexError();
+		}
+		items.add(index, item);
+	}
+
+	@Override
+	public T getIndex(int index) {
+		if (index < 0 || index >= items.size()) {
+			throw new BadIndexError();
+		}
+		return items.get(index);
+	}
+
+	@Override
+	public int size() {
+		return items.size();
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return items.isEmpty();
+	}
+
+	private void checkNotEmpty() {
+		if (items.isEmpty()) {
+			throw new EmptyListError();
+		}
+	}
+
+	@Override
+	public Iterator<T> iterator() {
+		return items.iterator();
+	}
+
+	@Override
+	public Spliterator<T> spliterator() {
+		return items.spliterator();
+	}
+}
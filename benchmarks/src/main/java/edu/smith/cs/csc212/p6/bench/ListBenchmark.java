@@ -0,0 +1,136 @@
+package edu.smith.cs.csc212.p6.bench;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import edu.smith.cs.csc212.p6.P6List;
+
+/**
+ * Steady-state cost of every P6List method on a list that already holds
+ * {@code size} items.
+ * 
+ * The add and remove benchmarks run as pairs (add then remove at the same
+ * place) so the list stays the same size for the whole measurement. See
+ * {@link FillDrainBenchmark} for adds and removes measured on their own.
+ *
+ * The default sizes stop at 100k, so the O(n) methods of the slow kinds don't
+ * take over the run; the README shows how to add 10M for the fast ones.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ListBenchmark {
+	/**
+	 * How many random indices to cycle through; a power of two so we can mask.
+	 */
+	private static final int NUM_INDICES = 1 << 12;
+
+	@Param({ "GROWABLE", "GAP_BUFFER", "FIXED", "SINGLY", "DOUBLY", "CHUNKY", "CHUNKY_TREE", "JAVA_ARRAY_LIST",
+			"JAVA_LINKED_LIST", "JAVA_ARRAY_DEQUE" })
+	public ListKind kind;
+
+	@Param({ "10", "1000", "100000" })
+	public int size;
+
+	/**
+	 * Only used by {@link ListKind#CHUNKY} and {@link ListKind#CHUNKY_TREE}; see {@link ChunkSizeBenchmark} for
+	 * the sweep.
+	 */
+	@Param({ "64" })
+	public int chunkSize;
+
+	private P6List<Integer> list;
+	private int[] indices;
+	private int cursor;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		list = kind.make(size + 1, chunkSize);
+		for (int i = 0; i < size; i++) {
+			list.addBack(i);
+		}
+		Random rand = new Random(13);
+		indices = new int[NUM_INDICES];
+		for (int i = 0; i < NUM_INDICES; i++) {
+			indices[i] = rand.nextInt(size);
+		}
+	}
+
+	private int nextIndex() {
+		cursor = (cursor + 1) & (NUM_INDICES - 1);
+		return indices[cursor];
+	}
+
+	@Benchmark
+	public Integer getIndex() {
+		return list.getIndex(nextIndex());
+	}
+
+	@Benchmark
+	public Integer getFront() {
+		return list.getFront();
+	}
+
+	@Benchmark
+	public Integer getBack() {
+		return list.getBack();
+	}
+
+	@Benchmark
+	public int size() {
+		return list.size();
+	}
+
+	@Benchmark
+	public boolean isEmpty() {
+		return list.isEmpty();
+	}
+
+	@Benchmark
+	public Integer addFrontRemoveFront() {
+		list.addFront(-1);
+		return list.removeFront();
+	}
+
+	@Benchmark
+	public Integer addBackRemoveBack() {
+		list.addBack(-1);
+		return list.removeBack();
+	}
+
+	@Benchmark
+	public Integer addIndexRemoveIndex() {
+		int index = nextIndex();
+		list.addIndex(-1, index);
+		return list.removeIndex(index);
+	}
+
+	/**
+	 * One for-each pass over the whole list; divide by size for the cost per
+	 * item.
+	 */
+	@Benchmark
+	public long iterate() {
+		long sum = 0;
+		for (Integer item : list) {
+			sum += item;
+		}
+		return sum;
+	}
+}
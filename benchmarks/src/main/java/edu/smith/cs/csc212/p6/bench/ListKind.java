@@ -0,0 +1,57 @@
+package edu.smith.cs.csc212.p6.bench;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+
+import edu.smith.cs.csc212.p6.ChunkyLinkedList;
+import edu.smith.cs.csc212.p6.ChunkyTreeList;
+import edu.smith.cs.csc212.p6.DoublyLinkedList;
+import edu.smith.cs.csc212.p6.FixedSizeList;
+import edu.smith.cs.csc212.p6.GapBufferList;
+import edu.smith.cs.csc212.p6.GrowableList;
+import edu.smith.cs.csc212.p6.P6List;
+import edu.smith.cs.csc212.p6.SinglyLinkedList;
+
+/**
+ * Every list the benchmarks know how to build. The names are used directly as
+ * JMH {@code @Param} values, e.g. {@code -p kind=GROWABLE,JAVA_ARRAY_LIST}.
+ */
+public enum ListKind {
+	GROWABLE, GAP_BUFFER, FIXED, SINGLY, DOUBLY, CHUNKY, CHUNKY_TREE, JAVA_ARRAY_LIST, JAVA_LINKED_LIST, JAVA_ARRAY_DEQUE;
+
+	/**
+	 * Build an empty list of this kind.
+	 * 
+	 * @param capacity  how many items it must be able to hold (only matters for
+	 *                  {@link FixedSizeList}, which cannot grow).
+	 * @param chunkSize the chunk size for {@link ChunkyLinkedList} and
+	 *                  {@link ChunkyTreeList}.
+	 * @return a new, empty list.
+	 */
+	public <T> P6List<T> make(int capacity, int chunkSize) {
+		switch (this) {
+		case GROWABLE:
+			return new GrowableList<>();
+		case GAP_BUFFER:
+			return new GapBufferList<>();
+		case FIXED:
+			return new FixedSizeList<>(capacity);
+		case SINGLY:
+			return new SinglyLinkedList<>();
+		case DOUBLY:
+			return new DoublyLinkedList<>();
+		case CHUNKY:
+			return new ChunkyLinkedList<>(chunkSize);
+		case CHUNKY_TREE:
+			return new ChunkyTreeList<>(chunkSize);
+		case JAVA_ARRAY_LIST:
+			return new JavaListAdapter<>(new ArrayList<T>());
+		case JAVA_LINKED_LIST:
+			return new JavaListAdapter<>(new LinkedList<T>());
+		case JAVA_ARRAY_DEQUE:
+			return new JavaDequeAdapter<>(capacity);
+		default:
+			throw new IllegalArgumentException(this.name());
+		}
+	}
+}
@@ -0,0 +1,87 @@
+package edu.smith.cs.csc212.p6.bench;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import edu.smith.cs.csc212.p6.ChunkyTreeList;
+import edu.smith.cs.csc212.p6.P6List;
+
+/**
+ * Mixed workloads at random positions, where {@link ChunkyTreeList} (O(log n)
+ * for everything) should pull away from GrowableList (O(n) shifts) and
+ * ChunkyLinkedList (O(n / chunkSize) to find a chunk once edits have made its
+ * directory stale) as the list grows.
+ *
+ * Each call inserts at one random index, removes at another, and reads
+ * {@code reads} more, so the list stays the same size.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RandomEditBenchmark {
+	private static final int NUM_INDICES = 1 << 12;
+
+	@Param({ "GROWABLE", "CHUNKY", "CHUNKY_TREE" })
+	public ListKind kind;
+
+	@Param({ "1000", "100000", "1000000" })
+	public int size;
+
+	/**
+	 * How many random getIndex calls go with each insert/remove pair: 0 is all
+	 * edits, 8 is read-heavy.
+	 */
+	@Param({ "0", "8" })
+	public int reads;
+
+	@Param({ "64" })
+	public int chunkSize;
+
+	private P6List<Integer> list;
+	private int[] indices;
+	private int cursor;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		list = kind.make(size + 1, chunkSize);
+		for (int i = 0; i < size; i++) {
+			list.addBack(i);
+		}
+		Random rand = new Random(13);
+		indices = new int[NUM_INDICES];
+		for (int i = 0; i < NUM_INDICES; i++) {
+			indices[i] = rand.nextInt(size);
+		}
+	}
+
+	private int nextIndex() {
+		cursor = (cursor + 1) & (NUM_INDICES - 1);
+		return indices[cursor];
+	}
+
+	@Benchmark
+	public int mixed() {
+		list.addIndex(-1, nextIndex());
+		int found = list.removeIndex(nextIndex());
+		for (int i = 0; i < reads; i++) {
+			found += list.getIndex(nextIndex());
+		}
+		return found;
+	}
+}
@@ -0,0 +1,61 @@
+package edu.smith.cs.csc212.p6.bench;
+
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import edu.smith.cs.csc212.p6.P6List;
+
+/**
+ * A map/filter/reduce over a whole list, sequential vs. parallel. How well the
+ * parallel version scales depends on how evenly the list's spliterator splits:
+ * array-backed lists split by index, ChunkyLinkedList by chunk, and the linked
+ * lists can only hand out batches one at a time.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StreamBenchmark {
+	@Param({ "CHUNKY", "GROWABLE", "SINGLY", "JAVA_ARRAY_LIST" })
+	public ListKind kind;
+
+	@Param({ "10000000" })
+	public int size;
+
+	@Param({ "false", "true" })
+	public boolean parallel;
+
+	@Param({ "1024" })
+	public int chunkSize;
+
+	private P6List<Integer> list;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		list = kind.make(size, chunkSize);
+		for (int i = 0; i < size; i++) {
+			list.addBack(i);
+		}
+	}
+
+	@Benchmark
+	public long mapFilterSum() {
+		Stream<Integer> items = parallel ? list.parallelStream() : list.stream();
+		return items.mapToLong(x -> (long) x * x).filter(x -> (x & 1) == 0).sum();
+	}
+}
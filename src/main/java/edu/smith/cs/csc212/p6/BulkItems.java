@@ -0,0 +1,64 @@
+package edu.smith.cs.csc212.p6;
+
+import java.util.Collection;
+
+import edu.smith.cs.csc212.p6.errors.BadIndexError;
+import edu.smith.cs.csc212.p6.errors.EmptyListError;
+
+/**
+ * Helpers for the bulk operations ({@link P6List#insertAll} and
+ * {@link P6List#removeRange}).
+ */
+final class BulkItems {
+	private BulkItems() {
+	}
+
+	/**
+	 * Copy whatever we were handed into an array first, so we know how many items
+	 * there are before we start making room for them.
+	 * 
+	 * @param items anything we can loop over, including another P6List.
+	 * @return a new array holding the items in order.
+	 */
+	static Object[] toArray(Iterable<?> items) {
+		if (items instanceof Collection) {
+			return ((Collection<?>) items).toArray();
+		}
+		if (items instanceof P6List) {
+			// we know the size up front, so fill the array in one pass.
+			Object[] array = new Object[((P6List<?>) items).size()];
+			int i = 0;
+			for (Object item : items) {
+				array[i++] = item;
+			}
+			return array;
+		}
+		GrowableList<Object> copy = new GrowableList<>();
+		for (Object item : items) {
+			copy.addBack(item);
+		}
+		Object[] array = new Object[copy.size()];
+		for (int i = 0; i < array.length; i++) {
+			array[i] = copy.getIndex(i);
+		}
+		return array;
+	}
+
+	/**
+	 * Throw the right error if a removeRange range is no good.
+	 * 
+	 * @param list      the list the range is in.
+	 * @param fromIndex the index of the first item to remove.
+	 * @param toIndex   one past the index of the last item to remove.
+	 * @throws EmptyListError if the list is empty and the range is not.
+	 * @throws BadIndexError  if the range does not fit inside the list.
+	 */
+	static void checkRange(P6List<?> list, int fromIndex, int toIndex) {
+		if (fromIndex < toIndex && list.isEmpty()) {
+			throw new EmptyListError();
+		}
+		if (fromIndex < 0 || toIndex > list.size() || fromIndex > toIndex) {
+			throw new BadIndexError();
+		}
+	}
+}
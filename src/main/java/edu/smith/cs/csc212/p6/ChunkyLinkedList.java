@@ -1,5 +1,12 @@
 package edu.smith.cs.csc212.p6;
 
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
 import edu.smith.cs.csc212.p6.errors.BadIndexError;
 import edu.smith.cs.csc212.p6.errors.EmptyListError;
 import edu.smith.cs.csc212.p6.errors.P6NotImplemented;
@@ -9,16 +16,83 @@ import edu.smith.cs.csc212.p6.errors.P6NotImplemented;
  * Therefore, we only make new nodes when they are full. Some remove operations
  * may be easier if you allow "chunks" to be partially filled.
  * 
+ * Inserting into a full chunk in the middle splits it in half, and removing
+ * from the middle merges a chunk with its neighbor once both fit in one chunk
+ * and it has dropped below the merge threshold. That keeps middle edits at
+ * O(chunkSize + log chunks), plus O(chunks) when a chunk is split, merged or
+ * dropped, and most chunks at least partly full.
+ * 
  * @author jfoley
  * @param <T> - the type of item stored in the list.
  */
 public class ChunkyLinkedList<T> implements P6List<T> {
+	/**
+	 * By default a chunk that drops below half full tries to merge.
+	 */
+	public static final double DEFAULT_MERGE_THRESHOLD = 0.5;
 	private int chunkSize;
+	/**
+	 * A chunk holding fewer than this many items after a removeIndex is merged
+	 * with a neighbor if the two fit in one chunk.
+	 */
+	private int mergeBelow;
 	private SinglyLinkedList<FixedSizeList<T>> chunks;
+	/**
+	 * How many items are in all of the chunks together; kept up to date by every
+	 * add and remove. Run with assertions on (-ea) to have every change checked
+	 * against the chunks.
+	 */
+	private int size;
+	/**
+	 * Bumped by every add and remove, so iterators can notice.
+	 */
+	private int modCount;
+	/**
+	 * A searchable copy of the chunks list: directory[i] is the i-th chunk, and
+	 * counts is a Fenwick tree over their sizes (counts[i] holds the items in
+	 * chunks (i - lowbit(i), i], counting from 1). Finding the chunk for an
+	 * index, or where a chunk starts, is O(log chunks), and so is recording an
+	 * add or remove inside one chunk. Only the first numChunks entries are used.
+	 */
+	private Object[] directory;
+	private int[] counts;
+	private int numChunks;
+	/**
+	 * Adds and removes inside a chunk update counts, and a chunk added or
+	 * dropped at the back is appended or popped. Only adding or dropping a chunk
+	 * anywhere else (which moves every chunk after it) clears this, and the next
+	 * lookup rebuilds the directory in O(chunks).
+	 */
+	private boolean directoryValid;
+	/**
+	 * How many times the directory has been rebuilt, for tests.
+	 */
+	private int rebuilds;
 
 	public ChunkyLinkedList(int chunkSize) {
+		this(chunkSize, DEFAULT_MERGE_THRESHOLD);
+	}
+
+	/**
+	 * @param chunkSize      how many items fit in each chunk.
+	 * @param mergeThreshold a fraction of chunkSize, from 0 (never merge) to 1;
+	 *                       see {@link #DEFAULT_MERGE_THRESHOLD}.
+	 */
+	public ChunkyLinkedList(int chunkSize, double mergeThreshold) {
+		if (chunkSize < 1) {
+			throw new IllegalArgumentException("chunkSize must be positive: " + chunkSize);
+		}
+		if (mergeThreshold < 0 || mergeThreshold > 1) {
+			throw new IllegalArgumentException("mergeThreshold must be between 0 and 1: " + mergeThreshold);
+		}
 		this.chunkSize = chunkSize;
+		this.mergeBelow = (int) Math.ceil(chunkSize * mergeThreshold);
 		chunks = new SinglyLinkedList<>();
+		size = 0;
+		directory = new Object[4];
+		counts = new int[5];
+		numChunks = 0;
+		directoryValid = true;
 	}
 
 	/**
@@ -35,7 +109,13 @@ public class ChunkyLinkedList<T> implements P6List<T> {
 		T ret = chunk.removeFront();
 		if (chunk.isEmpty()) {
 			chunks.removeFront();
+			directoryValid = false;
+		} else {
+			adjust(0, -1);
 		}
+		modCount++;
+		size--;
+		assert countMatchesChunks();
 		return ret;
 	}
 
@@ -52,7 +132,16 @@ public class ChunkyLinkedList<T> implements P6List<T> {
 		T get =chunk.removeBack();
 		if (chunk.isEmpty()) {
 			chunks.removeBack();
+			if (directoryValid) {
+				numChunks--;
+				directory[numChunks] = null;
+			}
+		} else {
+			adjust(numChunks - 1, -1);
 		}
+		modCount++;
+		size--;
+		assert countMatchesChunks();
 		return get;
 	}
 
@@ -67,20 +156,29 @@ public class ChunkyLinkedList<T> implements P6List<T> {
 	@Override
 	public T removeIndex(int index) {
 		checkNotEmpty();
-		if (index<0 || index>size()) {
+		if (index<0 || index>=size) {
 			throw new BadIndexError();
 		}
 		if (index==0) {
-			removeFront();
+			return removeFront();
 		}
-		if (index==size()) {
-			removeBack();
+		if (index==size-1) {
+			return removeBack();
 		}
-		FixedSizeList<T> chunk = chunks.getIndex(index);
-		T bow = chunk.removeIndex(index);
+		int which = findChunk(index);
+		FixedSizeList<T> chunk = chunkAt(which);
+		T bow = chunk.removeIndex(index - startOf(which));
 		if (chunk.isEmpty()) {
-			chunks.removeIndex(index);
+			chunks.removeIndex(which);
+			directoryValid = false;
+		} else if (chunk.size() < mergeBelow && mergeWithNeighbor(which)) {
+			directoryValid = false;
+		} else {
+			adjust(which, -1);
 		}
+		modCount++;
+		size--;
+		assert countMatchesChunks();
 		return bow;
 	}
 
@@ -100,17 +198,23 @@ public class ChunkyLinkedList<T> implements P6List<T> {
 	 */
 	@Override
 	public void addFront(T item) {
-		if (size()==0){
+		if (size==0){
 			FixedSizeList<T> first= makeChunk();
 			chunks.addFront(first);		
+			directoryValid = false;
 		}
 		
 			FixedSizeList<T> front = chunks.getFront();
 			if (front.size()==chunkSize) {
 				front = makeChunk();
 				chunks.addFront(front);
+				directoryValid = false;
 			}
 			front.addFront(item);
+			adjust(0, 1);
+			modCount++;
+			size++;
+			assert countMatchesChunks();
 	}
 
 	/**
@@ -121,18 +225,21 @@ public class ChunkyLinkedList<T> implements P6List<T> {
 	 */
 	@Override
 	public void addBack(T item) {
-		if (size()==0){
-			FixedSizeList<T> last= makeChunk();
-			chunks.addBack(last);		
-		}
-		
-		FixedSizeList<T> back = chunks.getBack();	
-		if (back.size()==chunkSize) {
+		FixedSizeList<T> back;
+		if (chunks.isEmpty() || chunks.getBack().size()==chunkSize) {
 			back = makeChunk();
+			if (directoryValid) {
+				appendToDirectory(back);
+			}
 			chunks.addBack(back);
-			
+		} else {
+			back = chunks.getBack();
 		}
-		back.addBack(item);	
+		back.addBack(item);
+		adjust(numChunks - 1, 1);
+		modCount++;
+		size++;
+		assert countMatchesChunks();
 	}
 	
 	/**
@@ -144,25 +251,204 @@ public class ChunkyLinkedList<T> implements P6List<T> {
 	 */
 	@Override
 	public void addIndex(T item, int index) {
-		if (index<0 || index>size()) {
+		if (index<0 || index>size) {
 			throw new BadIndexError();
 		}
 		if (index == 0) {
 			addFront(item);
 			return;
 		}
-		if (index==size()) {
+		if (index==size) {
 			addBack(item);
 			return;
 		}
-		FixedSizeList<T> ply = chunks.getIndex(index);
+		int which = findChunk(index);
+		FixedSizeList<T> ply = chunkAt(which);
+		int local = index - startOf(which);
 		if (ply.size()==chunkSize) {
-		ply = makeChunk();
-		chunks.addFront(ply);
-		}else {
-			ply.addIndex(item,index);
+			FixedSizeList<T> upper = splitChunk(which);
+			if (local > ply.size()) {
+				upper.addIndex(item, local - ply.size());
+			} else {
+				ply.addIndex(item, local);
+			}
+			directoryValid = false;
+		} else {
+			ply.addIndex(item, local);
+			adjust(which, 1);
 		}
-		
+		modCount++;
+		size++;
+		assert countMatchesChunks();
+	}
+
+	/**
+	 * Add every item before ``index`` in this list, in order.
+	 * 
+	 * O(n/chunkSize + k)-splits the chunk at index once, tops up the chunk before
+	 * the new items, then fills whole new chunks with bulk copies and splices
+	 * them into the chunks list in one pass.
+	 * 
+	 * @param index a number from 0 to size, including size.
+	 * @param items the data to add to the list.
+	 * @throws BadIndexError if the index does not exist.
+	 */
+	@Override
+	public void insertAll(int index, Iterable<? extends T> items) {
+		if (index<0 || index>size) {
+			throw new BadIndexError();
+		}
+		Object[] added = BulkItems.toArray(items);
+		if (added.length == 0) {
+			return;
+		}
+		int done = 0;
+		// where in the chunks list the new chunks go.
+		int position;
+		FixedSizeList<T> before = null;
+		if (index == size) {
+			position = chunks.size();
+			if (!chunks.isEmpty()) {
+				before = chunks.getBack();
+			}
+		} else {
+			int which = findChunk(index);
+			int local = index - startOf(which);
+			if (local > 0) {
+				// split the chunk at index: [0, local) stays, the rest moves after us.
+				before = chunkAt(which);
+				FixedSizeList<T> rest = makeChunk();
+				for (int i = local; i < before.size(); i++) {
+					rest.addBack(before.getIndex(i));
+				}
+				before.removeRange(local, before.size());
+				chunks.addIndex(rest, which + 1);
+				position = which + 1;
+			} else {
+				position = which;
+			}
+		}
+		if (before != null) {
+			int room = Math.min(chunkSize - before.size(), added.length);
+			before.addBackFrom(added, 0, room);
+			done = room;
+		}
+		SinglyLinkedList<FixedSizeList<T>> fresh = new SinglyLinkedList<>();
+		while (done < added.length) {
+			FixedSizeList<T> chunk = makeChunk();
+			int count = Math.min(chunkSize, added.length - done);
+			chunk.addBackFrom(added, done, count);
+			done += count;
+			fresh.addBack(chunk);
+		}
+		chunks.insertAll(position, fresh);
+		modCount++;
+		size += added.length;
+		directoryValid = false;
+		assert countMatchesChunks();
+	}
+
+	/**
+	 * Delete the items from ``fromIndex`` up to (but not including) ``toIndex``.
+	 * 
+	 * O(chunkSize + chunks)-trims the chunks at either end of the range, drops
+	 * every chunk in between in one pass, and merges what is left at the seam if
+	 * it fits in one chunk.
+	 * 
+	 * @param fromIndex the index of the first item to remove.
+	 * @param toIndex   one past the index of the last item to remove.
+	 * @throws EmptyListError if the list is empty and the range is not.
+	 * @throws BadIndexError  if the range does not fit inside the list.
+	 */
+	@Override
+	public void removeRange(int fromIndex, int toIndex) {
+		BulkItems.checkRange(this, fromIndex, toIndex);
+		if (fromIndex == toIndex) {
+			return;
+		}
+		int first = findChunk(fromIndex);
+		int last = findChunk(toIndex - 1);
+		FixedSizeList<T> head = chunkAt(first);
+		FixedSizeList<T> tail = chunkAt(last);
+		int headStart = startOf(first);
+		int tailStart = startOf(last);
+		if (first == last) {
+			head.removeRange(fromIndex - headStart, toIndex - headStart);
+			if (head.isEmpty()) {
+				chunks.removeIndex(first);
+			}
+		} else {
+			head.removeRange(fromIndex - headStart, head.size());
+			tail.removeRange(0, toIndex - tailStart);
+			chunks.removeRange(first + 1, last);
+			// now tail is right after head.
+			if (tail.isEmpty()) {
+				chunks.removeIndex(first + 1);
+			}
+			if (head.isEmpty()) {
+				chunks.removeIndex(first);
+			}
+			if (!head.isEmpty() && !tail.isEmpty() && head.size() + tail.size() <= chunkSize) {
+				for (int i = 0; i < tail.size(); i++) {
+					head.addBack(tail.getIndex(i));
+				}
+				chunks.removeIndex(first + 1);
+			}
+		}
+		modCount++;
+		size -= toIndex - fromIndex;
+		directoryValid = false;
+		assert countMatchesChunks();
+	}
+
+	/**
+	 * Move the back half of a full chunk into a new chunk right after it.
+	 * O(chunkSize + chunks).
+	 * 
+	 * @param which the position of the full chunk in the directory.
+	 * @return the new chunk holding the back half.
+	 */
+	private FixedSizeList<T> splitChunk(int which) {
+		FixedSizeList<T> lower = chunkAt(which);
+		FixedSizeList<T> upper = makeChunk();
+		int half = lower.size() / 2;
+		for (int i = half; i < lower.size(); i++) {
+			upper.addBack(lower.getIndex(i));
+		}
+		while (lower.size() > half) {
+			lower.removeBack();
+		}
+		chunks.addIndex(upper, which + 1);
+		return upper;
+	}
+
+	/**
+	 * Fold an underfull chunk together with the chunk after it (or before it, if
+	 * it is the last one) when everything fits in one chunk. Uses the directory,
+	 * so call this before marking it stale. O(chunkSize + chunks).
+	 * 
+	 * @param which the position of the underfull chunk in the directory.
+	 * @return true if it merged, so the directory is out of date.
+	 */
+	private boolean mergeWithNeighbor(int which) {
+		int into;
+		if (which + 1 < numChunks) {
+			into = which;
+		} else if (which > 0) {
+			into = which - 1;
+		} else {
+			return false;
+		}
+		FixedSizeList<T> keep = chunkAt(into);
+		FixedSizeList<T> drop = chunkAt(into + 1);
+		if (keep.size() + drop.size() > chunkSize) {
+			return false;
+		}
+		for (int i = 0; i < drop.size(); i++) {
+			keep.addBack(drop.getIndex(i));
+		}
+		chunks.removeIndex(into + 1);
+		return true;
 	}
 
 	/**
@@ -194,6 +480,8 @@ public class ChunkyLinkedList<T> implements P6List<T> {
 	/**
 	 * Find the index-th element of this list.
 	 * 
+	 * O(log chunks) to search the directory, then O(1) inside the chunk.
+	 * 
 	 * @param index a number from 0 to size, excluding size.
 	 * @return the value at index.
 	 * @throws BadIndexError if the index does not exist.
@@ -203,34 +491,147 @@ public class ChunkyLinkedList<T> implements P6List<T> {
 		if (this.isEmpty()) {
 			throw new EmptyListError();
 		}
-		int start = 0;
+		if (index < 0) {
+			throw new BadIndexError();
+		}
+		int which = findChunk(index);
+		return chunkAt(which).getIndex(index - startOf(which));
+	}
+
+	/**
+	 * Walk down the Fenwick tree to the chunk that holds ``index``.
+	 * O(log chunks).
+	 * 
+	 * @param index a number from 0 to size, excluding size.
+	 * @return the position of that chunk in the directory.
+	 * @throws BadIndexError if the index does not exist.
+	 */
+	private int findChunk(int index) {
+		if (!directoryValid) {
+			rebuildDirectory();
+		}
+		// find how many whole chunks come before index: the most whose items,
+		// added up, still don't reach past it.
+		int which = 0;
+		int rest = index;
+		for (int step = Integer.highestOneBit(numChunks); step > 0; step >>= 1) {
+			int next = which + step;
+			if (next <= numChunks && counts[next] <= rest) {
+				which = next;
+				rest -= counts[next];
+			}
+		}
+		if (which == numChunks) {
+			throw new BadIndexError();
+		}
+		return which;
+	}
+
+	/**
+	 * O(log chunks).
+	 * 
+	 * @param which a position in the directory, up to numChunks.
+	 * @return how many items are in the chunks before it.
+	 */
+	private int startOf(int which) {
+		int total = 0;
+		for (int i = which; i > 0; i -= i & -i) {
+			total += counts[i];
+		}
+		return total;
+	}
+
+	/**
+	 * Record that the chunk at ``which`` gained or lost items, if the directory
+	 * is up to date. O(log chunks).
+	 * 
+	 * @param which a position in the directory.
+	 * @param delta how many items it gained (or lost, if negative).
+	 */
+	private void adjust(int which, int delta) {
+		if (!directoryValid) {
+			return;
+		}
+		for (int i = which + 1; i <= numChunks; i += i & -i) {
+			counts[i] += delta;
+		}
+	}
+
+	/**
+	 * Do not allow unchecked warnings in any other method.
+	 * 
+	 * @param which a position in the directory.
+	 * @return the chunk at that position.
+	 */
+	@SuppressWarnings("unchecked")
+	private FixedSizeList<T> chunkAt(int which) {
+		return (FixedSizeList<T>) directory[which];
+	}
+
+	/**
+	 * Add a chunk to the end of the directory. O(log chunks).
+	 * 
+	 * @param chunk the chunk that was just added to the back of chunks.
+	 */
+	private void appendToDirectory(FixedSizeList<T> chunk) {
+		growDirectory();
+		directory[numChunks] = chunk;
+		numChunks++;
+		// the new counts entry covers this chunk and the ones just before it.
+		int i = numChunks;
+		counts[i] = chunk.size() + startOf(i - 1) - startOf(i - (i & -i));
+	}
+
+	/**
+	 * Make room for one more chunk in the directory.
+	 */
+	private void growDirectory() {
+		if (numChunks == directory.length) {
+			directory = Arrays.copyOf(directory, numChunks * 2);
+			counts = Arrays.copyOf(counts, numChunks * 2 + 1);
+		}
+	}
+
+	/**
+	 * Walk the chunks list once and rebuild the directory. O(chunks).
+	 */
+	private void rebuildDirectory() {
+		Arrays.fill(directory, 0, numChunks, null);
+		numChunks = 0;
 		for (FixedSizeList<T> chunk : this.chunks) {
-			// calculate bounds of this chunk.
-			int end = start + chunk.size();
-			
-			// Check whether the index should be in this chunk:
-			if (start <= index && index < end) {
-				return chunk.getIndex(index - start);
+			growDirectory();
+			directory[numChunks] = chunk;
+			numChunks++;
+			counts[numChunks] = chunk.size();
+		}
+		// push each entry's total up to the one entry that covers it next.
+		for (int i = 1; i <= numChunks; i++) {
+			int up = i + (i & -i);
+			if (up <= numChunks) {
+				counts[up] += counts[i];
 			}
-			
-			// update bounds of next chunk.
-			start = end;
 		}
-		throw new BadIndexError();
+		directoryValid = true;
+		rebuilds++;
+	}
+
+	/**
+	 * @return how many times the directory has been rebuilt so far, for tests.
+	 */
+	int rebuildCount() {
+		return rebuilds;
 	}
 
 	/**
 	 * Calculate the size of the list.
 	 * 
+	 * O(1)-the size field is kept up to date by every add and remove.
+	 * 
 	 * @return the length of the list, or zero if empty.
 	 */
 	@Override
 	public int size() {
-		int total = 0;
-		for (FixedSizeList<T> chunk : this.chunks) {
-			total += chunk.size();
-		}
-		return total;
+		return size;
 	}
 
 	/**
@@ -244,9 +645,175 @@ public class ChunkyLinkedList<T> implements P6List<T> {
 		return this.chunks.isEmpty();
 	}
 	
+	/**
+	 * Debugging check, used as {@code assert countMatchesChunks();} so it only
+	 * runs when assertions are on (they are during tests). O(chunks).
+	 * 
+	 * @return true if the size field is the sum of the chunk sizes.
+	 */
+	private boolean countMatchesChunks() {
+		int total = 0;
+		for (FixedSizeList<T> chunk : this.chunks) {
+			total += chunk.size();
+		}
+		if (total != size) {
+			throw new AssertionError("size is " + size + " but chunks hold " + total);
+		}
+		if (directoryValid && startOf(numChunks) != size) {
+			throw new AssertionError("size is " + size + " but the directory counts " + startOf(numChunks));
+		}
+		return true;
+	}
+	
 	private void checkNotEmpty() {
 		if (this.isEmpty()) {
 			throw new EmptyListError();
 		}
 	}
+
+	/**
+	 * O(1) per item: walks the chunk chain once and reads each chunk's array
+	 * directly, instead of a FixedSizeList.getIndex call per item. Fails fast if
+	 * the list changes underneath it.
+	 */
+	@Override
+	public Iterator<T> iterator() {
+		return new Iter();
+	}
+
+	private class Iter implements Iterator<T> {
+		final Iterator<FixedSizeList<T>> nextChunk = chunks.iterator();
+		Object[] items = new Object[0];
+		int index = 0;
+		int fill = 0;
+		final int expectedModCount = modCount;
+
+		@Override
+		public boolean hasNext() {
+			while (index >= fill && nextChunk.hasNext()) {
+				FixedSizeList<T> chunk = nextChunk.next();
+				items = chunk.items();
+				fill = chunk.size();
+				index = 0;
+			}
+			return index < fill;
+		}
+
+		@SuppressWarnings("unchecked")
+		@Override
+		public T next() {
+			if (modCount != expectedModCount) {
+				throw new ConcurrentModificationException();
+			}
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			return (T) items[index++];
+		}
+	}
+
+	/**
+	 * Splits along the chunk chain: each half gets whole chunks, and items are
+	 * read straight out of each chunk's array. O(chunks) to set up, then O(1)
+	 * per split. Fails fast like the iterator.
+	 */
+	@Override
+	public Spliterator<T> spliterator() {
+		if (!directoryValid) {
+			rebuildDirectory();
+		}
+		Object[] snapshot = Arrays.copyOf(directory, numChunks);
+		int[] bounds = new int[numChunks + 1];
+		for (int i = 0; i < numChunks; i++) {
+			bounds[i + 1] = bounds[i] + chunkAt(i).size();
+		}
+		return new ChunkSpliterator(snapshot, bounds, 0, numChunks, modCount);
+	}
+
+	private class ChunkSpliterator implements Spliterator<T> {
+		/**
+		 * The chunks as of spliterator(), and bounds[i] the index of the first item
+		 * in chunk i (with size at the end).
+		 */
+		final Object[] snapshot;
+		final int[] bounds;
+		/**
+		 * We cover chunks [chunk, lastChunk), starting at offset in the first one.
+		 */
+		int chunk;
+		int offset;
+		final int lastChunk;
+		final int expectedModCount;
+
+		ChunkSpliterator(Object[] snapshot, int[] bounds, int chunk, int lastChunk, int expectedModCount) {
+			this.snapshot = snapshot;
+			this.bounds = bounds;
+			this.chunk = chunk;
+			this.offset = 0;
+			this.lastChunk = lastChunk;
+			this.expectedModCount = expectedModCount;
+		}
+
+		@SuppressWarnings("unchecked")
+		@Override
+		public boolean tryAdvance(Consumer<? super T> action) {
+			while (chunk < lastChunk) {
+				FixedSizeList<T> current = (FixedSizeList<T>) snapshot[chunk];
+				if (offset < current.size()) {
+					action.accept((T) current.items()[offset++]);
+					checkModCount();
+					return true;
+				}
+				chunk++;
+				offset = 0;
+			}
+			return false;
+		}
+
+		@SuppressWarnings("unchecked")
+		@Override
+		public void forEachRemaining(Consumer<? super T> action) {
+			for (; chunk < lastChunk; chunk++) {
+				FixedSizeList<T> current = (FixedSizeList<T>) snapshot[chunk];
+				Object[] items = current.items();
+				for (int i = offset, n = current.size(); i < n; i++) {
+					action.accept((T) items[i]);
+				}
+				offset = 0;
+			}
+			checkModCount();
+		}
+
+		@Override
+		public Spliterator<T> trySplit() {
+			int mid = (chunk + lastChunk) >>> 1;
+			if (mid <= chunk) {
+				return null;
+			}
+			ChunkSpliterator front = new ChunkSpliterator(snapshot, bounds, chunk, mid, expectedModCount);
+			front.offset = offset;
+			chunk = mid;
+			offset = 0;
+			return front;
+		}
+
+		@Override
+		public long estimateSize() {
+			if (chunk >= lastChunk) {
+				return 0;
+			}
+			return bounds[lastChunk] - bounds[chunk] - offset;
+		}
+
+		@Override
+		public int characteristics() {
+			return ORDERED | SIZED | SUBSIZED;
+		}
+
+		private void checkModCount() {
+			if (modCount != expectedModCount) {
+				throw new ConcurrentModificationException();
+			}
+		}
+	}
 }
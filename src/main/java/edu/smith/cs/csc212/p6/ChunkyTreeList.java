@@ -0,0 +1,543 @@
+package edu.smith.cs.csc212.p6;
+
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import edu.smith.cs.csc212.p6.errors.BadIndexError;
+import edu.smith.cs.csc212.p6.errors.EmptyListError;
+
+/**
+ * A {@link ChunkyLinkedList} whose chunks sit in a balanced binary tree instead
+ * of a chain, so finding the chunk for an index never walks more than
+ * O(log n) nodes.
+ *
+ * Each node holds one chunk (a {@link FixedSizeList}) and knows how many items
+ * are in its whole subtree, so getIndex goes left, stays, or goes right by
+ * comparing against the left subtree's count (an "order statistic" tree). The
+ * tree is an AVL tree: after every insert or delete the nodes on the way back
+ * up are rotated until the two sides of each differ in height by at most one,
+ * so it is never more than about 1.44 log2(chunks) deep.
+ * <ul>
+ * <li>getIndex: O(log n).</li>
+ * <li>addIndex: O(log n + chunkSize). A full chunk splits in half, except at
+ * its ends, where the item just starts a new chunk beside it; so adding at the
+ * back fills whole chunks.</li>
+ * <li>removeIndex: O(log n + chunkSize). A chunk that falls below half full is
+ * merged into a neighbor when the two fit in one chunk, and dropped from the
+ * tree once it is empty, so deletes don't leave a trail of nearly-empty
+ * chunks.</li>
+ * </ul>
+ *
+ * @param <T> - the type of item stored in the list.
+ */
+public class ChunkyTreeList<T> implements P6List<T> {
+	private final int chunkSize;
+	private Node<T> root;
+	/**
+	 * Bumped by every add and remove, so iterators can notice.
+	 */
+	private int modCount;
+
+	public ChunkyTreeList(int chunkSize) {
+		if (chunkSize < 1) {
+			throw new IllegalArgumentException("chunkSize must be positive: " + chunkSize);
+		}
+		this.chunkSize = chunkSize;
+	}
+
+	/**
+	 * O(log n + chunkSize).
+	 */
+	@Override
+	public T removeFront() {
+		checkNotEmpty();
+		return removeIndex(0);
+	}
+
+	/**
+	 * O(log n + chunkSize).
+	 */
+	@Override
+	public T removeBack() {
+		checkNotEmpty();
+		return removeIndex(size() - 1);
+	}
+
+	/**
+	 * O(log n + chunkSize)-finds the item, then removes it on a second trip down
+	 * that fixes up counts and balance on the way back. If that leaves its chunk
+	 * under half full, a few more trips merge it with a neighbor.
+	 */
+	@Override
+	public T removeIndex(int index) {
+		checkNotEmpty();
+		T removed = getIndex(index);
+		int start = chunkStart(index);
+		boolean last = nodeAt(index).chunk.size() == 1;
+		root = remove(root, index);
+		if (!last) {
+			mergeAt(start);
+		}
+		modCount++;
+		return removed;
+	}
+
+	/**
+	 * O(log n + chunkSize).
+	 */
+	@Override
+	public void addFront(T item) {
+		addIndex(item, 0);
+	}
+
+	/**
+	 * O(log n).
+	 */
+	@Override
+	public void addBack(T item) {
+		addIndex(item, size());
+	}
+
+	/**
+	 * O(log n + chunkSize).
+	 */
+	@Override
+	public void addIndex(T item, int index) {
+		if (index < 0 || index > size()) {
+			throw new BadIndexError();
+		}
+		root = insert(root, index, item);
+		modCount++;
+	}
+
+	@Override
+	public T getFront() {
+		checkNotEmpty();
+		Node<T> node = root;
+		while (node.left != null) {
+			node = node.left;
+		}
+		return node.chunk.getFront();
+	}
+
+	@Override
+	public T getBack() {
+		checkNotEmpty();
+		Node<T> node = root;
+		while (node.right != null) {
+			node = node.right;
+		}
+		return node.chunk.getBack();
+	}
+
+	/**
+	 * O(log n)-one trip down the tree.
+	 */
+	@Override
+	public T getIndex(int index) {
+		if (index < 0 || index >= size()) {
+			throw new BadIndexError();
+		}
+		Node<T> node = root;
+		while (true) {
+			int left = size(node.left);
+			if (index < left) {
+				node = node.left;
+			} else if (index < left + node.chunk.size()) {
+				return node.chunk.getIndex(index - left);
+			} else {
+				index -= left + node.chunk.size();
+				node = node.right;
+			}
+		}
+	}
+
+	/**
+	 * O(1)-the root counts everything.
+	 */
+	@Override
+	public int size() {
+		return size(root);
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return root == null;
+	}
+
+	/**
+	 * O(1) per item: an in-order walk that reads each chunk's array directly.
+	 * Fails fast if the list changes underneath it.
+	 */
+	@Override
+	public Iterator<T> iterator() {
+		return new Iter();
+	}
+
+	/**
+	 * O(n / chunkSize)-how many chunks are in the tree, for tests.
+	 */
+	int chunkCount() {
+		return chunkCount(root);
+	}
+
+	private static int chunkCount(Node<?> node) {
+		return (node == null) ? 0 : 1 + chunkCount(node.left) + chunkCount(node.right);
+	}
+
+	/**
+	 * @return the node whose chunk holds ``index``.
+	 */
+	private Node<T> nodeAt(int index) {
+		Node<T> node = root;
+		while (true) {
+			int left = size(node.left);
+			if (index < left) {
+				node = node.left;
+			} else if (index < left + node.chunk.size()) {
+				return node;
+			} else {
+				index -= left + node.chunk.size();
+				node = node.right;
+			}
+		}
+	}
+
+	/**
+	 * @return the index of the first item in the chunk that holds ``index``.
+	 */
+	private int chunkStart(int index) {
+		Node<T> node = root;
+		int start = 0;
+		while (true) {
+			int left = size(node.left);
+			if (index < left) {
+				node = node.left;
+			} else if (index < left + node.chunk.size()) {
+				return start + left;
+			} else {
+				index -= left + node.chunk.size();
+				start += left + node.chunk.size();
+				node = node.right;
+			}
+		}
+	}
+
+	/**
+	 * If the chunk starting at ``start`` is under half full, fold it into the
+	 * chunk after it, or else into the one before it, whichever fits first.
+	 */
+	private void mergeAt(int start) {
+		int count = nodeAt(start).chunk.size();
+		if (count * 2 >= chunkSize) {
+			return;
+		}
+		int end = start + count;
+		if (end < size() && count + nodeAt(end).chunk.size() <= chunkSize) {
+			merge(start, end);
+		} else if (start > 0) {
+			int before = nodeAt(start - 1).chunk.size();
+			if (before + count <= chunkSize) {
+				merge(start - before, start);
+			}
+		}
+	}
+
+	/**
+	 * Move every item of the chunk starting at ``second`` onto the end of the
+	 * chunk starting at ``first`` just before it, and drop the emptied node.
+	 */
+	private void merge(int first, int second) {
+		FixedSizeList<T> moved = nodeAt(second).chunk;
+		root = unlinkAt(root, second);
+		root = extend(root, first, moved);
+	}
+
+	/**
+	 * Take the node whose chunk holds ``index`` out of this subtree.
+	 *
+	 * @return the new root of the subtree.
+	 */
+	private static <T> Node<T> unlinkAt(Node<T> node, int index) {
+		int left = size(node.left);
+		int count = node.chunk.size();
+		if (index < left) {
+			node.left = unlinkAt(node.left, index);
+		} else if (index >= left + count) {
+			node.right = unlinkAt(node.right, index - left - count);
+		} else {
+			return unlink(node);
+		}
+		return balance(node);
+	}
+
+	/**
+	 * Add all of ``items`` to the end of the chunk that holds ``index``, and
+	 * recount the nodes above it.
+	 *
+	 * @return the root of the subtree, which doesn't change shape.
+	 */
+	private static <T> Node<T> extend(Node<T> node, int index, FixedSizeList<T> items) {
+		int left = size(node.left);
+		int count = node.chunk.size();
+		if (index < left) {
+			node.left = extend(node.left, index, items);
+		} else if (index >= left + count) {
+			node.right = extend(node.right, index - left - count, items);
+		} else {
+			node.chunk.addBackFrom(items.items(), 0, items.size());
+		}
+		node.update();
+		return node;
+	}
+
+	/**
+	 * Put ``item`` at ``index`` in this subtree.
+	 *
+	 * @return the new root of the subtree.
+	 */
+	private Node<T> insert(Node<T> node, int index, T item) {
+		if (node == null) {
+			return single(item);
+		}
+		int left = size(node.left);
+		int count = node.chunk.size();
+		if (index < left) {
+			node.left = insert(node.left, index, item);
+		} else if (index > left + count) {
+			node.right = insert(node.right, index - left - count, item);
+		} else if (count < chunkSize) {
+			node.chunk.addIndex(item, index - left);
+		} else if (index == left + count) {
+			node.right = insertFirst(node.right, single(item));
+		} else if (index == left) {
+			node.left = insertLast(node.left, single(item));
+		} else {
+			// split: [0, half) stays here, the rest moves to a new node right after.
+			FixedSizeList<T> upper = makeChunk();
+			int half = count / 2;
+			upper.addBackFrom(node.chunk.items(), half, count - half);
+			node.chunk.removeRange(half, count);
+			int local = index - left;
+			if (local <= half) {
+				node.chunk.addIndex(item, local);
+			} else {
+				upper.addIndex(item, local - half);
+			}
+			node.right = insertFirst(node.right, new Node<>(upper));
+		}
+		return balance(node);
+	}
+
+	/**
+	 * Hang ``added`` before everything else in this subtree.
+	 */
+	private static <T> Node<T> insertFirst(Node<T> node, Node<T> added) {
+		if (node == null) {
+			return added;
+		}
+		node.left = insertFirst(node.left, added);
+		return balance(node);
+	}
+
+	/**
+	 * Hang ``added`` after everything else in this subtree.
+	 */
+	private static <T> Node<T> insertLast(Node<T> node, Node<T> added) {
+		if (node == null) {
+			return added;
+		}
+		node.right = insertLast(node.right, added);
+		return balance(node);
+	}
+
+	/**
+	 * Take the item at ``index`` out of this subtree, and its node too if that
+	 * leaves the chunk empty.
+	 *
+	 * @return the new root of the subtree.
+	 */
+	private static <T> Node<T> remove(Node<T> node, int index) {
+		int left = size(node.left);
+		int count = node.chunk.size();
+		if (index < left) {
+			node.left = remove(node.left, index);
+		} else if (index >= left + count) {
+			node.right = remove(node.right, index - left - count);
+		} else {
+			node.chunk.removeIndex(index - left);
+			if (node.chunk.isEmpty()) {
+				return unlink(node);
+			}
+		}
+		return balance(node);
+	}
+
+	/**
+	 * @return what should stand where ``node`` was once it is gone.
+	 */
+	private static <T> Node<T> unlink(Node<T> node) {
+		if (node.left == null) {
+			return node.right;
+		}
+		if (node.right == null) {
+			return node.left;
+		}
+		// the first node on the right takes its place.
+		Node<T> next = node.right;
+		while (next.left != null) {
+			next = next.left;
+		}
+		next.right = removeFirst(node.right);
+		next.left = node.left;
+		return balance(next);
+	}
+
+	/**
+	 * @return this subtree without its first node.
+	 */
+	private static <T> Node<T> removeFirst(Node<T> node) {
+		if (node.left == null) {
+			return node.right;
+		}
+		node.left = removeFirst(node.left);
+		return balance(node);
+	}
+
+	/**
+	 * Recount ``node`` and rotate it if one side got two levels taller than the
+	 * other. Its children must already be balanced.
+	 *
+	 * @return the new root of the subtree.
+	 */
+	private static <T> Node<T> balance(Node<T> node) {
+		int skew = height(node.left) - height(node.right);
+		if (skew > 1) {
+			if (height(node.left.left) < height(node.left.right)) {
+				node.left = rotateLeft(node.left);
+			}
+			return rotateRight(node);
+		}
+		if (skew < -1) {
+			if (height(node.right.right) < height(node.right.left)) {
+				node.right = rotateRight(node.right);
+			}
+			return rotateLeft(node);
+		}
+		node.update();
+		return node;
+	}
+
+	private static <T> Node<T> rotateRight(Node<T> node) {
+		Node<T> up = node.left;
+		node.left = up.right;
+		up.right = node;
+		node.update();
+		up.update();
+		return up;
+	}
+
+	private static <T> Node<T> rotateLeft(Node<T> node) {
+		Node<T> up = node.right;
+		node.right = up.left;
+		up.left = node;
+		node.update();
+		up.update();
+		return up;
+	}
+
+	private static int size(Node<?> node) {
+		return (node == null) ? 0 : node.size;
+	}
+
+	private static int height(Node<?> node) {
+		return (node == null) ? 0 : node.height;
+	}
+
+	private FixedSizeList<T> makeChunk() {
+		return new FixedSizeList<>(chunkSize);
+	}
+
+	private Node<T> single(T item) {
+		FixedSizeList<T> chunk = makeChunk();
+		chunk.addBack(item);
+		return new Node<>(chunk);
+	}
+
+	private void checkNotEmpty() {
+		if (this.isEmpty()) {
+			throw new EmptyListError();
+		}
+	}
+
+	private static final class Node<T> {
+		final FixedSizeList<T> chunk;
+		Node<T> left;
+		Node<T> right;
+		/**
+		 * Levels in this subtree, counting this one.
+		 */
+		int height;
+		/**
+		 * Items in this subtree: left, this chunk, and right.
+		 */
+		int size;
+
+		Node(FixedSizeList<T> chunk) {
+			this.chunk = chunk;
+			update();
+		}
+
+		void update() {
+			height = 1 + Math.max(ChunkyTreeList.height(left), ChunkyTreeList.height(right));
+			size = ChunkyTreeList.size(left) + chunk.size() + ChunkyTreeList.size(right);
+		}
+	}
+
+	/**
+	 * Keeps the nodes whose chunks (and right subtrees) are still to come on a
+	 * stack, so each step is O(1) on average.
+	 */
+	private class Iter implements Iterator<T> {
+		final GrowableList<Node<T>> stack = new GrowableList<>();
+		Node<T> current;
+		int index = 0;
+		final int expectedModCount = modCount;
+
+		Iter() {
+			pushLeft(root);
+		}
+
+		/**
+		 * Push ``node`` and its chain of left children.
+		 */
+		private void pushLeft(Node<T> node) {
+			for (; node != null; node = node.left) {
+				stack.addBack(node);
+			}
+		}
+
+		@Override
+		public boolean hasNext() {
+			return (current != null && index < current.chunk.size()) || !stack.isEmpty();
+		}
+
+		@SuppressWarnings("unchecked")
+		@Override
+		public T next() {
+			if (modCount != expectedModCount) {
+				throw new ConcurrentModificationException();
+			}
+			if (current == null || index >= current.chunk.size()) {
+				if (stack.isEmpty()) {
+					throw new NoSuchElementException();
+				}
+				current = stack.removeBack();
+				pushLeft(current.right);
+				index = 0;
+			}
+			return (T) current.chunk.items()[index++];
+		}
+	}
+}
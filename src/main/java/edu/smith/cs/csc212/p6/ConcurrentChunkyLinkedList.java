@@ -0,0 +1,685 @@
+package edu.smith.cs.csc212.p6;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import edu.smith.cs.csc212.p6.errors.BadIndexError;
+import edu.smith.cs.csc212.p6.errors.EmptyListError;
+
+/**
+ * A {@link ChunkyLinkedList} that many threads can share without wrapping
+ * every call in one big {@code synchronized}.
+ *
+ * Every chunk has its own lock, and the chain of chunks has a read-write lock:
+ * <ul>
+ * <li>The end operations (add, remove and get at the front or back) only touch
+ * the first or last chunk. They take the chain's read lock plus that chunk's
+ * lock, so the front and the back can be worked on at the same time, and
+ * readers of one end never wait for writers at the other.</li>
+ * <li>Adding a chunk at an end (when it is full) or dropping one (when it is
+ * empty) takes the chain's write lock for just that step.</li>
+ * <li>getIndex, addIndex and removeIndex count their way to the right chunk
+ * under the chain's read lock, reading each chunk's size under its lock, then
+ * lock that one chunk and work inside it. So threads working in different
+ * chunks (or reading the same one) don't wait for each other.</li>
+ * <li>Only splitting a full chunk, merging an underfull one into a neighbor,
+ * dropping an empty one, and the bulk operations (which must look atomic) take
+ * the chain's write lock, like ChunkyLinkedList's splits and merges. A
+ * removeIndex checks that its chunk really can be dropped or merged (its
+ * neighbor has room) before it asks for the write lock, so removes that leave
+ * a chunk underfull next to a full one don't line up behind each other.</li>
+ * </ul>
+ * A chain lock is never waited on while a chunk lock is held. Chunk locks are
+ * only ever waited on front to back: a snapshot takes them all that way, and a
+ * removeIndex holding its chunk may wait for the next one. When it needs the
+ * chunk before its own, it only tries that lock.
+ *
+ * That makes indexed operations weaker than a {@code synchronized} list's
+ * (not linearizable): each chunk is counted as it is passed, so if other
+ * threads add or remove k items meanwhile, the operation can land up to k
+ * places away from where ``index`` is at any one moment. It still works on a
+ * real item (or gap, for addIndex), never loses or repeats one, and keeps
+ * size() exact; with no other changes going on, the index is exact. Use insertAll/removeRange, or lock around the calls
+ * yourself, when positions must line up with other threads' changes.
+ *
+ * iterator() and spliterator() walk a snapshot taken with every chunk locked,
+ * so they never throw ConcurrentModificationException or see half of a change.
+ *
+ * @param <T> - the type of item stored in the list.
+ */
+public class ConcurrentChunkyLinkedList<T> implements P6List<T> {
+	/**
+	 * What the chunk searches return when the index is past the last item.
+	 */
+	private static final long NOT_FOUND = -1;
+	private final int chunkSize;
+	/**
+	 * Same as in ChunkyLinkedList: an underfull chunk merges with a neighbor
+	 * below this many items, if they fit together.
+	 */
+	private final int mergeBelow;
+	/**
+	 * The chunks, front to back. Only changed under the write lock; there is
+	 * always at least one chunk. A chunk in the middle may be empty until the
+	 * removeIndex that emptied it gets the write lock to drop it.
+	 */
+	private final GrowableList<Chunk<T>> chunks;
+	private final ReentrantReadWriteLock chain;
+	/**
+	 * Updated by every add and remove, under either lock.
+	 */
+	private final AtomicInteger size;
+	/**
+	 * How many times the write lock has been taken, for tests.
+	 */
+	private final AtomicLong writeLocks;
+
+	public ConcurrentChunkyLinkedList(int chunkSize) {
+		this(chunkSize, ChunkyLinkedList.DEFAULT_MERGE_THRESHOLD);
+	}
+
+	/**
+	 * @param chunkSize      how many items fit in each chunk.
+	 * @param mergeThreshold a fraction of chunkSize, from 0 (never merge) to 1.
+	 */
+	public ConcurrentChunkyLinkedList(int chunkSize, double mergeThreshold) {
+		if (chunkSize < 1) {
+			throw new IllegalArgumentException("chunkSize must be positive: " + chunkSize);
+		}
+		if (mergeThreshold < 0 || mergeThreshold > 1) {
+			throw new IllegalArgumentException("mergeThreshold must be between 0 and 1: " + mergeThreshold);
+		}
+		this.chunkSize = chunkSize;
+		this.mergeBelow = (int) Math.ceil(chunkSize * mergeThreshold);
+		this.chunks = new GrowableList<>();
+		this.chunks.addBack(new Chunk<T>(chunkSize));
+		this.chain = new ReentrantReadWriteLock();
+		this.size = new AtomicInteger();
+		this.writeLocks = new AtomicLong();
+	}
+
+	/**
+	 * O(chunkSize)-shifts the first chunk; only locks the first chunk.
+	 */
+	@Override
+	public T removeFront() {
+		return removeEnd(true);
+	}
+
+	/**
+	 * O(1)-only locks the last chunk.
+	 */
+	@Override
+	public T removeBack() {
+		return removeEnd(false);
+	}
+
+	/**
+	 * O(chunkSize)-shifts the first chunk; only locks the first chunk.
+	 */
+	@Override
+	public void addFront(T item) {
+		addEnd(true, item);
+	}
+
+	/**
+	 * O(1)-only locks the last chunk.
+	 */
+	@Override
+	public void addBack(T item) {
+		addEnd(false, item);
+	}
+
+	@Override
+	public T getFront() {
+		return getEnd(true);
+	}
+
+	@Override
+	public T getBack() {
+		return getEnd(false);
+	}
+
+	/**
+	 * O(chunks + chunkSize), under the read lock and one chunk's lock. Takes the
+	 * write lock afterwards only if the chunk is now empty, or underfull with a
+	 * neighbor it fits into.
+	 */
+	@Override
+	public T removeIndex(int index) {
+		int which;
+		Chunk<T> chunk;
+		T removed;
+		boolean tidy;
+		chain.readLock().lock();
+		try {
+			if (size.get() == 0) {
+				throw new EmptyListError();
+			}
+			long found = lockChunk(index, false);
+			which = which(found);
+			chunk = chunks.getIndex(which);
+			try {
+				removed = chunk.items.removeIndex(local(found));
+				size.decrementAndGet();
+				tidy = canTidy(which, chunk);
+			} finally {
+				chunk.lock.unlock();
+			}
+		} finally {
+			chain.readLock().unlock();
+		}
+		if (tidy) {
+			tidy(which, chunk);
+		}
+		return removed;
+	}
+
+	/**
+	 * O(chunks + chunkSize), under the read lock and one chunk's lock. A full
+	 * chunk has to be split first, which takes the write lock.
+	 */
+	@Override
+	public void addIndex(T item, int index) {
+		chain.readLock().lock();
+		try {
+			if (index < 0 || index > size.get()) {
+				throw new BadIndexError();
+			}
+			long found = lockChunk(index, true);
+			Chunk<T> chunk = chunks.getIndex(which(found));
+			try {
+				if (chunk.items.size() < chunkSize) {
+					chunk.items.addIndex(item, local(found));
+					size.incrementAndGet();
+					return;
+				}
+			} finally {
+				chunk.lock.unlock();
+			}
+		} finally {
+			chain.readLock().unlock();
+		}
+		addIndexSplitting(item, index);
+	}
+
+	/**
+	 * O(chunks + chunkSize), under the write lock: addIndex landed in a full
+	 * chunk, so split it in half first.
+	 */
+	private void addIndexSplitting(T item, int index) {
+		lockChain();
+		try {
+			if (index < 0 || index > size.get()) {
+				throw new BadIndexError();
+			}
+			// nobody else can change anything now, so the lock can go right away.
+			long found = lockChunk(index, true);
+			int which = which(found);
+			int local = local(found);
+			chunks.getIndex(which).lock.unlock();
+			FixedSizeList<T> chunk = chunks.getIndex(which).items;
+			if (chunk.size() == chunkSize) {
+				if (local == chunkSize) {
+					// at the very end of a full chunk: start a new one after it.
+					Chunk<T> next = new Chunk<>(chunkSize);
+					chunks.addIndex(next, which + 1);
+					chunk = next.items;
+					local = 0;
+				} else {
+					int half = chunk.size() / 2;
+					Chunk<T> upper = new Chunk<>(chunkSize);
+					upper.items.addBackFrom(chunk.items(), half, chunk.size() - half);
+					chunk.removeRange(half, chunk.size());
+					chunks.addIndex(upper, which + 1);
+					if (local > half) {
+						chunk = upper.items;
+						local -= half;
+					}
+				}
+			}
+			chunk.addIndex(item, local);
+			size.incrementAndGet();
+			assert countMatchesChunks();
+		} finally {
+			chain.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * O(chunks), under the read lock and one chunk's lock.
+	 */
+	@Override
+	public T getIndex(int index) {
+		chain.readLock().lock();
+		try {
+			long found = lockChunk(index, false);
+			Chunk<T> chunk = chunks.getIndex(which(found));
+			try {
+				return chunk.items.getIndex(local(found));
+			} finally {
+				chunk.lock.unlock();
+			}
+		} finally {
+			chain.readLock().unlock();
+		}
+	}
+
+	/**
+	 * Atomic: no other thread sees half of the items.
+	 */
+	@Override
+	public void insertAll(int index, Iterable<? extends T> items) {
+		lockChain();
+		try {
+			P6List.super.insertAll(index, items);
+		} finally {
+			chain.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * Atomic: no other thread sees half of the range removed.
+	 */
+	@Override
+	public void removeRange(int fromIndex, int toIndex) {
+		lockChain();
+		try {
+			P6List.super.removeRange(fromIndex, toIndex);
+		} finally {
+			chain.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * O(1)-never locks; the answer may be out of date by the time you use it.
+	 */
+	@Override
+	public int size() {
+		return size.get();
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return size.get() == 0;
+	}
+
+	/**
+	 * O(n) to take the snapshot, with every chunk locked; after that, other
+	 * threads can change the list without disturbing the loop.
+	 */
+	@SuppressWarnings("unchecked")
+	@Override
+	public Iterator<T> iterator() {
+		return (Iterator<T>) Arrays.asList(snapshot()).iterator();
+	}
+
+	/**
+	 * Splits the same snapshot by index range, so a parallel stream never sees a
+	 * half-finished change.
+	 */
+	@Override
+	public Spliterator<T> spliterator() {
+		return Spliterators.spliterator(snapshot(), Spliterator.ORDERED | Spliterator.IMMUTABLE);
+	}
+
+	/**
+	 * @return a copy of the items, front to back. Taken under the read lock with
+	 *         every chunk locked (front to back), so no change is half in it.
+	 */
+	private Object[] snapshot() {
+		chain.readLock().lock();
+		int locked = 0;
+		try {
+			int total = 0;
+			for (Chunk<T> chunk : chunks) {
+				chunk.lock.lock();
+				locked++;
+				total += chunk.items.size();
+			}
+			Object[] copy = new Object[total];
+			int at = 0;
+			for (Chunk<T> chunk : chunks) {
+				System.arraycopy(chunk.items.items(), 0, copy, at, chunk.items.size());
+				at += chunk.items.size();
+			}
+			return copy;
+		} finally {
+			for (int i = 0; i < locked; i++) {
+				chunks.getIndex(i).lock.unlock();
+			}
+			chain.readLock().unlock();
+		}
+	}
+
+	private void addEnd(boolean front, T item) {
+		while (true) {
+			chain.readLock().lock();
+			try {
+				Chunk<T> end = front ? chunks.getFront() : chunks.getBack();
+				end.lock.lock();
+				try {
+					if (end.items.size() < chunkSize) {
+						if (front) {
+							end.items.addFront(item);
+						} else {
+							end.items.addBack(item);
+						}
+						size.incrementAndGet();
+						return;
+					}
+				} finally {
+					end.lock.unlock();
+				}
+			} finally {
+				chain.readLock().unlock();
+			}
+			// that end is full: add a chunk there and try again.
+			lockChain();
+			try {
+				if (front && chunks.getFront().items.size() == chunkSize) {
+					chunks.addFront(new Chunk<T>(chunkSize));
+				} else if (!front && chunks.getBack().items.size() == chunkSize) {
+					chunks.addBack(new Chunk<T>(chunkSize));
+				}
+			} finally {
+				chain.writeLock().unlock();
+			}
+		}
+	}
+
+	private T removeEnd(boolean front) {
+		while (true) {
+			chain.readLock().lock();
+			try {
+				Chunk<T> end = front ? chunks.getFront() : chunks.getBack();
+				end.lock.lock();
+				try {
+					if (!end.items.isEmpty()) {
+						size.decrementAndGet();
+						return front ? end.items.removeFront() : end.items.removeBack();
+					}
+					if (chunks.size() == 1) {
+						throw new EmptyListError();
+					}
+				} finally {
+					end.lock.unlock();
+				}
+			} finally {
+				chain.readLock().unlock();
+			}
+			dropEmptyEnd(front);
+		}
+	}
+
+	private T getEnd(boolean front) {
+		while (true) {
+			chain.readLock().lock();
+			try {
+				Chunk<T> end = front ? chunks.getFront() : chunks.getBack();
+				end.lock.lock();
+				try {
+					if (!end.items.isEmpty()) {
+						return front ? end.items.getFront() : end.items.getBack();
+					}
+					if (chunks.size() == 1) {
+						throw new EmptyListError();
+					}
+				} finally {
+					end.lock.unlock();
+				}
+			} finally {
+				chain.readLock().unlock();
+			}
+			dropEmptyEnd(front);
+		}
+	}
+
+	/**
+	 * The chunk at one end is empty but there are others: drop it so the next
+	 * try finds an item.
+	 */
+	private void dropEmptyEnd(boolean front) {
+		lockChain();
+		try {
+			while (chunks.size() > 1) {
+				if (front && chunks.getFront().items.isEmpty()) {
+					chunks.removeFront();
+				} else if (!front && chunks.getBack().items.isEmpty()) {
+					chunks.removeBack();
+				} else {
+					break;
+				}
+			}
+		} finally {
+			chain.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * Count chunk sizes to find the chunk that holds ``index``, and lock it. Must
+	 * hold a chain lock, so the chunks themselves stay put; their sizes may
+	 * still change, so each is read under its lock, and the one we land on is
+	 * checked again once it is locked.
+	 *
+	 * @param index the index to find.
+	 * @param atEnd true if ``index`` may also be just past the last item, as in
+	 *              addIndex.
+	 * @return the chunk's position and where ``index`` is inside it, packed for
+	 *         {@link #which} and {@link #local}; the caller must unlock it.
+	 * @throws BadIndexError if the index is not in the list.
+	 */
+	private long lockChunk(int index, boolean atEnd) {
+		if (index < 0) {
+			throw new BadIndexError();
+		}
+		// counting from the back needs the total, which other threads may be
+		// changing, so only try it once.
+		boolean fromBack = index >= size.get() / 2;
+		while (true) {
+			long found = fromBack ? findFromBack(index) : findFromFront(index, atEnd);
+			fromBack = false;
+			if (found == NOT_FOUND) {
+				throw new BadIndexError();
+			}
+			Chunk<T> chunk = chunks.getIndex(which(found));
+			chunk.lock.lock();
+			int local = local(found);
+			int count = chunk.items.size();
+			if (local >= 0 && (local < count || (atEnd && local == count && which(found) == chunks.size() - 1))) {
+				return found;
+			}
+			// it changed after we counted it: count again.
+			chunk.lock.unlock();
+		}
+	}
+
+	private long findFromFront(int index, boolean atEnd) {
+		int first = 0;
+		int last = chunks.size() - 1;
+		for (int which = 0; which <= last; which++) {
+			int count = sizeOf(chunks.getIndex(which));
+			if (index < first + count || (atEnd && which == last && index == first + count)) {
+				return pack(which, index - first);
+			}
+			first += count;
+		}
+		return NOT_FOUND;
+	}
+
+	private long findFromBack(int index) {
+		int first = size.get();
+		for (int which = chunks.size() - 1; which >= 0; which--) {
+			first -= sizeOf(chunks.getIndex(which));
+			if (index >= first) {
+				return pack(which, index - first);
+			}
+		}
+		return NOT_FOUND;
+	}
+
+	/**
+	 * Take the chain's write lock, and count it.
+	 */
+	private void lockChain() {
+		chain.writeLock().lock();
+		writeLocks.incrementAndGet();
+	}
+
+	/**
+	 * @return how many times the write lock has been taken so far, for tests.
+	 */
+	long writeLockCount() {
+		return writeLocks.get();
+	}
+
+	private static int sizeOf(Chunk<?> chunk) {
+		chunk.lock.lock();
+		try {
+			return chunk.items.size();
+		} finally {
+			chunk.lock.unlock();
+		}
+	}
+
+	private static long pack(int which, int local) {
+		return ((long) which << 32) | (local & 0xFFFFFFFFL);
+	}
+
+	private static int which(long found) {
+		return (int) (found >>> 32);
+	}
+
+	private static int local(long found) {
+		return (int) found;
+	}
+
+	/**
+	 * Would {@link #tidy} do anything to ``chunk``? Must hold the read lock and
+	 * the chunk's lock. Looks at the same neighbor {@link #mergeWithNeighbor}
+	 * would, under that neighbor's lock too.
+	 *
+	 * @return true if it is empty, or underfull and fits into its neighbor.
+	 */
+	private boolean canTidy(int which, Chunk<T> chunk) {
+		int count = chunk.items.size();
+		if (count == 0) {
+			return chunks.size() > 1;
+		}
+		if (count >= mergeBelow) {
+			return false;
+		}
+		if (which + 1 < chunks.size()) {
+			// front to back, like a snapshot, so it's safe to wait.
+			Chunk<T> next = chunks.getIndex(which + 1);
+			next.lock.lock();
+			try {
+				return count + next.items.size() <= chunkSize;
+			} finally {
+				next.lock.unlock();
+			}
+		}
+		if (which > 0) {
+			// back to front could deadlock with a snapshot, so only try; if it's
+			// busy, let tidy look under the write lock.
+			Chunk<T> previous = chunks.getIndex(which - 1);
+			if (!previous.lock.tryLock()) {
+				return true;
+			}
+			try {
+				return previous.items.size() + count <= chunkSize;
+			} finally {
+				previous.lock.unlock();
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * removeIndex left the chunk at ``which`` empty or underfull: under the write
+	 * lock, drop it or merge it with a neighbor, if it is still that way and
+	 * still there.
+	 */
+	private void tidy(int which, Chunk<T> chunk) {
+		lockChain();
+		try {
+			if (which >= chunks.size() || chunks.getIndex(which) != chunk) {
+				// a split or drop before it moved it after we let go of the read
+				// lock; only then look for it again.
+				which = 0;
+				while (which < chunks.size() && chunks.getIndex(which) != chunk) {
+					which++;
+				}
+				if (which == chunks.size()) {
+					// someone else merged it already.
+					return;
+				}
+			}
+			if (chunk.items.isEmpty() && chunks.size() > 1) {
+				chunks.removeIndex(which);
+			} else if (chunk.items.size() < mergeBelow) {
+				mergeWithNeighbor(which);
+			}
+			assert countMatchesChunks();
+		} finally {
+			chain.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * Merge the chunk at ``which`` with the next one (or the previous one, if it
+	 * is last) when the two fit in one chunk. Must hold the write lock.
+	 */
+	private void mergeWithNeighbor(int which) {
+		int into;
+		if (which + 1 < chunks.size()) {
+			into = which;
+		} else if (which > 0) {
+			into = which - 1;
+		} else {
+			return;
+		}
+		FixedSizeList<T> keep = chunks.getIndex(into).items;
+		FixedSizeList<T> drop = chunks.getIndex(into + 1).items;
+		if (keep.size() + drop.size() > chunkSize) {
+			return;
+		}
+		keep.addBackFrom(drop.items(), 0, drop.size());
+		chunks.removeIndex(into + 1);
+	}
+
+	/**
+	 * This is for debugging: run with -ea and every indexed change checks it.
+	 * Must hold the write lock.
+	 *
+	 * @return true if the size field is the sum of the chunk sizes.
+	 */
+	private boolean countMatchesChunks() {
+		int total = 0;
+		for (Chunk<T> chunk : chunks) {
+			total += chunk.items.size();
+		}
+		if (total != size.get()) {
+			throw new AssertionError("size is " + size.get() + " but chunks hold " + total);
+		}
+		return true;
+	}
+
+	/**
+	 * One link in the chain: a FixedSizeList and the lock that guards it.
+	 */
+	private static final class Chunk<T> {
+		final FixedSizeList<T> items;
+		final ReentrantLock lock = new ReentrantLock();
+
+		Chunk(int chunkSize) {
+			this.items = new FixedSizeList<>(chunkSize);
+		}
+	}
+}
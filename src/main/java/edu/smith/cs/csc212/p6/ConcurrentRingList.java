@@ -0,0 +1,368 @@
+package edu.smith.cs.csc212.p6;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import edu.smith.cs.csc212.p6.errors.BadIndexError;
+import edu.smith.cs.csc212.p6.errors.EmptyListError;
+import edu.smith.cs.csc212.p6.errors.RanOutOfSpaceError;
+
+/**
+ * A bounded queue that many producer and consumer threads can share without
+ * locks: addBack at one end, removeFront at the other. It keeps the
+ * {@link FixedSizeList} contract (a fixed capacity, RanOutOfSpaceError when
+ * full, EmptyListError when empty), but removeFront doesn't shift anything.
+ *
+ * The items sit in a ring, and every slot has a sequence number that says
+ * whose turn it is. The slot for position p (p counts up forever) is ready
+ * for a producer when its sequence is p, and ready for a consumer when it is
+ * p+1; the consumer sets it to p+capacity, which is the next producer's
+ * position for that slot. Producers claim a position by CAS on ``tail`` and
+ * consumers by CAS on ``head``, so the only thing two producers (or two
+ * consumers) fight over is one counter, and producers never touch head.
+ * head and tail live on different cache lines so the two sides don't slow
+ * each other down through false sharing.
+ *
+ * getFront, getBack and getIndex read a slot without claiming it: they check
+ * its sequence, read the item, and check the sequence again, and start over
+ * if a consumer took that position in between. Only adding at the front or in
+ * the middle, and removing from the back or the middle, are unsupported.
+ *
+ * For the hot path, {@link #offer} and {@link #poll} report full and empty
+ * with a return value instead of an exception. Nulls can't be stored, since
+ * poll uses null to mean empty.
+ *
+ * @param <T> the type of item inside the queue.
+ */
+public class ConcurrentRingList<T> implements P6List<T> {
+	/**
+	 * 16 longs = 128 bytes: two cache lines, since some CPUs prefetch in pairs.
+	 */
+	private static final int PAD = 16;
+	private static final int HEAD = PAD;
+	private static final int TAIL = 3 * PAD;
+
+	private final int capacity;
+	private final Object[] items;
+	/**
+	 * sequence.get(i) is whose turn it is at slot i; see the class comment.
+	 */
+	private final AtomicLongArray sequence;
+	/**
+	 * Holds the head (next position to consume) and tail (next position to
+	 * produce) counters, with padding around each.
+	 */
+	private final AtomicLongArray counters;
+
+	/**
+	 * @param maximumSize how many items fit; any positive number.
+	 */
+	public ConcurrentRingList(int maximumSize) {
+		if (maximumSize < 1) {
+			throw new IllegalArgumentException("maximumSize must be positive: " + maximumSize);
+		}
+		this.capacity = maximumSize;
+		this.items = new Object[maximumSize];
+		this.sequence = new AtomicLongArray(maximumSize);
+		for (int i = 0; i < maximumSize; i++) {
+			sequence.set(i, i);
+		}
+		this.counters = new AtomicLongArray(4 * PAD);
+	}
+
+	/**
+	 * Add an item at the back if there is room. O(1), lock-free.
+	 *
+	 * @param item the data to add; not null.
+	 * @return false if the queue was full.
+	 */
+	public boolean offer(T item) {
+		if (item == null) {
+			throw new NullPointerException("ConcurrentRingList can't hold null");
+		}
+		long pos = counters.get(TAIL);
+		while (true) {
+			int slot = slot(pos);
+			long turn = sequence.get(slot) - pos;
+			if (turn == 0) {
+				if (counters.compareAndSet(TAIL, pos, pos + 1)) {
+					items[slot] = item;
+					// publishes the item to whichever consumer claims pos.
+					sequence.set(slot, pos + 1);
+					return true;
+				}
+				pos = counters.get(TAIL);
+			} else if (turn < 0) {
+				// the consumer one lap behind hasn't emptied this slot yet.
+				return false;
+			} else {
+				// another producer took pos already.
+				pos = counters.get(TAIL);
+			}
+		}
+	}
+
+	/**
+	 * Take the item at the front, if there is one. O(1), lock-free.
+	 *
+	 * @return the item, or null if the queue was empty.
+	 */
+	@SuppressWarnings("unchecked")
+	public T poll() {
+		long pos = counters.get(HEAD);
+		while (true) {
+			int slot = slot(pos);
+			long turn = sequence.get(slot) - (pos + 1);
+			if (turn == 0) {
+				if (counters.compareAndSet(HEAD, pos, pos + 1)) {
+					T item = (T) items[slot];
+					items[slot] = null;
+					// hands the slot to the producer one lap ahead.
+					sequence.set(slot, pos + capacity);
+					return item;
+				}
+				pos = counters.get(HEAD);
+			} else if (turn < 0) {
+				// nothing has been produced at pos yet.
+				return null;
+			} else {
+				// another consumer took pos already.
+				pos = counters.get(HEAD);
+			}
+		}
+	}
+
+	/**
+	 * O(1), lock-free.
+	 *
+	 * @throws RanOutOfSpaceError if the queue is full.
+	 */
+	@Override
+	public void addBack(T item) {
+		if (!offer(item)) {
+			throw new RanOutOfSpaceError();
+		}
+	}
+
+	/**
+	 * O(1), lock-free.
+	 *
+	 * @throws EmptyListError if the queue is empty.
+	 */
+	@Override
+	public T removeFront() {
+		T item = poll();
+		if (item == null) {
+			throw new EmptyListError();
+		}
+		return item;
+	}
+
+	/**
+	 * The item that the next removeFront would return, if nobody else takes it
+	 * first.
+	 *
+	 * @throws EmptyListError if the queue is empty.
+	 */
+	@SuppressWarnings("unchecked")
+	@Override
+	public T getFront() {
+		while (true) {
+			long pos = counters.get(HEAD);
+			int slot = slot(pos);
+			if (sequence.get(slot) != pos + 1) {
+				if (pos == counters.get(HEAD)) {
+					throw new EmptyListError();
+				}
+				continue;
+			}
+			T item = (T) items[slot];
+			// only trust it if nobody consumed pos while we were reading.
+			if (item != null && sequence.get(slot) == pos + 1) {
+				return item;
+			}
+		}
+	}
+
+	/**
+	 * A moment's count: items other threads are adding or removing right now may
+	 * or may not be included.
+	 */
+	@Override
+	public int size() {
+		while (true) {
+			long head = counters.get(HEAD);
+			long tail = counters.get(TAIL);
+			if (head == counters.get(HEAD)) {
+				return (int) Math.max(0, Math.min(capacity, tail - head));
+			}
+		}
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return size() == 0;
+	}
+
+	/**
+	 * @return how many items fit.
+	 */
+	public int capacity() {
+		return capacity;
+	}
+
+	/**
+	 * Walks a copy of the items that were ready to consume when it was made; a
+	 * monitoring view, not something to consume with.
+	 */
+	@Override
+	public Iterator<T> iterator() {
+		return snapshot().iterator();
+	}
+
+	/**
+	 * Like iterator(), and its size is exactly the size of the copy it walks.
+	 */
+	@Override
+	public Spliterator<T> spliterator() {
+		return snapshot().spliterator();
+	}
+
+	@SuppressWarnings("unchecked")
+	private List<T> snapshot() {
+		List<T> copy = new ArrayList<>();
+		long head = counters.get(HEAD);
+		long tail = counters.get(TAIL);
+		for (long pos = head; pos < tail; pos++) {
+			int slot = slot(pos);
+			// the volatile read of the sequence comes first, so the item read after
+			// it is the one published for pos (or a later one, which the recheck
+			// catches).
+			if (sequence.get(slot) != pos + 1) {
+				break;
+			}
+			Object item = items[slot];
+			if (item == null || sequence.get(slot) != pos + 1) {
+				break;
+			}
+			copy.add((T) item);
+		}
+		return copy;
+	}
+
+	/**
+	 * @throws UnsupportedOperationException always; a queue only removes from
+	 *                                       the front.
+	 */
+	@Override
+	public T removeBack() {
+		throw new UnsupportedOperationException("ConcurrentRingList only removes from the front");
+	}
+
+	/**
+	 * @throws UnsupportedOperationException always; a queue only removes from
+	 *                                       the front.
+	 */
+	@Override
+	public T removeIndex(int index) {
+		throw new UnsupportedOperationException("ConcurrentRingList only removes from the front");
+	}
+
+	/**
+	 * @throws UnsupportedOperationException always; a queue only adds at the
+	 *                                       back.
+	 */
+	@Override
+	public void addFront(T item) {
+		throw new UnsupportedOperationException("ConcurrentRingList only adds to the back");
+	}
+
+	/**
+	 * @throws UnsupportedOperationException always; a queue only adds at the
+	 *                                       back.
+	 */
+	@Override
+	public void addIndex(T item, int index) {
+		throw new UnsupportedOperationException("ConcurrentRingList only adds to the back");
+	}
+
+	/**
+	 * The item that was added last, as of one moment. O(1), lock-free, except
+	 * that it waits for a producer that has claimed the back but not finished
+	 * writing to it.
+	 *
+	 * @throws EmptyListError if the queue is empty.
+	 */
+	@Override
+	public T getBack() {
+		while (true) {
+			long head = counters.get(HEAD);
+			long tail = counters.get(TAIL);
+			if (head != counters.get(HEAD)) {
+				continue;
+			}
+			if (tail <= head) {
+				throw new EmptyListError();
+			}
+			T item = readAt(tail - 1);
+			if (item != null) {
+				return item;
+			}
+		}
+	}
+
+	/**
+	 * The item ``index`` places behind the front, as of one moment. O(1),
+	 * lock-free, except that it waits for a producer that has claimed that
+	 * position but not finished writing to it.
+	 *
+	 * @throws BadIndexError if the index is not in the queue.
+	 */
+	@Override
+	public T getIndex(int index) {
+		if (index < 0) {
+			throw new BadIndexError();
+		}
+		while (true) {
+			long head = counters.get(HEAD);
+			long tail = counters.get(TAIL);
+			if (head != counters.get(HEAD)) {
+				continue;
+			}
+			if (index >= tail - head) {
+				throw new BadIndexError();
+			}
+			T item = readAt(head + index);
+			if (item != null) {
+				return item;
+			}
+		}
+	}
+
+	/**
+	 * Read position ``pos`` the way getFront does: sequence, then item, then
+	 * sequence again.
+	 *
+	 * @return the item published at pos, or null if it isn't written yet or was
+	 *         consumed meanwhile.
+	 */
+	@SuppressWarnings("unchecked")
+	private T readAt(long pos) {
+		int slot = slot(pos);
+		if (sequence.get(slot) != pos + 1) {
+			return null;
+		}
+		T item = (T) items[slot];
+		if (item != null && sequence.get(slot) == pos + 1) {
+			return item;
+		}
+		return null;
+	}
+
+	private int slot(long pos) {
+		return (int) (pos % capacity);
+	}
+}
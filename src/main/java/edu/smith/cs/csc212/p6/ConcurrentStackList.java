@@ -0,0 +1,252 @@
+package edu.smith.cs.csc212.p6;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+
+import edu.smith.cs.csc212.p6.errors.BadIndexError;
+import edu.smith.cs.csc212.p6.errors.EmptyListError;
+
+/**
+ * A {@link SinglyLinkedList} cut down to a stack that any number of threads
+ * can push and pop without locks (a "Treiber stack").
+ *
+ * This is a stack-shaped P6List: it only adds and removes at the front.
+ * addBack, addIndex, removeBack and removeIndex always throw
+ * UnsupportedOperationException, and so do addAll, insertAll and removeRange
+ * (built on them) whenever they have anything to do. Every read works: getFront, getBack,
+ * getIndex, size, iteration and streams.
+ *
+ * addFront, removeFront and getFront all work on ``start``, which is swapped
+ * with a single compare-and-set: build the change off to the side, then CAS
+ * start from the node we read to the new one; if another thread got there
+ * first, read start again and retry. Nodes are never reused or changed after
+ * they are pushed, so a CAS that succeeds really did see the same stack (no
+ * ABA problem: the garbage collector won't hand out a node's memory again
+ * while we still hold a reference to it).
+ *
+ * Under heavy contention a failed CAS backs off for a random, growing (but
+ * capped) time before retrying, so threads stop fighting over the same cache
+ * line.
+ *
+ * The read-only methods walk whatever stack they see when they start.
+ *
+ * @param <T> the type of item inside the stack.
+ */
+public class ConcurrentStackList<T> implements P6List<T> {
+	/**
+	 * Retries that just yield the CPU before we start parking.
+	 */
+	private static final int YIELD_RETRIES = 4;
+	/**
+	 * The longest a thread ever sleeps between two tries.
+	 */
+	private static final long MAX_BACKOFF_NANOS = 1 << 16;
+
+	/**
+	 * The top of the stack, or null if it is empty.
+	 */
+	private final AtomicReference<Node<T>> start = new AtomicReference<>();
+
+	/**
+	 * Push. O(1), lock-free.
+	 */
+	@Override
+	public void addFront(T item) {
+		for (int failures = 0;; failures++) {
+			Node<T> top = start.get();
+			if (start.compareAndSet(top, new Node<T>(item, top))) {
+				return;
+			}
+			backoff(failures);
+		}
+	}
+
+	/**
+	 * Pop. O(1), lock-free.
+	 *
+	 * @throws EmptyListError if the stack is empty.
+	 */
+	@Override
+	public T removeFront() {
+		for (int failures = 0;; failures++) {
+			Node<T> top = start.get();
+			if (top == null) {
+				throw new EmptyListError();
+			}
+			if (start.compareAndSet(top, top.next)) {
+				return top.value;
+			}
+			backoff(failures);
+		}
+	}
+
+	/**
+	 * Peek. O(1).
+	 *
+	 * @throws EmptyListError if the stack is empty.
+	 */
+	@Override
+	public T getFront() {
+		Node<T> top = start.get();
+		if (top == null) {
+			throw new EmptyListError();
+		}
+		return top.value;
+	}
+
+	/**
+	 * O(n)-walks down from the top.
+	 */
+	@Override
+	public T getBack() {
+		Node<T> current = start.get();
+		if (current == null) {
+			throw new EmptyListError();
+		}
+		while (current.next != null) {
+			current = current.next;
+		}
+		return current.value;
+	}
+
+	/**
+	 * O(index)-walks down from the top.
+	 */
+	@Override
+	public T getIndex(int index) {
+		Node<T> current = start.get();
+		if (index < 0 || current == null || index >= current.size) {
+			throw new BadIndexError();
+		}
+		for (int i = 0; i < index; i++) {
+			current = current.next;
+		}
+		return current.value;
+	}
+
+	/**
+	 * O(1)-every node remembers how tall the stack was when it was pushed.
+	 */
+	@Override
+	public int size() {
+		Node<T> top = start.get();
+		return (top == null) ? 0 : top.size;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return start.get() == null;
+	}
+
+	/**
+	 * @throws UnsupportedOperationException always; only the front is lock-free.
+	 */
+	@Override
+	public T removeBack() {
+		throw new UnsupportedOperationException("ConcurrentStackList only removes from the front");
+	}
+
+	/**
+	 * @throws UnsupportedOperationException always; only the front is lock-free.
+	 */
+	@Override
+	public T removeIndex(int index) {
+		throw new UnsupportedOperationException("ConcurrentStackList only removes from the front");
+	}
+
+	/**
+	 * @throws UnsupportedOperationException always; only the front is lock-free.
+	 */
+	@Override
+	public void addBack(T item) {
+		throw new UnsupportedOperationException("ConcurrentStackList only adds to the front");
+	}
+
+	/**
+	 * @throws UnsupportedOperationException always; only the front is lock-free.
+	 */
+	@Override
+	public void addIndex(T item, int index) {
+		throw new UnsupportedOperationException("ConcurrentStackList only adds to the front");
+	}
+
+	/**
+	 * Walks the stack as it was when this was called; pushes and pops after that
+	 * don't affect it, and it never throws ConcurrentModificationException.
+	 */
+	@Override
+	public Iterator<T> iterator() {
+		return new Iter<>(start.get());
+	}
+
+	/**
+	 * Like iterator(), and its size is exactly the size of the stack it walks.
+	 */
+	@Override
+	public Spliterator<T> spliterator() {
+		Node<T> top = start.get();
+		int count = (top == null) ? 0 : top.size;
+		return Spliterators.spliterator(new Iter<>(top), count, Spliterator.ORDERED | Spliterator.IMMUTABLE);
+	}
+
+	/**
+	 * Someone else won the CAS: wait a little before trying again. The first few
+	 * times we just yield; after that we sleep for a random time whose upper
+	 * bound doubles each time, up to {@link #MAX_BACKOFF_NANOS}.
+	 */
+	private static void backoff(int failures) {
+		if (failures < YIELD_RETRIES) {
+			Thread.yield();
+			return;
+		}
+		long limit = Math.min(MAX_BACKOFF_NANOS, 1L << Math.min(failures, 30));
+		LockSupport.parkNanos(1 + ThreadLocalRandom.current().nextLong(limit));
+	}
+
+	private static final class Iter<T> implements Iterator<T> {
+		Node<T> current;
+
+		Iter(Node<T> top) {
+			this.current = top;
+		}
+
+		@Override
+		public boolean hasNext() {
+			return current != null;
+		}
+
+		@Override
+		public T next() {
+			if (current == null) {
+				throw new NoSuchElementException();
+			}
+			T found = current.value;
+			current = current.next;
+			return found;
+		}
+	}
+
+	/**
+	 * The same shape as SinglyLinkedList's Node, but nothing in it ever changes
+	 * once it is made, which is what makes the CAS safe.
+	 */
+	private static final class Node<T> {
+		final T value;
+		final Node<T> next;
+		/**
+		 * How many nodes are in the stack from here down.
+		 */
+		final int size;
+
+		Node(T value, Node<T> next) {
+			this.value = value;
+			this.next = next;
+			this.size = (next == null) ? 1 : next.size + 1;
+		}
+	}
+}
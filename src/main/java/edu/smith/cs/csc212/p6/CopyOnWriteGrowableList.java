@@ -0,0 +1,319 @@
+package edu.smith.cs.csc212.p6;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.locks.ReentrantLock;
+
+import edu.smith.cs.csc212.p6.errors.BadIndexError;
+import edu.smith.cs.csc212.p6.errors.EmptyListError;
+
+/**
+ * A {@link GrowableList} for data that is read all the time by many threads
+ * and changed rarely.
+ *
+ * The items live in an array that is never changed once other threads can see
+ * it. Every add or remove copies the array (exactly full; there is no spare
+ * room to grow into), changes the copy, and publishes it with one write to the
+ * volatile ``array`` field. Readers never lock: they read that field once and
+ * use the array they got, which is always a complete list. Writers take a lock
+ * so that two of them can't both copy the same array and lose one change.
+ *
+ * So reads are as cheap as in GrowableList, and every write is O(n). Use
+ * {@link #addAll}, {@link #insertAll} and {@link #removeRange} to make many
+ * changes for the price of one copy.
+ *
+ * iterator() and spliterator() walk the array as it was when they were made;
+ * they never throw ConcurrentModificationException and never see later
+ * changes.
+ *
+ * @param <T> the type of item inside the list.
+ */
+public class CopyOnWriteGrowableList<T> implements P6List<T> {
+	private static final Object[] EMPTY = new Object[0];
+
+	/**
+	 * The current items, exactly size() long. Never written to after it is
+	 * stored here.
+	 */
+	private volatile Object[] array = EMPTY;
+	/**
+	 * Held by writers while they copy and publish.
+	 */
+	private final ReentrantLock writing = new ReentrantLock();
+
+	/**
+	 * O(n)-copies the array.
+	 */
+	@Override
+	public T removeFront() {
+		return removeIndex(0);
+	}
+
+	/**
+	 * O(n)-copies the array.
+	 */
+	@Override
+	public T removeBack() {
+		writing.lock();
+		try {
+			Object[] old = array;
+			checkNotEmpty(old);
+			return removeAt(old, old.length - 1);
+		} finally {
+			writing.unlock();
+		}
+	}
+
+	/**
+	 * O(n)-copies the array.
+	 */
+	@Override
+	public T removeIndex(int index) {
+		writing.lock();
+		try {
+			Object[] old = array;
+			checkNotEmpty(old);
+			if (index < 0 || index >= old.length) {
+				throw new BadIndexError();
+			}
+			return removeAt(old, index);
+		} finally {
+			writing.unlock();
+		}
+	}
+
+	/**
+	 * O(n)-copies the array.
+	 */
+	@Override
+	public void addFront(T item) {
+		addIndex(item, 0);
+	}
+
+	/**
+	 * O(n)-copies the array.
+	 */
+	@Override
+	public void addBack(T item) {
+		writing.lock();
+		try {
+			Object[] old = array;
+			Object[] copy = new Object[old.length + 1];
+			System.arraycopy(old, 0, copy, 0, old.length);
+			copy[old.length] = item;
+			array = copy;
+		} finally {
+			writing.unlock();
+		}
+	}
+
+	/**
+	 * O(n)-copies the array.
+	 */
+	@Override
+	public void addIndex(T item, int index) {
+		writing.lock();
+		try {
+			Object[] old = array;
+			if (index < 0 || index > old.length) {
+				throw new BadIndexError();
+			}
+			Object[] copy = new Object[old.length + 1];
+			System.arraycopy(old, 0, copy, 0, index);
+			copy[index] = item;
+			System.arraycopy(old, index, copy, index + 1, old.length - index);
+			array = copy;
+		} finally {
+			writing.unlock();
+		}
+	}
+
+	/**
+	 * O(n + items)-one copy for all of them, and readers see all or none.
+	 */
+	@Override
+	public void addAll(Iterable<? extends T> items) {
+		Object[] added = toArray(items);
+		writing.lock();
+		try {
+			insertAt(array.length, added);
+		} finally {
+			writing.unlock();
+		}
+	}
+
+	/**
+	 * O(n + items)-one copy for all of them, and readers see all or none.
+	 */
+	@Override
+	public void insertAll(int index, Iterable<? extends T> items) {
+		Object[] added = toArray(items);
+		writing.lock();
+		try {
+			if (index < 0 || index > array.length) {
+				throw new BadIndexError();
+			}
+			insertAt(index, added);
+		} finally {
+			writing.unlock();
+		}
+	}
+
+	/**
+	 * O(n)-one copy, and readers see all of the range gone or none of it.
+	 */
+	@Override
+	public void removeRange(int fromIndex, int toIndex) {
+		writing.lock();
+		try {
+			BulkItems.checkRange(this, fromIndex, toIndex);
+			Object[] old = array;
+			int removed = toIndex - fromIndex;
+			if (removed == 0) {
+				return;
+			}
+			Object[] copy = new Object[old.length - removed];
+			System.arraycopy(old, 0, copy, 0, fromIndex);
+			System.arraycopy(old, toIndex, copy, fromIndex, old.length - toIndex);
+			array = copy;
+		} finally {
+			writing.unlock();
+		}
+	}
+
+	/**
+	 * O(1), no lock.
+	 */
+	@SuppressWarnings("unchecked")
+	@Override
+	public T getFront() {
+		Object[] items = array;
+		checkNotEmpty(items);
+		return (T) items[0];
+	}
+
+	/**
+	 * O(1), no lock.
+	 */
+	@SuppressWarnings("unchecked")
+	@Override
+	public T getBack() {
+		Object[] items = array;
+		checkNotEmpty(items);
+		return (T) items[items.length - 1];
+	}
+
+	/**
+	 * O(1), no lock.
+	 */
+	@SuppressWarnings("unchecked")
+	@Override
+	public T getIndex(int index) {
+		Object[] items = array;
+		if (index < 0 || index >= items.length) {
+			throw new BadIndexError();
+		}
+		return (T) items[index];
+	}
+
+	@Override
+	public int size() {
+		return array.length;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return array.length == 0;
+	}
+
+	/**
+	 * Walks the list as it was right now, no matter what happens to it later.
+	 */
+	@Override
+	public Iterator<T> iterator() {
+		return new Snapshot<>(array);
+	}
+
+	/**
+	 * Like iterator(): splits the array as it was right now by index range.
+	 */
+	@Override
+	public Spliterator<T> spliterator() {
+		return Spliterators.spliterator(array, Spliterator.ORDERED | Spliterator.IMMUTABLE);
+	}
+
+	/**
+	 * Publish a copy of ``old`` without the item at ``index``. Call with the lock
+	 * held.
+	 */
+	@SuppressWarnings("unchecked")
+	private T removeAt(Object[] old, int index) {
+		Object[] copy = new Object[old.length - 1];
+		System.arraycopy(old, 0, copy, 0, index);
+		System.arraycopy(old, index + 1, copy, index, old.length - index - 1);
+		array = copy;
+		return (T) old[index];
+	}
+
+	/**
+	 * Publish a copy of the list with ``added`` before ``index``. Call with the
+	 * lock held.
+	 */
+	private void insertAt(int index, Object[] added) {
+		if (added.length == 0) {
+			return;
+		}
+		Object[] old = array;
+		Object[] copy = new Object[old.length + added.length];
+		System.arraycopy(old, 0, copy, 0, index);
+		System.arraycopy(added, 0, copy, index, added.length);
+		System.arraycopy(old, index, copy, index + added.length, old.length - index);
+		array = copy;
+	}
+
+	/**
+	 * BulkItems.toArray, except another CopyOnWriteGrowableList (or this one)
+	 * hands over its current array: it never changes, and reading the size and
+	 * then the items separately could see two different lists.
+	 */
+	private static Object[] toArray(Iterable<?> items) {
+		if (items instanceof CopyOnWriteGrowableList) {
+			return ((CopyOnWriteGrowableList<?>) items).array;
+		}
+		return BulkItems.toArray(items);
+	}
+
+	/**
+	 * Helper method to throw the right error for an empty state.
+	 */
+	private static void checkNotEmpty(Object[] items) {
+		if (items.length == 0) {
+			throw new EmptyListError();
+		}
+	}
+
+	private static final class Snapshot<T> implements Iterator<T> {
+		private final Object[] items;
+		private int index;
+
+		Snapshot(Object[] items) {
+			this.items = items;
+		}
+
+		@Override
+		public boolean hasNext() {
+			return index < items.length;
+		}
+
+		@SuppressWarnings("unchecked")
+		@Override
+		public T next() {
+			if (index >= items.length) {
+				throw new NoSuchElementException();
+			}
+			return (T) items[index++];
+		}
+	}
+}
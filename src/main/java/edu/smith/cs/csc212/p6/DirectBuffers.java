@@ -0,0 +1,48 @@
+package edu.smith.cs.csc212.p6;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+
+/**
+ * Helper for the lists that keep their items outside the heap
+ * ({@link OffHeapFixedSizeList}, {@link MappedGrowableList}).
+ */
+final class DirectBuffers {
+	private DirectBuffers() {
+	}
+
+	/**
+	 * Release a direct or memory-mapped buffer right now, without waiting for the
+	 * garbage collector. There is no public API for this before Java 14, so this
+	 * uses {@code sun.misc.Unsafe.invokeCleaner} (Java 9+) or the buffer's own
+	 * cleaner (Java 8). If neither is available, the memory is released when the
+	 * buffer is collected, same as any direct buffer.
+	 * 
+	 * The buffer must not be used afterward.
+	 * 
+	 * @param direct a buffer from allocateDirect or FileChannel.map.
+	 */
+	static void free(ByteBuffer direct) {
+		try {
+			Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+			Method invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+			Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+			theUnsafe.setAccessible(true);
+			invokeCleaner.invoke(theUnsafe.get(null), direct);
+			return;
+		} catch (ReflectiveOperationException | RuntimeException java8) {
+			// fall through to the Java 8 way.
+		}
+		try {
+			Method cleanerMethod = direct.getClass().getMethod("cleaner");
+			cleanerMethod.setAccessible(true);
+			Object cleaner = cleanerMethod.invoke(direct);
+			if (cleaner != null) {
+				cleaner.getClass().getMethod("clean").invoke(cleaner);
+			}
+		} catch (ReflectiveOperationException | RuntimeException gcWillDoIt) {
+			// leave it to the garbage collector.
+		}
+	}
+}
@@ -0,0 +1,472 @@
+package edu.smith.cs.csc212.p6;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.function.DoubleConsumer;
+import java.util.stream.DoubleStream;
+import java.util.stream.StreamSupport;
+
+import edu.smith.cs.csc212.p6.errors.BadIndexError;
+import edu.smith.cs.csc212.p6.errors.EmptyListError;
+
+/**
+ * A {@link ChunkyLinkedList} whose chunks are {@link DoubleFixedSizeList}s, so the
+ * values sit in double[] arrays with no boxing. Works the same way: a chunk
+ * directory for O(log chunks) getIndex, full middle chunks split in half, and
+ * underfull chunks merge with a neighbor.
+ * 
+ * The P6List methods still work (they box and unbox), but the Double methods such
+ * as {@link #getDouble(int)} and {@link #addBackDouble(double)} only allocate when a new
+ * chunk is needed.
+ */
+public class DoubleChunkyLinkedList implements P6List<Double> {
+	private int chunkSize;
+	private int mergeBelow;
+	private SinglyLinkedList<DoubleFixedSizeList> chunks;
+	private int size;
+	/**
+	 * Bumped by every add and remove, so iterators can notice.
+	 */
+	private int modCount;
+	/**
+	 * Same as in ChunkyLinkedList: directory[i] is the i-th chunk and starts[i]
+	 * the index of its first item, rebuilt lazily after anything but a back
+	 * operation.
+	 */
+	private DoubleFixedSizeList[] directory;
+	private int[] starts;
+	private int numChunks;
+	private boolean directoryValid;
+
+	public DoubleChunkyLinkedList(int chunkSize) {
+		this(chunkSize, ChunkyLinkedList.DEFAULT_MERGE_THRESHOLD);
+	}
+
+	/**
+	 * @param chunkSize      how many items fit in each chunk.
+	 * @param mergeThreshold a fraction of chunkSize, from 0 (never merge) to 1.
+	 */
+	public DoubleChunkyLinkedList(int chunkSize, double mergeThreshold) {
+		if (chunkSize < 1) {
+			throw new IllegalArgumentException("chunkSize must be positive: " + chunkSize);
+		}
+		if (mergeThreshold < 0 || mergeThreshold > 1) {
+			throw new IllegalArgumentException("mergeThreshold must be between 0 and 1: " + mergeThreshold);
+		}
+		this.chunkSize = chunkSize;
+		this.mergeBelow = (int) Math.ceil(chunkSize * mergeThreshold);
+		this.chunks = new SinglyLinkedList<>();
+		this.size = 0;
+		this.directory = new DoubleFixedSizeList[4];
+		this.starts = new int[4];
+		this.numChunks = 0;
+		this.directoryValid = true;
+	}
+
+	public double removeFrontDouble() {
+		checkNotEmpty();
+		DoubleFixedSizeList chunk = chunks.getFront();
+		double ret = chunk.removeFrontDouble();
+		if (chunk.isEmpty()) {
+			chunks.removeFront();
+		}
+		modCount++;
+		size--;
+		directoryValid = false;
+		return ret;
+	}
+
+	public double removeBackDouble() {
+		checkNotEmpty();
+		DoubleFixedSizeList chunk = chunks.getBack();
+		double ret = chunk.removeBackDouble();
+		if (chunk.isEmpty()) {
+			chunks.removeBack();
+			if (directoryValid) {
+				numChunks--;
+				directory[numChunks] = null;
+			}
+		}
+		modCount++;
+		size--;
+		return ret;
+	}
+
+	public double removeIndexDouble(int index) {
+		checkNotEmpty();
+		if (index < 0 || index >= size) {
+			throw new BadIndexError();
+		}
+		if (index == 0) {
+			return removeFrontDouble();
+		}
+		if (index == size - 1) {
+			return removeBackDouble();
+		}
+		int which = findChunk(index);
+		DoubleFixedSizeList chunk = directory[which];
+		double ret = chunk.removeIndexDouble(index - starts[which]);
+		if (chunk.isEmpty()) {
+			chunks.removeIndex(which);
+		} else if (chunk.size() < mergeBelow) {
+			mergeWithNeighbor(which);
+		}
+		modCount++;
+		size--;
+		directoryValid = false;
+		return ret;
+	}
+
+	public void addFrontDouble(double item) {
+		if (chunks.isEmpty() || chunks.getFront().size() == chunkSize) {
+			chunks.addFront(new DoubleFixedSizeList(chunkSize));
+		}
+		chunks.getFront().addFrontDouble(item);
+		modCount++;
+		size++;
+		directoryValid = false;
+	}
+
+	public void addBackDouble(double item) {
+		DoubleFixedSizeList back;
+		if (chunks.isEmpty() || chunks.getBack().size() == chunkSize) {
+			back = new DoubleFixedSizeList(chunkSize);
+			if (directoryValid) {
+				appendToDirectory(back, size);
+			}
+			chunks.addBack(back);
+		} else {
+			back = chunks.getBack();
+		}
+		back.addBackDouble(item);
+		modCount++;
+		size++;
+	}
+
+	public void addIndexDouble(double item, int index) {
+		if (index < 0 || index > size) {
+			throw new BadIndexError();
+		}
+		if (index == 0) {
+			addFrontDouble(item);
+			return;
+		}
+		if (index == size) {
+			addBackDouble(item);
+			return;
+		}
+		int which = findChunk(index);
+		DoubleFixedSizeList chunk = directory[which];
+		int local = index - starts[which];
+		if (chunk.size() == chunkSize) {
+			// split the full chunk in half and insert into the right half.
+			DoubleFixedSizeList upper = new DoubleFixedSizeList(chunkSize);
+			chunk.moveTailTo(chunk.size() / 2, upper);
+			chunks.addIndex(upper, which + 1);
+			if (local > chunk.size()) {
+				upper.addIndexDouble(item, local - chunk.size());
+			} else {
+				chunk.addIndexDouble(item, local);
+			}
+		} else {
+			chunk.addIndexDouble(item, local);
+		}
+		modCount++;
+		size++;
+		directoryValid = false;
+	}
+
+	/**
+	 * O(log chunks) to binary search the directory, then O(1) inside the chunk.
+	 */
+	public double getDouble(int index) {
+		checkNotEmpty();
+		if (index < 0) {
+			throw new BadIndexError();
+		}
+		int which = findChunk(index);
+		return directory[which].getDouble(index - starts[which]);
+	}
+
+	public double getFrontDouble() {
+		checkNotEmpty();
+		return chunks.getFront().getFrontDouble();
+	}
+
+	public double getBackDouble() {
+		checkNotEmpty();
+		return chunks.getBack().getBackDouble();
+	}
+
+	private int findChunk(int index) {
+		if (!directoryValid) {
+			rebuildDirectory();
+		}
+		int lo = 0;
+		int hi = numChunks - 1;
+		while (lo < hi) {
+			int mid = (lo + hi + 1) >>> 1;
+			if (starts[mid] <= index) {
+				lo = mid;
+			} else {
+				hi = mid - 1;
+			}
+		}
+		if (index >= starts[lo] + directory[lo].size()) {
+			throw new BadIndexError();
+		}
+		return lo;
+	}
+
+	private void appendToDirectory(DoubleFixedSizeList chunk, int start) {
+		if (numChunks == directory.length) {
+			directory = Arrays.copyOf(directory, numChunks * 2);
+			starts = Arrays.copyOf(starts, numChunks * 2);
+		}
+		directory[numChunks] = chunk;
+		starts[numChunks] = start;
+		numChunks++;
+	}
+
+	private void rebuildDirectory() {
+		Arrays.fill(directory, 0, numChunks, null);
+		numChunks = 0;
+		int start = 0;
+		for (DoubleFixedSizeList chunk : chunks) {
+			appendToDirectory(chunk, start);
+			start += chunk.size();
+		}
+		directoryValid = true;
+	}
+
+	private void mergeWithNeighbor(int which) {
+		int into;
+		if (which + 1 < numChunks) {
+			into = which;
+		} else if (which > 0) {
+			into = which - 1;
+		} else {
+			return;
+		}
+		DoubleFixedSizeList keep = directory[into];
+		DoubleFixedSizeList drop = directory[into + 1];
+		if (keep.size() + drop.size() > chunkSize) {
+			return;
+		}
+		drop.moveTailTo(0, keep);
+		chunks.removeIndex(into + 1);
+	}
+
+	@Override
+	public Double removeFront() {
+		return removeFrontDouble();
+	}
+
+	@Override
+	public Double removeBack() {
+		return removeBackDouble();
+	}
+
+	@Override
+	public Double removeIndex(int index) {
+		return removeIndexDouble(index);
+	}
+
+	@Override
+	public void addFront(Double item) {
+		addFrontDouble(item);
+	}
+
+	@Override
+	public void addBack(Double item) {
+		addBackDouble(item);
+	}
+
+	@Override
+	public void addIndex(Double item, int index) {
+		addIndexDouble(item, index);
+	}
+
+	@Override
+	public Double getFront() {
+		return getFrontDouble();
+	}
+
+	@Override
+	public Double getBack() {
+		return getBackDouble();
+	}
+
+	@Override
+	public Double getIndex(int index) {
+		return getDouble(index);
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	private void checkNotEmpty() {
+		if (this.isEmpty()) {
+			throw new EmptyListError();
+		}
+	}
+
+	/**
+	 * O(1) per item: walks the chunk chain once and reads each chunk's double[]
+	 * directly. Fails fast if the list changes underneath it.
+	 */
+	@Override
+	public PrimitiveIterator.OfDouble iterator() {
+		return new Iter();
+	}
+
+	private class Iter implements PrimitiveIterator.OfDouble {
+		final Iterator<DoubleFixedSizeList> nextChunk = chunks.iterator();
+		double[] items = new double[0];
+		int index = 0;
+		int fill = 0;
+		final int expectedModCount = modCount;
+
+		@Override
+		public boolean hasNext() {
+			while (index >= fill && nextChunk.hasNext()) {
+				DoubleFixedSizeList chunk = nextChunk.next();
+				items = chunk.items();
+				fill = chunk.size();
+				index = 0;
+			}
+			return index < fill;
+		}
+
+		@Override
+		public double nextDouble() {
+			if (modCount != expectedModCount) {
+				throw new ConcurrentModificationException();
+			}
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			return items[index++];
+		}
+	}
+
+	/**
+	 * Splits along the chunk chain: each half gets whole chunks, and items are
+	 * read straight out of each chunk's array. O(chunks) to set up, then O(1)
+	 * per split. Fails fast like the iterator.
+	 */
+	@Override
+	public Spliterator.OfDouble spliterator() {
+		if (!directoryValid) {
+			rebuildDirectory();
+		}
+		Object[] snapshot = Arrays.copyOf(directory, numChunks);
+		int[] bounds = Arrays.copyOf(starts, numChunks + 1);
+		bounds[numChunks] = size;
+		return new ChunkSpliterator(snapshot, bounds, 0, numChunks, modCount);
+	}
+
+	private class ChunkSpliterator implements Spliterator.OfDouble {
+		/**
+		 * The chunks as of spliterator(), and bounds[i] the index of the first item
+		 * in chunk i (with size at the end).
+		 */
+		final Object[] snapshot;
+		final int[] bounds;
+		/**
+		 * We cover chunks [chunk, lastChunk), starting at offset in the first one.
+		 */
+		int chunk;
+		int offset;
+		final int lastChunk;
+		final int expectedModCount;
+
+		ChunkSpliterator(Object[] snapshot, int[] bounds, int chunk, int lastChunk, int expectedModCount) {
+			this.snapshot = snapshot;
+			this.bounds = bounds;
+			this.chunk = chunk;
+			this.offset = 0;
+			this.lastChunk = lastChunk;
+			this.expectedModCount = expectedModCount;
+		}
+
+		@Override
+		public boolean tryAdvance(DoubleConsumer action) {
+			while (chunk < lastChunk) {
+				DoubleFixedSizeList current = (DoubleFixedSizeList) snapshot[chunk];
+				if (offset < current.size()) {
+					action.accept(current.items()[offset++]);
+					checkModCount();
+					return true;
+				}
+				chunk++;
+				offset = 0;
+			}
+			return false;
+		}
+
+		@Override
+		public void forEachRemaining(DoubleConsumer action) {
+			for (; chunk < lastChunk; chunk++) {
+				DoubleFixedSizeList current = (DoubleFixedSizeList) snapshot[chunk];
+				double[] items = current.items();
+				for (int i = offset, n = current.size(); i < n; i++) {
+					action.accept(items[i]);
+				}
+				offset = 0;
+			}
+			checkModCount();
+		}
+
+		@Override
+		public Spliterator.OfDouble trySplit() {
+			int mid = (chunk + lastChunk) >>> 1;
+			if (mid <= chunk) {
+				return null;
+			}
+			ChunkSpliterator front = new ChunkSpliterator(snapshot, bounds, chunk, mid, expectedModCount);
+			front.offset = offset;
+			chunk = mid;
+			offset = 0;
+			return front;
+		}
+
+		@Override
+		public long estimateSize() {
+			if (chunk >= lastChunk) {
+				return 0;
+			}
+			return bounds[lastChunk] - bounds[chunk] - offset;
+		}
+
+		@Override
+		public int characteristics() {
+			return ORDERED | SIZED | SUBSIZED;
+		}
+
+		private void checkModCount() {
+			if (modCount != expectedModCount) {
+				throw new ConcurrentModificationException();
+			}
+		}
+	}
+
+	/**
+	 * @return a sequential DoubleStream of the values; call parallel() on it to
+	 *         spread the chunks across threads.
+	 */
+	public DoubleStream doubleStream() {
+		return StreamSupport.doubleStream(spliterator(), false);
+	}
+}
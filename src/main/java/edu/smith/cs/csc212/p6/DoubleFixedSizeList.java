@@ -0,0 +1,283 @@
+package edu.smith.cs.csc212.p6;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.DoubleStream;
+import java.util.stream.StreamSupport;
+
+import edu.smith.cs.csc212.p6.errors.BadIndexError;
+import edu.smith.cs.csc212.p6.errors.EmptyListError;
+import edu.smith.cs.csc212.p6.errors.RanOutOfSpaceError;
+
+/**
+ * A {@link FixedSizeList} that stores double values directly in a double[], so each
+ * item costs 8 bytes instead of a pointer plus a boxed Double.
+ * 
+ * The P6List methods still work (they box and unbox), but the Double methods such
+ * as {@link #getDouble(int)} and {@link #addBackDouble(double)} never allocate. The errors
+ * are the same as FixedSizeList: {@link RanOutOfSpaceError} when it is full,
+ * {@link EmptyListError} and {@link BadIndexError} otherwise.
+ */
+public class DoubleFixedSizeList implements P6List<Double> {
+	private double[] array;
+	private int fill;
+	/**
+	 * Bumped by every add and remove, so iterators can notice.
+	 */
+	private int modCount;
+
+	public DoubleFixedSizeList(int maximumSize) {
+		this.array = new double[maximumSize];
+		this.fill = 0;
+	}
+
+	public double removeFrontDouble() {
+		return removeIndexDouble(0);
+	}
+
+	public double removeBackDouble() {
+		if (this.fill == 0) {
+			throw new EmptyListError();
+		}
+		modCount++;
+		fill--;
+		return array[fill];
+	}
+
+	public double removeIndexDouble(int index) {
+		if (this.fill == 0) {
+			throw new EmptyListError();
+		}
+		double removed = this.getDouble(index);
+		System.arraycopy(array, index + 1, array, index, fill - index - 1);
+		modCount++;
+		fill--;
+		return removed;
+	}
+
+	public void addFrontDouble(double item) {
+		addIndexDouble(item, 0);
+	}
+
+	public void addBackDouble(double item) {
+		if (fill < array.length) {
+			modCount++;
+			array[fill++] = item;
+		} else {
+			throw new RanOutOfSpaceError();
+		}
+	}
+
+	public void addIndexDouble(double item, int index) {
+		if (fill >= array.length) {
+			throw new RanOutOfSpaceError();
+		}
+		if (index < 0 || index > fill) {
+			throw new BadIndexError();
+		}
+		System.arraycopy(array, index, array, index + 1, fill - index);
+		array[index] = item;
+		modCount++;
+		fill++;
+	}
+
+	public double getDouble(int index) {
+		if (index < 0 || index >= fill) {
+			throw new BadIndexError();
+		}
+		return this.array[index];
+	}
+
+	public double getFrontDouble() {
+		if (this.isEmpty()) {
+			throw new EmptyListError();
+		}
+		return this.array[0];
+	}
+
+	public double getBackDouble() {
+		if (this.isEmpty()) {
+			throw new EmptyListError();
+		}
+		return this.array[fill - 1];
+	}
+
+	public void setDouble(int index, double item) {
+		if (index >= fill || index < 0) {
+			throw new BadIndexError();
+		}
+		array[index] = item;
+	}
+
+	// O(n); uses Double.compare so it agrees with Double.equals.
+	public int find(double item) {
+		for (int i = 0; i < fill; i++) {
+			if (Double.compare(array[i], item) == 0) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	public void swap(int i, int j) {
+		double tmp = getDouble(i);
+		setDouble(i, getDouble(j));
+		setDouble(j, tmp);
+	}
+
+	/**
+	 * @return a copy of the items, in order.
+	 */
+	public double[] toDoubleArray() {
+		return Arrays.copyOf(array, fill);
+	}
+
+	/**
+	 * Copy ``count`` values from ``items[from]`` onward onto the back of this
+	 * list in one go. {@link DoubleChunkyLinkedList} uses this to move items between
+	 * chunks.
+	 * 
+	 * @throws RanOutOfSpaceError if they don't all fit.
+	 */
+	void addBackFrom(double[] items, int from, int count) {
+		if (count > array.length - fill) {
+			throw new RanOutOfSpaceError();
+		}
+		System.arraycopy(items, from, array, fill, count);
+		modCount++;
+		fill += count;
+	}
+
+	/**
+	 * Move the items from ``from`` onward to the back of ``other``, leaving
+	 * [0, from) here.
+	 */
+	void moveTailTo(int from, DoubleFixedSizeList other) {
+		other.addBackFrom(array, from, fill - from);
+		modCount++;
+		fill = from;
+	}
+
+	@Override
+	public void removeRange(int fromIndex, int toIndex) {
+		BulkItems.checkRange(this, fromIndex, toIndex);
+		System.arraycopy(array, toIndex, array, fromIndex, fill - toIndex);
+		modCount++;
+		fill -= toIndex - fromIndex;
+	}
+
+	@Override
+	public Double removeFront() {
+		return removeFrontDouble();
+	}
+
+	@Override
+	public Double removeBack() {
+		return removeBackDouble();
+	}
+
+	@Override
+	public Double removeIndex(int index) {
+		return removeIndexDouble(index);
+	}
+
+	@Override
+	public void addFront(Double item) {
+		addFrontDouble(item);
+	}
+
+	@Override
+	public void addBack(Double item) {
+		addBackDouble(item);
+	}
+
+	@Override
+	public void addIndex(Double item, int index) {
+		addIndexDouble(item, index);
+	}
+
+	@Override
+	public Double getFront() {
+		return getFrontDouble();
+	}
+
+	@Override
+	public Double getBack() {
+		return getBackDouble();
+	}
+
+	@Override
+	public Double getIndex(int index) {
+		return getDouble(index);
+	}
+
+	@Override
+	public int size() {
+		return this.fill;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return this.fill == 0;
+	}
+
+	/**
+	 * The backing array, for {@link DoubleChunkyLinkedList} to iterate over
+	 * without a getDouble call per item. Only the first size() slots are items.
+	 */
+	double[] items() {
+		return array;
+	}
+
+	/**
+	 * O(1) per item, and {@link PrimitiveIterator.OfDouble#nextDouble()} never boxes.
+	 * Fails fast if the list changes underneath it.
+	 */
+	@Override
+	public PrimitiveIterator.OfDouble iterator() {
+		return new Iter();
+	}
+
+	private class Iter implements PrimitiveIterator.OfDouble {
+		int next = 0;
+		final int expectedModCount = modCount;
+
+		@Override
+		public boolean hasNext() {
+			return next < fill;
+		}
+
+		@Override
+		public double nextDouble() {
+			if (modCount != expectedModCount) {
+				throw new ConcurrentModificationException();
+			}
+			if (next >= fill) {
+				throw new NoSuchElementException();
+			}
+			return array[next++];
+		}
+	}
+
+	/**
+	 * Splits by index range, O(1) per split, and never boxes. Unlike the
+	 * iterator this does not fail fast, so don't change the list while a stream
+	 * over it is running.
+	 */
+	@Override
+	public Spliterator.OfDouble spliterator() {
+		return Spliterators.spliterator(array, 0, fill, Spliterator.ORDERED);
+	}
+
+	/**
+	 * @return a sequential DoubleStream of the values; call parallel() on it to
+	 *         split the work across threads.
+	 */
+	public DoubleStream doubleStream() {
+		return StreamSupport.doubleStream(spliterator(), false);
+	}
+}
@@ -0,0 +1,309 @@
+package edu.smith.cs.csc212.p6;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.DoubleStream;
+import java.util.stream.StreamSupport;
+
+import edu.smith.cs.csc212.p6.errors.BadIndexError;
+import edu.smith.cs.csc212.p6.errors.EmptyListError;
+
+/**
+ * A {@link GrowableList} that stores double values directly in a double[], so each
+ * item costs 8 bytes instead of a pointer plus a boxed Double, and the garbage
+ * collector has one array to look at instead of millions of objects.
+ * 
+ * The P6List methods still work (they box and unbox), but the Double methods such
+ * as {@link #getDouble(int)} and {@link #addBackDouble(double)} never allocate. It grows
+ * with a {@link GrowthPolicy} like GrowableList, but keeps its items at the
+ * start of the array (no ring), since numeric series are mostly appended to.
+ */
+public class DoubleGrowableList implements P6List<Double> {
+	private double[] array;
+	private int fill;
+	/**
+	 * Bumped by every add and remove, so iterators can notice.
+	 */
+	private int modCount;
+	private GrowthPolicy growth;
+
+	public DoubleGrowableList() {
+		this(GrowableList.START_SIZE);
+	}
+
+	/**
+	 * @param initialCapacity how many items fit before the first resize.
+	 */
+	public DoubleGrowableList(int initialCapacity) {
+		this(initialCapacity, GrowthPolicy.DOUBLING);
+	}
+
+	/**
+	 * @param initialCapacity how many items fit before the first resize.
+	 * @param growth          how to pick the next capacity when it's full.
+	 */
+	public DoubleGrowableList(int initialCapacity, GrowthPolicy growth) {
+		if (initialCapacity < 0) {
+			throw new IllegalArgumentException("initialCapacity must not be negative: " + initialCapacity);
+		}
+		this.array = new double[initialCapacity];
+		this.fill = 0;
+		this.growth = growth;
+	}
+
+	/**
+	 * O(n)-everything after it shifts left.
+	 */
+	public double removeFrontDouble() {
+		return removeIndexDouble(0);
+	}
+
+	/**
+	 * O(1)
+	 */
+	public double removeBackDouble() {
+		if (fill == 0) {
+			throw new EmptyListError();
+		}
+		modCount++;
+		fill--;
+		return array[fill];
+	}
+
+	/**
+	 * O(n)-one bulk shift of the items after index.
+	 */
+	public double removeIndexDouble(int index) {
+		if (fill == 0) {
+			throw new EmptyListError();
+		}
+		double removed = getDouble(index);
+		System.arraycopy(array, index + 1, array, index, fill - index - 1);
+		modCount++;
+		fill--;
+		return removed;
+	}
+
+	/**
+	 * O(n)-everything shifts right.
+	 */
+	public void addFrontDouble(double item) {
+		addIndexDouble(item, 0);
+	}
+
+	/**
+	 * O(1)-amortized.
+	 */
+	public void addBackDouble(double item) {
+		if (fill >= array.length) {
+			grow(fill + 1);
+		}
+		modCount++;
+		array[fill++] = item;
+	}
+
+	/**
+	 * O(n)-one bulk shift of the items from index on.
+	 */
+	public void addIndexDouble(double item, int index) {
+		if (index < 0 || index > fill) {
+			throw new BadIndexError();
+		}
+		if (fill >= array.length) {
+			grow(fill + 1);
+		}
+		System.arraycopy(array, index, array, index + 1, fill - index);
+		array[index] = item;
+		modCount++;
+		fill++;
+	}
+
+	/**
+	 * O(1)
+	 */
+	public double getDouble(int index) {
+		if (index < 0 || index >= fill) {
+			throw new BadIndexError();
+		}
+		return array[index];
+	}
+
+	public double getFrontDouble() {
+		if (fill == 0) {
+			throw new EmptyListError();
+		}
+		return array[0];
+	}
+
+	public double getBackDouble() {
+		if (fill == 0) {
+			throw new EmptyListError();
+		}
+		return array[fill - 1];
+	}
+
+	public void setDouble(int index, double item) {
+		if (index < 0 || index >= fill) {
+			throw new BadIndexError();
+		}
+		array[index] = item;
+	}
+
+	/**
+	 * Append a whole array of values with at most one resize and one bulk copy.
+	 * 
+	 * @param items the values to add to the back, in order.
+	 */
+	public void addAllDouble(double[] items) {
+		ensureCapacity(fill + items.length);
+		System.arraycopy(items, 0, array, fill, items.length);
+		modCount++;
+		fill += items.length;
+	}
+
+	/**
+	 * @return a copy of the items, in order.
+	 */
+	public double[] toDoubleArray() {
+		return Arrays.copyOf(array, fill);
+	}
+
+	/**
+	 * Make sure at least ``minCapacity`` items fit without another resize.
+	 * 
+	 * @param minCapacity how many items need to fit.
+	 */
+	public void ensureCapacity(int minCapacity) {
+		if (minCapacity > array.length) {
+			array = Arrays.copyOf(array, minCapacity);
+		}
+	}
+
+	/**
+	 * Shrink the array so it holds exactly size() items.
+	 */
+	public void trimToSize() {
+		if (fill < array.length) {
+			array = Arrays.copyOf(array, fill);
+		}
+	}
+
+	private void grow(int needed) {
+		array = Arrays.copyOf(array, growth.nextCapacity(array.length, needed));
+	}
+
+	@Override
+	public void removeRange(int fromIndex, int toIndex) {
+		BulkItems.checkRange(this, fromIndex, toIndex);
+		System.arraycopy(array, toIndex, array, fromIndex, fill - toIndex);
+		modCount++;
+		fill -= toIndex - fromIndex;
+	}
+
+	@Override
+	public Double removeFront() {
+		return removeFrontDouble();
+	}
+
+	@Override
+	public Double removeBack() {
+		return removeBackDouble();
+	}
+
+	@Override
+	public Double removeIndex(int index) {
+		return removeIndexDouble(index);
+	}
+
+	@Override
+	public void addFront(Double item) {
+		addFrontDouble(item);
+	}
+
+	@Override
+	public void addBack(Double item) {
+		addBackDouble(item);
+	}
+
+	@Override
+	public void addIndex(Double item, int index) {
+		addIndexDouble(item, index);
+	}
+
+	@Override
+	public Double getFront() {
+		return getFrontDouble();
+	}
+
+	@Override
+	public Double getBack() {
+		return getBackDouble();
+	}
+
+	@Override
+	public Double getIndex(int index) {
+		return getDouble(index);
+	}
+
+	@Override
+	public int size() {
+		return fill;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return fill == 0;
+	}
+
+	/**
+	 * O(1) per item, and {@link PrimitiveIterator.OfDouble#nextDouble()} never boxes.
+	 * Fails fast if the list changes underneath it.
+	 */
+	@Override
+	public PrimitiveIterator.OfDouble iterator() {
+		return new Iter();
+	}
+
+	private class Iter implements PrimitiveIterator.OfDouble {
+		int next = 0;
+		final int expectedModCount = modCount;
+
+		@Override
+		public boolean hasNext() {
+			return next < fill;
+		}
+
+		@Override
+		public double nextDouble() {
+			if (modCount != expectedModCount) {
+				throw new ConcurrentModificationException();
+			}
+			if (next >= fill) {
+				throw new NoSuchElementException();
+			}
+			return array[next++];
+		}
+	}
+
+	/**
+	 * Splits by index range, O(1) per split, and never boxes. Unlike the
+	 * iterator this does not fail fast, so don't change the list while a stream
+	 * over it is running.
+	 */
+	@Override
+	public Spliterator.OfDouble spliterator() {
+		return Spliterators.spliterator(array, 0, fill, Spliterator.ORDERED);
+	}
+
+	/**
+	 * @return a sequential DoubleStream of the values; call parallel() on it to
+	 *         split the work across threads.
+	 */
+	public DoubleStream doubleStream() {
+		return StreamSupport.doubleStream(spliterator(), false);
+	}
+}
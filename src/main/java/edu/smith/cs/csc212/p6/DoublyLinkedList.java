@@ -1,5 +1,13 @@
 package edu.smith.cs.csc212.p6;
 
+import java.util.AbstractCollection;
+import java.util.ConcurrentModificationException;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
 import edu.smith.cs.csc212.p6.errors.BadIndexError;
 import edu.smith.cs.csc212.p6.errors.EmptyListError;
 import edu.smith.cs.csc212.p6.errors.P6NotImplemented;
@@ -10,6 +18,23 @@ import edu.smith.cs.csc212.p6.errors.RanOutOfSpaceError;
 public class DoublyLinkedList<T> implements P6List<T> {
 	private Node<T> start;
 	private Node<T> end;
+	/**
+	 * How many items are in this list; kept up to date by every add and remove.
+	 */
+	private int size;
+	/**
+	 * Bumped by every add and remove, so iterators can notice.
+	 */
+	private int modCount;
+	/**
+	 * The last node an index lookup landed on, and its index, so a lookup near
+	 * it can walk from there instead of from an end. Only trusted while
+	 * fingerModCount == modCount; addIndex and removeIndex move it to a node they
+	 * know is still right.
+	 */
+	private Node<T> finger;
+	private int fingerIndex;
+	private int fingerModCount = -1;
 	
 	/**
 	 * A doubly-linked list starts empty.
@@ -17,6 +42,7 @@ public class DoublyLinkedList<T> implements P6List<T> {
 	public DoublyLinkedList() {
 		this.start = null;
 		this.end = null;
+		this.size = 0;
 	}
 	
 	/**
@@ -30,9 +56,9 @@ public class DoublyLinkedList<T> implements P6List<T> {
 	@Override
 	public T removeFront() {
 		checkNotEmpty();
-		T before = start.value;
-		start = start.after;
-		return before;
+		Node<T> first = start;
+		unlink(first);
+		return first.value;
 	}
 
 	/**
@@ -40,9 +66,7 @@ public class DoublyLinkedList<T> implements P6List<T> {
 	 * 
 	 * O(1)-maintain constant rate regardless of amt data
 	 * 
-	 * If there is only one item in the list, will simply remove that item
-	 * Otherwise, will loop through to item to item before last value and set last
-	 * item to null in order to remove
+	 * The new end is just end.before, so there is nothing to loop through
 	 * 
 	 * @return the value of the item that was deleted.
 	 * @throws EmptyListError if the list is empty.
@@ -50,35 +74,19 @@ public class DoublyLinkedList<T> implements P6List<T> {
 	@Override
 	public T removeBack() {
 		checkNotEmpty();
-		if (size()==1) {
-			T casper=start.value;
-			start=null;
-			end=null;
-			return casper;
-		}
-		else {
-			for (Node<T> current = start; current != null; current = current.after) {
-				if (current.after==end) {
-					T groot=current.after.value;
-					current.after=null;
-					end=current;
-					return groot;
-				}
-			}
-		}
-		return null;
+		Node<T> last = end;
+		unlink(last);
+		return last.value;
 	}
 
 	/**
 	 * Removes item at index(int index)
 	 * 
 	 * O(n)-indicate some change in growth of function, speed proportional to amt data
-	 * possible, but annoying
-	 * 
+	 * but walks from whichever end is closer, so never more than size/2 steps
 	 * 
-	 * If only one value in list, will remove that item
-	 * Otherwise, loop through list until item before item to be deleted. Delete
-	 * links and create new link in order to delete desired item. 
+	 * If removing either end, same as removeFront or removeBack
+	 * Otherwise, find the node to be deleted and link its neighbors to each other.
 	 * 
 	 * Ex: a -->b-->c-->null becomes a-->c
 	 * 
@@ -92,32 +100,21 @@ public class DoublyLinkedList<T> implements P6List<T> {
 	@Override
 	public T removeIndex(int index) {
 		checkNotEmpty();
-		Node<T>current=start;
-		T removed = getIndex(index);
-		if (index<0 || index>=size()) {
+		if (index<0 || index>=size) {
 			throw new BadIndexError();
 		}
-		for (int gl=0; gl<index;gl++) {
-			current=current.after;
-		}
 		if (index==0) {
-			start=current.after;
-			current.before=null;
-			current.after=null;
-
-		}else if(index==this.size()-1) {
-			current.before.after=null;
-			end=current.before;
-			current.after=null;
-
-		}else {
-			current.after.before=current.before;
-			current.before.after=current.after;
-			
-			current.before =null;
-	        current.after = null;
+			return removeFront();
+		}
+		if (index==size-1) {
+			return removeBack();
 		}
-		return removed;
+		Node<T> current=nodeAt(index);
+		Node<T> after=current.after;
+		unlink(current);
+		// the node after it has moved down to index.
+		remember(after, index);
+		return current.value;
 	}
 	
 	/**
@@ -144,6 +141,8 @@ public class DoublyLinkedList<T> implements P6List<T> {
 		first.before = null;
 		start = first;
 		}
+		modCount++;
+		size++;
 	}
 
 	/**
@@ -160,28 +159,28 @@ public class DoublyLinkedList<T> implements P6List<T> {
 	 */
 	@Override
 	public void addBack(T item) {
-		Node<T> last = new Node<T>(item);
-		Node<T> secondLast = end;
-		if(size()==0) {
+		if(size==0) {
 			addFront(item);
-			start=last;
-			end=last;
 		}else {
+			Node<T> last = new Node<T>(item);
+			Node<T> secondLast = end;
 			secondLast.after=last;
 			last.before=secondLast;
 			last.after=null;
 			end=last;
+			modCount++;
+			size++;
 		}
 	}
 
 	/**
 	 *  Add an item before ``index`` in this list. 
 	 * 
-	 * O(1)-constant rate
+	 * O(n)-walks from whichever end is closer, so never more than size/2 steps
 	 * 
 	 * Need to link to both item before and after, create references to do so
-	 * If there is nothing in list, use addFront to make
-	 * Otherwise, loop through to item before place want to add and add new Node
+	 * If adding at either end, use addFront or addBack
+	 * Otherwise, find the node currently at index and add new Node before it
 	 * 
 	 * @param item  the data to add to the list.
 	 * @param index the index at which to add the item.
@@ -189,31 +188,21 @@ public class DoublyLinkedList<T> implements P6List<T> {
 	 */
 	@Override
 	public void addIndex(T item, int index) {
-		Node<T> boo = new Node<T>(item);
-		if (index<0 || index>size()) {
+		if (index<0 || index>size) {
 			throw new BadIndexError();
 		}
 		if(index==0){
 			addFront(item);
 		}
-		if (index==size()) {
+		else if (index==size) {
 			addBack(item);
 		}
 		else {
-			int gi=0;
-			for (Node<T> current = start; current != null; current = current.after) {
-				if (gi==index-1) {
-					boo.before=current;
-					boo.after=current.after;
-					current.after=boo;
-					if (boo.after!=null) {
-						boo.after.before=boo;
-					return;
-					}
-				}
-				 gi++;
-			}
-		}	
+			Node<T> current=nodeAt(index);
+			linkBefore(item, current);
+			// the new node is at index, right where a sequential caller goes next.
+			remember(current.before, index);
+		}
 	}
 
 	/**
@@ -226,7 +215,7 @@ public class DoublyLinkedList<T> implements P6List<T> {
 	 */
 	@Override
 	public T getFront() {
-		if (size()==0) {
+		if (size==0) {
 			throw new EmptyListError();
 		}
 		return start.value;
@@ -242,7 +231,7 @@ public class DoublyLinkedList<T> implements P6List<T> {
 	 */
 	@Override
 	public T getBack() {
-		if (size()==0) {
+		if (size==0) {
 			throw new EmptyListError();
 		}
 		return end.value;
@@ -251,23 +240,19 @@ public class DoublyLinkedList<T> implements P6List<T> {
 	/**
 	 * Find the index-th element of this list.
 	 * 
-	 * O(1)-no matter how much data, will execute at constant time
+	 * O(n)-walks from whichever end is closer, so never more than size/2 steps
 	 * 
 	 * @param index a number from 0 to size, excluding size.
 	 * @return the value at index.
-	 * @throws IndexOutofBoundsException if the index does not exist.
+	 * @throws BadIndexError if the index does not exist.
 	 */
 	@Override
 	public T getIndex(int index) {
 		checkNotEmpty();
-		int at = 0;
-		for (Node<T> current = start; current != null; current = current.after) {
-			if (at == index) {
-				return current.value;
-			}
-			at++;
-	}
-		throw new BadIndexError();
+		if (index<0 || index>=size) {
+			throw new BadIndexError();
+		}
+		return nodeAt(index).value;
 	}
 
 	/**
@@ -275,17 +260,13 @@ public class DoublyLinkedList<T> implements P6List<T> {
 	 * 
 	 * O(1)-no matter how much data, will execute at constant time
 	 * 
-	 * Create counter and loop through list to count
+	 * Every add and remove keeps the size field up to date
 	 * 
 	 * @return the length of the list, or zero if empty.
 	 */
 	@Override
 	public int size() {
-		int count = 0;
-		for (Node<T> n = this.start; n != null; n = n.after) {
-			count++;
-		}
-		return count;
+		return size;
 	}
 
 	/**
@@ -295,11 +276,175 @@ public class DoublyLinkedList<T> implements P6List<T> {
 	 */
 	@Override
 	public boolean isEmpty() {
-		if (this.size() ==0)
-			return true;
-		else {
-		return false;
+		return size == 0;
 	}
+	
+	/**
+	 * Add every item before ``index`` in this list, in order.
+	 * 
+	 * O(n + k)-builds a chain of new nodes, then walks once (from the closer end)
+	 * and splices the whole chain in
+	 * 
+	 * @param index a number from 0 to size, including size.
+	 * @param items the data to add to the list.
+	 * @throws BadIndexError if the index does not exist.
+	 */
+	@Override
+	public void insertAll(int index, Iterable<? extends T> items) {
+		if (index<0 || index>size) {
+			throw new BadIndexError();
+		}
+		Node<T> first = null;
+		Node<T> last = null;
+		int count = 0;
+		for (T item : items) {
+			Node<T> made = new Node<T>(item);
+			if (first == null) {
+				first = made;
+			} else {
+				last.after = made;
+				made.before = last;
+			}
+			last = made;
+			count++;
+		}
+		if (count == 0) {
+			return;
+		}
+		Node<T> prev = (index == size) ? end : nodeAt(index).before;
+		Node<T> next = (prev == null) ? start : prev.after;
+		first.before = prev;
+		last.after = next;
+		if (prev == null) {
+			start = first;
+		} else {
+			prev.after = first;
+		}
+		if (next == null) {
+			end = last;
+		} else {
+			next.before = last;
+		}
+		modCount++;
+		size += count;
+	}
+
+	/**
+	 * Delete the items from ``fromIndex`` up to (but not including) ``toIndex``.
+	 * 
+	 * O(n)-one walk to the start of the range and across it, then one relink
+	 * 
+	 * @param fromIndex the index of the first item to remove.
+	 * @param toIndex   one past the index of the last item to remove.
+	 * @throws EmptyListError if the list is empty and the range is not.
+	 * @throws BadIndexError  if the range does not fit inside the list.
+	 */
+	@Override
+	public void removeRange(int fromIndex, int toIndex) {
+		BulkItems.checkRange(this, fromIndex, toIndex);
+		if (fromIndex == toIndex) {
+			return;
+		}
+		Node<T> first = nodeAt(fromIndex);
+		Node<T> last = first;
+		for (int i = fromIndex + 1; i < toIndex; i++) {
+			last = last.after;
+		}
+		Node<T> prev = first.before;
+		Node<T> next = last.after;
+		if (prev == null) {
+			start = next;
+		} else {
+			prev.after = next;
+		}
+		if (next == null) {
+			end = prev;
+		} else {
+			next.before = prev;
+		}
+		first.before = null;
+		last.after = null;
+		modCount++;
+		size -= toIndex - fromIndex;
+		// don't let the finger keep the removed nodes alive.
+		finger = null;
+	}
+	
+	/**
+	 * Helper method to find the node at ``index``. Starts from whichever is
+	 * closest: start, end, or the finger left by the last lookup. So a loop over
+	 * increasing (or decreasing) indices is O(1) per call, and any lookup is at
+	 * most size/2 steps.
+	 * 
+	 * @param index a number from 0 to size, excluding size.
+	 * @return the node at index.
+	 */
+	private Node<T> nodeAt(int index) {
+		Node<T> current = start;
+		int at = 0;
+		if (size - 1 - index < index) {
+			current = end;
+			at = size - 1;
+		}
+		if (finger != null && fingerModCount == modCount
+				&& Math.abs(fingerIndex - index) < Math.abs(at - index)) {
+			current = finger;
+			at = fingerIndex;
+		}
+		for (; at < index; at++) {
+			current = current.after;
+		}
+		for (; at > index; at--) {
+			current = current.before;
+		}
+		remember(current, index);
+		return current;
+	}
+
+	/**
+	 * Point the finger at ``node``, which is at ``index`` right now.
+	 */
+	private void remember(Node<T> node, int index) {
+		finger = node;
+		fingerIndex = index;
+		fingerModCount = modCount;
+	}
+	
+	/**
+	 * Put a new node holding ``item`` just before ``current``, which must not be
+	 * the start. O(1).
+	 */
+	private void linkBefore(T item, Node<T> current) {
+		Node<T> boo = new Node<T>(item);
+		boo.before=current.before;
+		boo.after=current;
+		current.before.after=boo;
+		current.before=boo;
+		modCount++;
+		size++;
+	}
+	
+	/**
+	 * Helper method to take a node out of the list, fixing up its neighbors (or
+	 * start and end) and clearing its own links. O(1).
+	 * 
+	 * @param node a node that is currently in this list.
+	 */
+	private void unlink(Node<T> node) {
+		if (node.before == null) {
+			start = node.after;
+		} else {
+			node.before.after = node.after;
+		}
+		if (node.after == null) {
+			end = node.before;
+		} else {
+			node.after.before = node.before;
+		}
+		node.before = null;
+		node.after = null;
+		modCount++;
+		size--;
 	}
 	
 	private void checkNotEmpty() {
@@ -336,5 +481,382 @@ public class DoublyLinkedList<T> implements P6List<T> {
 			this.after = null;
 		}
 	}
+	
+	/**
+	 * View this list as a {@link java.util.Deque}, so it can be dropped in
+	 * anywhere a work queue or stack is expected. Changes through the view show
+	 * up in this list and vice versa.
+	 * 
+	 * Both ends are O(1). Like {@link java.util.LinkedList}, the Deque methods
+	 * throw {@link NoSuchElementException} rather than {@link EmptyListError}.
+	 * 
+	 * @return a Deque backed by this list.
+	 */
+	public Deque<T> asDeque() {
+		return new DequeView();
+	}
+	
+	/**
+	 * The Deque returned by {@link #asDeque()}. AbstractCollection fills in
+	 * contains, toArray and friends from iterator() and size().
+	 */
+	private class DequeView extends AbstractCollection<T> implements Deque<T> {
+		@Override
+		public void addFirst(T e) {
+			DoublyLinkedList.this.addFront(e);
+		}
+
+		@Override
+		public void addLast(T e) {
+			DoublyLinkedList.this.addBack(e);
+		}
+
+		@Override
+		public boolean offerFirst(T e) {
+			addFirst(e);
+			return true;
+		}
+
+		@Override
+		public boolean offerLast(T e) {
+			addLast(e);
+			return true;
+		}
+
+		@Override
+		public T removeFirst() {
+			if (isEmpty()) {
+				throw new NoSuchElementException();
+			}
+			return DoublyLinkedList.this.removeFront();
+		}
+
+		@Override
+		public T removeLast() {
+			if (isEmpty()) {
+				throw new NoSuchElementException();
+			}
+			return DoublyLinkedList.this.removeBack();
+		}
+
+		@Override
+		public T pollFirst() {
+			return isEmpty() ? null : DoublyLinkedList.this.removeFront();
+		}
+
+		@Override
+		public T pollLast() {
+			return isEmpty() ? null : DoublyLinkedList.this.removeBack();
+		}
+
+		@Override
+		public T getFirst() {
+			if (isEmpty()) {
+				throw new NoSuchElementException();
+			}
+			return start.value;
+		}
+
+		@Override
+		public T getLast() {
+			if (isEmpty()) {
+				throw new NoSuchElementException();
+			}
+			return end.value;
+		}
+
+		@Override
+		public T peekFirst() {
+			return isEmpty() ? null : start.value;
+		}
+
+		@Override
+		public T peekLast() {
+			return isEmpty() ? null : end.value;
+		}
+
+		@Override
+		public boolean removeFirstOccurrence(Object o) {
+			for (Node<T> current = start; current != null; current = current.after) {
+				if (Objects.equals(o, current.value)) {
+					unlink(current);
+					return true;
+				}
+			}
+			return false;
+		}
+
+		@Override
+		public boolean removeLastOccurrence(Object o) {
+			for (Node<T> current = end; current != null; current = current.before) {
+				if (Objects.equals(o, current.value)) {
+					unlink(current);
+					return true;
+				}
+			}
+			return false;
+		}
+
+		@Override
+		public boolean add(T e) {
+			addLast(e);
+			return true;
+		}
+
+		@Override
+		public boolean offer(T e) {
+			return offerLast(e);
+		}
+
+		@Override
+		public T remove() {
+			return removeFirst();
+		}
+
+		@Override
+		public T poll() {
+			return pollFirst();
+		}
+
+		@Override
+		public T element() {
+			return getFirst();
+		}
+
+		@Override
+		public T peek() {
+			return peekFirst();
+		}
+
+		@Override
+		public void push(T e) {
+			addFirst(e);
+		}
+
+		@Override
+		public T pop() {
+			return removeFirst();
+		}
+
+		@Override
+		public boolean remove(Object o) {
+			return removeFirstOccurrence(o);
+		}
+
+		@Override
+		public int size() {
+			return size;
+		}
+
+		@Override
+		public boolean isEmpty() {
+			return size == 0;
+		}
+
+		@Override
+		public Iterator<T> iterator() {
+			return new NodeIter(true);
+		}
+
+		@Override
+		public Iterator<T> descendingIterator() {
+			return new NodeIter(false);
+		}
+	}
+	
+	/**
+	 * A cursor that starts before the first item; see {@link #listIterator(int)}.
+	 * 
+	 * @return a ListIterator over this list.
+	 */
+	public ListIterator<T> listIterator() {
+		return listIterator(0);
+	}
+	
+	/**
+	 * A cursor that sits between two items and can walk both ways. add, remove
+	 * and set all happen where the cursor is, in O(1), so a whole pass that
+	 * edits as it goes is O(n) instead of the O(n^2) of addIndex/removeIndex.
+	 * Only finding the starting point costs anything: O(min(index, size-index)).
+	 * 
+	 * It fails fast like iterator(), but its own add and remove are fine.
+	 * 
+	 * @param index where the cursor starts: the first next() returns this item.
+	 * @return a ListIterator over this list.
+	 * @throws BadIndexError if index is not from 0 to size, including size.
+	 */
+	public ListIterator<T> listIterator(int index) {
+		if (index < 0 || index > size) {
+			throw new BadIndexError();
+		}
+		return new Cursor(index);
+	}
+	
+	/**
+	 * O(1) per item, front to back. Fails fast if the list changes underneath
+	 * it, except through the iterator's own remove().
+	 */
+	@Override
+	public Iterator<T> iterator() {
+		return new NodeIter(true);
+	}
+	
+	/**
+	 * Walks the nodes in either direction; remove() unlinks the last node
+	 * returned in O(1).
+	 */
+	private class NodeIter implements Iterator<T> {
+		private final boolean forward;
+		private Node<T> next;
+		private Node<T> lastReturned;
+		private int expectedModCount = modCount;
+
+		NodeIter(boolean forward) {
+			this.forward = forward;
+			this.next = forward ? start : end;
+		}
+
+		@Override
+		public boolean hasNext() {
+			return next != null;
+		}
+
+		@Override
+		public T next() {
+			if (modCount != expectedModCount) {
+				throw new ConcurrentModificationException();
+			}
+			if (next == null) {
+				throw new NoSuchElementException();
+			}
+			lastReturned = next;
+			next = forward ? next.after : next.before;
+			return lastReturned.value;
+		}
+
+		@Override
+		public void remove() {
+			if (lastReturned == null) {
+				throw new IllegalStateException();
+			}
+			if (modCount != expectedModCount) {
+				throw new ConcurrentModificationException();
+			}
+			unlink(lastReturned);
+			lastReturned = null;
+			expectedModCount = modCount;
+		}
+	}
+	
+	/**
+	 * The ListIterator from {@link #listIterator(int)}. The cursor sits just
+	 * before ``next`` (null at the end of the list).
+	 */
+	private class Cursor implements ListIterator<T> {
+		private Node<T> next;
+		private int nextIndex;
+		/**
+		 * The node remove() and set() act on: the last one next() or previous()
+		 * returned, or null after add() or remove().
+		 */
+		private Node<T> lastReturned;
+		private int expectedModCount = modCount;
 
+		Cursor(int index) {
+			this.next = (index == size) ? null : nodeAt(index);
+			this.nextIndex = index;
+		}
+
+		@Override
+		public boolean hasNext() {
+			return nextIndex < size;
+		}
+
+		@Override
+		public T next() {
+			checkModCount();
+			if (next == null) {
+				throw new NoSuchElementException();
+			}
+			lastReturned = next;
+			next = next.after;
+			nextIndex++;
+			return lastReturned.value;
+		}
+
+		@Override
+		public boolean hasPrevious() {
+			return nextIndex > 0;
+		}
+
+		@Override
+		public T previous() {
+			checkModCount();
+			if (nextIndex == 0) {
+				throw new NoSuchElementException();
+			}
+			next = (next == null) ? end : next.before;
+			lastReturned = next;
+			nextIndex--;
+			return lastReturned.value;
+		}
+
+		@Override
+		public int nextIndex() {
+			return nextIndex;
+		}
+
+		@Override
+		public int previousIndex() {
+			return nextIndex - 1;
+		}
+
+		@Override
+		public void remove() {
+			checkModCount();
+			if (lastReturned == null) {
+				throw new IllegalStateException();
+			}
+			if (lastReturned == next) {
+				// it came from previous(): the cursor stays put.
+				next = next.after;
+			} else {
+				// it came from next(): it was just behind the cursor.
+				nextIndex--;
+			}
+			unlink(lastReturned);
+			lastReturned = null;
+			expectedModCount = modCount;
+		}
+
+		@Override
+		public void set(T item) {
+			checkModCount();
+			if (lastReturned == null) {
+				throw new IllegalStateException();
+			}
+			lastReturned.value = item;
+		}
+
+		@Override
+		public void add(T item) {
+			checkModCount();
+			if (next == null) {
+				addBack(item);
+			} else if (next == start) {
+				addFront(item);
+			} else {
+				linkBefore(item, next);
+			}
+			nextIndex++;
+			lastReturned = null;
+			expectedModCount = modCount;
+		}
+
+		private void checkModCount() {
+			if (modCount != expectedModCount) {
+				throw new ConcurrentModificationException();
+			}
+		}
+	}
 }
@@ -1,5 +1,11 @@
 package edu.smith.cs.csc212.p6;
 
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+
 import edu.smith.cs.csc212.p6.errors.BadIndexError;
 import edu.smith.cs.csc212.p6.errors.EmptyListError;
 import edu.smith.cs.csc212.p6.errors.RanOutOfSpaceError;
@@ -7,6 +13,10 @@ import edu.smith.cs.csc212.p6.errors.RanOutOfSpaceError;
 public class FixedSizeList<T> implements P6List<T> {
 	private Object[] array;
 	private int fill;
+	/**
+	 * Bumped by every add and remove, so iterators can notice.
+	 */
+	int modCount;
 	
 	public FixedSizeList(int maximumSize) {
 		this.array = new Object[maximumSize];
@@ -24,6 +34,7 @@ public class FixedSizeList<T> implements P6List<T> {
 			throw new EmptyListError();
 		}
 		T value = this.getIndex(fill-1);
+		modCount++;
 		fill--;
 		this.array[fill] = null;
 		return value;
@@ -35,6 +46,7 @@ public class FixedSizeList<T> implements P6List<T> {
 			throw new EmptyListError();
 		}
 		T removed = this.getIndex(index);
+		modCount++;
 		fill--;
 		for (int i=index; i<fill; i++) {
 			this.array[i] = this.array[i+1];
@@ -51,6 +63,7 @@ public class FixedSizeList<T> implements P6List<T> {
 	@Override
 	public void addBack(T item) {
 		if (fill < array.length) {
+			modCount++;
 			array[fill++] = item;
 		} else {
 			throw new RanOutOfSpaceError();
@@ -62,6 +75,7 @@ public class FixedSizeList<T> implements P6List<T> {
 		if (fill >= array.length) {
 			throw new RanOutOfSpaceError();
 		}
+		modCount++;
 		// loop backwards, shifting items to the right.
 		for (int j=fill; j>index; j--) {
 			array[j] = array[j-1];
@@ -146,6 +160,92 @@ public class FixedSizeList<T> implements P6List<T> {
 		setIndex(i, getIndex(j));
 		setIndex(j, tmp);
 	}
+	
+	// O(n + k): one shift to make room, one copy to fill it.
+	@Override
+	public void insertAll(int index, Iterable<? extends T> items) {
+		if (index < 0 || index > fill) {
+			throw new BadIndexError();
+		}
+		Object[] added = BulkItems.toArray(items);
+		if (added.length > array.length - fill) {
+			throw new RanOutOfSpaceError();
+		}
+		modCount++;
+		System.arraycopy(array, index, array, index + added.length, fill - index);
+		System.arraycopy(added, 0, array, index, added.length);
+		fill += added.length;
+	}
+	
+	// O(n): one shift to close the gap.
+	@Override
+	public void removeRange(int fromIndex, int toIndex) {
+		BulkItems.checkRange(this, fromIndex, toIndex);
+		modCount++;
+		System.arraycopy(array, toIndex, array, fromIndex, fill - toIndex);
+		int newFill = fill - (toIndex - fromIndex);
+		Arrays.fill(array, newFill, fill, null);
+		fill = newFill;
+	}
+	
+	/**
+	 * Copy ``count`` items from ``items[from]`` onward onto the back of this
+	 * list in one go. {@link ChunkyLinkedList} uses this to fill whole chunks.
+	 * 
+	 * @throws RanOutOfSpaceError if they don't all fit.
+	 */
+	void addBackFrom(Object[] items, int from, int count) {
+		if (count > array.length - fill) {
+			throw new RanOutOfSpaceError();
+		}
+		modCount++;
+		System.arraycopy(items, from, array, fill, count);
+		fill += count;
+	}
+	
+	/**
+	 * The backing array, for {@link ChunkyLinkedList} to iterate over without a
+	 * getIndex call per item. Only the first size() slots are items.
+	 */
+	Object[] items() {
+		return array;
+	}
+	
+	/**
+	 * Splits by index range, O(1) per split.
+	 */
+	@Override
+	public Spliterator<T> spliterator() {
+		return new IndexSpliterator<>(this, () -> modCount);
+	}
 
+	/**
+	 * O(1) per item; fails fast if the list changes underneath it.
+	 */
+	@Override
+	public Iterator<T> iterator() {
+		return new Iter();
+	}
 	
+	private class Iter implements Iterator<T> {
+		int next = 0;
+		final int expectedModCount = modCount;
+
+		@Override
+		public boolean hasNext() {
+			return next < fill;
+		}
+
+		@SuppressWarnings("unchecked")
+		@Override
+		public T next() {
+			if (modCount != expectedModCount) {
+				throw new ConcurrentModificationException();
+			}
+			if (next >= fill) {
+				throw new NoSuchElementException();
+			}
+			return (T) array[next++];
+		}
+	}
 }
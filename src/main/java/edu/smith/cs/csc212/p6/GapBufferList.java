@@ -0,0 +1,317 @@
+package edu.smith.cs.csc212.p6;
+
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+
+import edu.smith.cs.csc212.p6.errors.BadIndexError;
+import edu.smith.cs.csc212.p6.errors.EmptyListError;
+
+/**
+ * A growable array that keeps its unused space (the "gap") wherever the last
+ * edit happened, like the buffer in a text editor. Items before the gap sit at
+ * the start of the array and items after it sit at the end:
+ * 
+ * <pre>
+ * [a, b, c, _, _, _, d, e]   gapStart = 3, gapEnd = 6
+ * </pre>
+ * 
+ * Adding or removing at the gap is O(1); an edit somewhere else first moves the
+ * gap there, which costs O(distance moved). So edits clustered around a moving
+ * cursor are cheap, and getIndex is always O(1).
+ * 
+ * @param <T> the type of item inside the list.
+ */
+public class GapBufferList<T> implements P6List<T> {
+	private Object[] array;
+	/**
+	 * The first empty slot; items [0, gapStart) come before the gap.
+	 */
+	private int gapStart;
+	/**
+	 * The first slot after the gap; items [gapEnd, array.length) come after it.
+	 */
+	private int gapEnd;
+	private GrowthPolicy growth;
+	/**
+	 * Bumped by every add and remove, so iterators can notice.
+	 */
+	private int modCount;
+
+	public GapBufferList() {
+		this(GrowableList.START_SIZE, GrowthPolicy.DOUBLING);
+	}
+
+	/**
+	 * @param initialCapacity how many items fit before the first resize.
+	 * @param growth          how to pick the next capacity when it's full.
+	 */
+	public GapBufferList(int initialCapacity, GrowthPolicy growth) {
+		if (initialCapacity < 0) {
+			throw new IllegalArgumentException("initialCapacity must not be negative: " + initialCapacity);
+		}
+		this.array = new Object[initialCapacity];
+		this.gapStart = 0;
+		this.gapEnd = array.length;
+		this.growth = growth;
+	}
+
+	/**
+	 * Deletes item at index 0 AKA front of list
+	 * 
+	 * O(distance)-moves the gap to the front first
+	 * 
+	 * @return the value of the item that was deleted.
+	 * @throws EmptyListError if the list is empty.
+	 */
+	@Override
+	public T removeFront() {
+		return removeIndex(0);
+	}
+
+	/**
+	 * Deletes last item of list
+	 * 
+	 * O(distance)-moves the gap to the back first
+	 * 
+	 * @return the value of the item that was deleted.
+	 * @throws EmptyListError if the list is empty.
+	 */
+	@Override
+	public T removeBack() {
+		return removeIndex(size()-1);
+	}
+
+	/**
+	 * Removes item at index(int index)
+	 * 
+	 * O(distance)-moves the gap to index, then the item right after the gap is
+	 * swallowed by it
+	 * 
+	 * @return the value of the item that was deleted.
+	 * @throws EmptyListError if the list is empty.
+	 * @param index a number from 0 to size (excluding size).
+	 * @throws BadIndexError  if the index does not exist.
+	 */
+	@Override
+	public T removeIndex(int index) {
+		if (isEmpty()) {
+			throw new EmptyListError();
+		}
+		T removed = getIndex(index);
+		moveGap(index);
+		array[gapEnd] = null;
+		modCount++;
+		gapEnd++;
+		return removed;
+	}
+
+	/**
+	 * Adds item to index 0 AKA front of list
+	 * 
+	 * O(distance)-moves the gap to the front first
+	 * 
+	 * @param item the data to add to the list.
+	 */
+	@Override
+	public void addFront(T item) {
+		addIndex(item, 0);
+	}
+
+	/**
+	 * Add an item to the back of this list.
+	 * 
+	 * O(distance)-moves the gap to the back first, so a run of addBack calls is
+	 * amortized O(1)
+	 * 
+	 * @param item the data to add to the list.
+	 */
+	@Override
+	public void addBack(T item) {
+		addIndex(item, size());
+	}
+
+	/**
+	 * Add an item before ``index`` in this list.
+	 * 
+	 * O(distance)-moves the gap to index, then fills its first slot
+	 * 
+	 * @param item  the data to add to the list.
+	 * @param index the index at which to add the item.
+	 * @throws BadIndexError if the index does not exist.
+	 */
+	@Override
+	public void addIndex(T item, int index) {
+		if (index < 0 || index > size()) {
+			throw new BadIndexError();
+		}
+		if (gapStart == gapEnd) {
+			grow();
+		}
+		moveGap(index);
+		array[gapStart] = item;
+		modCount++;
+		gapStart++;
+	}
+
+	/**
+	 * Get the first item in the list.
+	 * 
+	 * O(1)-constant rate
+	 * 
+	 * @return the item.
+	 * @throws EmptyListError
+	 */
+	@Override
+	public T getFront() {
+		if (isEmpty()) {
+			throw new EmptyListError();
+		}
+		return getIndex(0);
+	}
+
+	/**
+	 * Get the last item in the list.
+	 * 
+	 * O(1)-constant rate
+	 * 
+	 * @return the item.
+	 * @throws EmptyListError
+	 */
+	@Override
+	public T getBack() {
+		if (isEmpty()) {
+			throw new EmptyListError();
+		}
+		return getIndex(size()-1);
+	}
+
+	/**
+	 * Do not allow unchecked warnings in any other method.
+	 * Keep the "guessing" the objects are actually a T here.
+	 * 
+	 * O(1)-items past the gap are just shifted over by its length
+	 * 
+	 * @param index a number from 0 to size, excluding size.
+	 * @return the value at index.
+	 * @throws BadIndexError if the index does not exist.
+	 */
+	@SuppressWarnings("unchecked")
+	@Override
+	public T getIndex(int index) {
+		if (index < 0 || index >= size()) {
+			throw new BadIndexError();
+		}
+		if (index < gapStart) {
+			return (T) array[index];
+		}
+		return (T) array[index + (gapEnd - gapStart)];
+	}
+
+	/**
+	 * Calculate the size of the list.
+	 * 
+	 * O(1)-everything in the array except the gap
+	 * 
+	 * @return the length of the list, or zero if empty.
+	 */
+	@Override
+	public int size() {
+		return array.length - (gapEnd - gapStart);
+	}
+
+	/**
+	 * This is true if the list is empty.
+	 * 
+	 * @return true if the list is empty.
+	 */
+	@Override
+	public boolean isEmpty() {
+		return size() == 0;
+	}
+
+	/**
+	 * Slide the gap so that it starts at ``index``, moving the items in between
+	 * to the other side of it.
+	 * 
+	 * @param index a number from 0 to size, including size.
+	 */
+	private void moveGap(int index) {
+		if (index < gapStart) {
+			// items [index, gapStart) move to just before gapEnd.
+			int count = gapStart - index;
+			System.arraycopy(array, index, array, gapEnd - count, count);
+			clear(index, Math.min(gapStart, gapEnd - count));
+			gapStart = index;
+			gapEnd -= count;
+		} else if (index > gapStart) {
+			// items after the gap, up to index, move to gapStart.
+			int count = index - gapStart;
+			System.arraycopy(array, gapEnd, array, gapStart, count);
+			clear(Math.max(gapEnd, index), gapEnd + count);
+			gapStart += count;
+			gapEnd += count;
+		}
+	}
+
+	/**
+	 * Null out slots that are now part of the gap so they don't hold on to
+	 * garbage.
+	 */
+	private void clear(int from, int to) {
+		for (int i = from; i < to; i++) {
+			array[i] = null;
+		}
+	}
+
+	/**
+	 * Make a bigger array (asking the growth policy, like {@link GrowableList})
+	 * and put all of the new space into the gap.
+	 */
+	private void grow() {
+		Object[] newArray = new Object[growth.nextCapacity(array.length, size()+1)];
+		int after = array.length - gapEnd;
+		System.arraycopy(array, 0, newArray, 0, gapStart);
+		System.arraycopy(array, gapEnd, newArray, newArray.length - after, after);
+		gapEnd = newArray.length - after;
+		array = newArray;
+	}
+
+	/**
+	 * Splits by index range, O(1) per split.
+	 */
+	@Override
+	public Spliterator<T> spliterator() {
+		return new IndexSpliterator<>(this, () -> modCount);
+	}
+
+	/**
+	 * O(1) per item. Fails fast if the list changes underneath it.
+	 */
+	@Override
+	public Iterator<T> iterator() {
+		return new Iter();
+	}
+
+	private class Iter implements Iterator<T> {
+		int next = 0;
+		final int expectedModCount = modCount;
+
+		@Override
+		public boolean hasNext() {
+			return next < size();
+		}
+
+		@Override
+		public T next() {
+			if (modCount != expectedModCount) {
+				throw new ConcurrentModificationException();
+			}
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			return getIndex(next++);
+		}
+	}
+}
@@ -1,31 +1,84 @@
 package edu.smith.cs.csc212.p6;
 
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+
 import edu.smith.cs.csc212.p6.errors.BadIndexError;
 import edu.smith.cs.csc212.p6.errors.EmptyListError;
 import edu.smith.cs.csc212.p6.errors.P6NotImplemented;
 import edu.smith.cs.csc212.p6.errors.RanOutOfSpaceError;
 
+/**
+ * An array that grows when it fills up (doubling, unless you pass a different
+ * {@link GrowthPolicy}). The items are kept in a ring: item 0 lives at
+ * array[head] and later items wrap around past the end of the array, so both
+ * the front and the back can grow or shrink without shifting anything.
+ * 
+ * If you know how many items are coming, pass that to the constructor or call
+ * {@link #ensureCapacity(int)} first and the array never has to be copied.
+ *
+ * @param <T> the type of item inside the list.
+ */
 public class GrowableList<T> implements P6List<T> {
 	public static final int START_SIZE = 32;
 	private Object[] array;
+	/**
+	 * Where item 0 is stored in the array.
+	 */
+	private int head;
 	private int fill;
+	/**
+	 * Bumped by every add and remove, so iterators can notice.
+	 */
+	private int modCount;
+	private GrowthPolicy growth;
 	
 	public GrowableList() {
-		this.array = new Object[START_SIZE];
+		this(START_SIZE);
+	}
+	
+	/**
+	 * @param initialCapacity how many items fit before the first resize.
+	 */
+	public GrowableList(int initialCapacity) {
+		this(initialCapacity, GrowthPolicy.DOUBLING);
+	}
+	
+	/**
+	 * @param initialCapacity how many items fit before the first resize.
+	 * @param growth          how to pick the next capacity when it's full.
+	 */
+	public GrowableList(int initialCapacity, GrowthPolicy growth) {
+		if (initialCapacity < 0) {
+			throw new IllegalArgumentException("initialCapacity must not be negative: " + initialCapacity);
+		}
+		this.array = new Object[initialCapacity];
+		this.head = 0;
 		this.fill = 0;
+		this.growth = growth;
 	}
 
 	/**
 	 * Deletes item at index 0 AKA front of list
 	 * 
-	 * O(n)-indicate some change in growth of function, speed proportional to amt data
+	 * O(1)-just moves head forward, nothing shifts
 	 * 
 	 * @return the value of the item that was deleted.
 	 * @throws EmptyListError if the list is empty.
 	 */
 	@Override
 	public T removeFront() {
-		return removeIndex(0);
+		if (this.size() == 0) {
+			throw new EmptyListError();
+		}
+		T value = this.getIndex(0);
+		this.array[head] = null;
+		head = slot(1);
+		modCount++;
+		fill--;
+		return value;
 	}
 
 	/**
@@ -43,16 +96,17 @@ public class GrowableList<T> implements P6List<T> {
 		}
 		
 		T value = this.getIndex(fill-1);
-		this.array[fill] = null;
+		this.array[slot(fill-1)] = null;
+		modCount++;
 		fill--;
 		return value;
-		
 	}
 
 	/**
 	 * Removes item at index(int index)
 	 * 
 	 * O(n)-indicate some change in growth of function, speed proportional to amt data
+	 * but only the items on the shorter side of index move
 	 * 
 	 * @return the value of the item that was deleted.
 	 * @throws EmptyListError if the list is empty.
@@ -65,53 +119,63 @@ public class GrowableList<T> implements P6List<T> {
 			throw new EmptyListError();
 		}
 		T removed = this.getIndex(index);
-		fill--;
-		for (int i=index; i<fill; i++) {
-			this.array[i] = this.array[i+1];
+		if (index < fill/2) {
+			// close the gap by moving the front items right.
+			shift(0, 1, index);
+			this.array[head] = null;
+			head = slot(1);
+		} else {
+			// close the gap by moving the back items left.
+			shift(index+1, index, fill-1-index);
+			this.array[slot(fill-1)] = null;
 		}
-		this.array[fill] = null;
+		modCount++;
+		fill--;
 		return removed;
 	}
 
 	/**
-	 * Adds item to index 0 AKA front of list using AddIndex method
+	 * Adds item to index 0 AKA front of list
 	 * 
-	 * O(n)-indicate some change in growth of function, speed proportional to amt data
+	 * O(1)-amortized, just moves head back one slot (wrapping around)
 	 * 
 	 * 
 	 * @param item the data to add to the list.
 	 */
 	@Override
 	public void addFront(T item) {
-		addIndex(item, 0);	
+		if (fill >= this.array.length) {
+			grow();
+		}
+		head = (head == 0) ? array.length - 1 : head - 1;
+		this.array[head] = item;
+		modCount++;
+		fill++;
 	}
 
 	/**
 	 * Add an item to the back of this list. The item should be at
 	 * getIndex(size()-1) after this call.
 	 * 
-	 * O(1)-indicate constant rate regardless of amt of data
+	 * O(1)-amortized, constant rate except when the array has to grow
 	 * 
 	 * @param item the data to add to the list.
-	 * @throws RanOutOfSpaceError if number of items in list is over array length
 	 */
 	@Override
 	public void addBack(T item) {
 		if (fill >= this.array.length) { 
-			int newSize=fill*2;
-			Object[] newArray = new Object[newSize];
-			for (int i=0; i<array.length; i++) {
-				newArray[i] = array[i];
-				}
-			array=newArray;
+			grow();
 		}
-		this.array[fill++] = item;
+		this.array[slot(fill)] = item;
+		modCount++;
+		fill++;
 	}
 
 	/**
 	 *  Add an item before ``index`` in this list. 
 	 * 
 	 * O(n)-indicate some change in growth of function, speed proportional to amt data
+	 * but only the items on the shorter side of index move
 	 * 
 	 * 
 	 * @param item  the data to add to the list.
@@ -125,17 +189,18 @@ public class GrowableList<T> implements P6List<T> {
 		}
 		//case where need to make list bigger
 		if (fill >= this.array.length) { 
-			int newSize=fill*2;
-			Object[] newArray = new Object[newSize];
-			for (int i=0; i<array.length; i++) {
-				newArray[i] = array[i];
-			}
-			array=newArray;
+			grow();
 		}
-		for (int j=fill; j>index; j--) {
-			array[j] = array[j-1];
+		if (index < fill/2) {
+			// open a gap by moving the front items left.
+			head = (head == 0) ? array.length - 1 : head - 1;
+			shift(1, 0, index);
+		} else {
+			// open a gap by moving the back items right.
+			shift(index, index+1, fill-index);
 		}
-		array[index] = item;
+		array[slot(index)] = item;
+		modCount++;
 		fill++;		
 	}
 	
@@ -185,6 +250,7 @@ public class GrowableList<T> implements P6List<T> {
 	 * Find the index-th element of this list.
 	 * 
 	 * O(1)-no matter how much data, will execute at constant time
+	 * (head + index, wrapped around)
 	 * 
 	 * @param index a number from 0 to size, excluding size.
 	 * @return the value at index.
@@ -194,7 +260,7 @@ public class GrowableList<T> implements P6List<T> {
 		if (index<0 || index>=size()) {
 			throw new BadIndexError();
 		}
-		return (T) this.array[index];
+		return (T) this.array[slot(index)];
 	}
 
 	/**
@@ -218,8 +284,186 @@ public class GrowableList<T> implements P6List<T> {
 	public boolean isEmpty() {
 		return fill == 0;
 	}
+	
+	/**
+	 * Where the index-th item lives in the array: head + index, wrapped around.
+	 * 
+	 * @param index a number from 0 to array.length, excluding array.length.
+	 * @return a position in the array.
+	 */
+	private int slot(int index) {
+		int at = head + index;
+		return (at >= array.length) ? at - array.length : at;
+	}
+	
+	/**
+	 * Add every item before ``index`` in this list, in order.
+	 * 
+	 * O(n + k)-grows at most once, shifts the back items once and copies the new
+	 * items in with one or two bulk copies
+	 * 
+	 * @param index a number from 0 to size, including size.
+	 * @param items the data to add to the list.
+	 * @throws BadIndexError if the index does not exist.
+	 */
+	@Override
+	public void insertAll(int index, Iterable<? extends T> items) {
+		if (index<0 || index>fill) {
+			throw new BadIndexError();
+		}
+		Object[] added = BulkItems.toArray(items);
+		int count = added.length;
+		if (count == 0) {
+			return;
+		}
+		if (count > array.length - fill) {
+			resize(growth.nextCapacity(array.length, fill+count));
+		}
+		shift(index, index+count, fill-index);
+		int at = slot(index);
+		int firstPart = Math.min(count, array.length - at);
+		System.arraycopy(added, 0, array, at, firstPart);
+		System.arraycopy(added, firstPart, array, 0, count - firstPart);
+		modCount++;
+		fill += count;
+	}
+	
+	/**
+	 * Delete the items from ``fromIndex`` up to (but not including) ``toIndex``.
+	 * 
+	 * O(n)-one shift of the items after the range, no matter how big it is
+	 * 
+	 * @param fromIndex the index of the first item to remove.
+	 * @param toIndex   one past the index of the last item to remove.
+	 * @throws EmptyListError if the list is empty and the range is not.
+	 * @throws BadIndexError  if the range does not fit inside the list.
+	 */
+	@Override
+	public void removeRange(int fromIndex, int toIndex) {
+		BulkItems.checkRange(this, fromIndex, toIndex);
+		int count = toIndex - fromIndex;
+		shift(toIndex, fromIndex, fill-toIndex);
+		for (int i=fill-count; i<fill; i++) {
+			array[slot(i)] = null;
+		}
+		modCount++;
+		fill -= count;
+	}
+	
+	/**
+	 * Make sure at least ``minCapacity`` items fit without another resize.
+	 * 
+	 * O(n) if the array has to be copied, otherwise O(1).
+	 * 
+	 * @param minCapacity how many items need to fit.
+	 */
+	public void ensureCapacity(int minCapacity) {
+		if (minCapacity > array.length) {
+			resize(minCapacity);
+		}
+	}
+	
+	/**
+	 * Shrink the array so it holds exactly size() items, giving back any spare
+	 * room. O(n).
+	 */
+	public void trimToSize() {
+		if (fill < array.length) {
+			resize(fill);
+		}
+	}
+	
+	/**
+	 * The array is full: ask the growth policy for a bigger one.
+	 */
+	private void grow() {
+		resize(growth.nextCapacity(array.length, fill+1));
+	}
+	
+	/**
+	 * Copy the items into a new array of the given length, unwrapping the ring so
+	 * item 0 ends up at array[0]. At most two bulk copies.
+	 * 
+	 * @param capacity the new array length, at least fill.
+	 */
+	private void resize(int capacity) {
+		Object[] newArray = new Object[capacity];
+		int firstPart = Math.min(fill, array.length - head);
+		System.arraycopy(array, head, newArray, 0, firstPart);
+		System.arraycopy(array, 0, newArray, firstPart, fill - firstPart);
+		array = newArray;
+		head = 0;
+	}
+	
+	/**
+	 * Move ``count`` items so the one at index ``from`` ends up at index ``to``,
+	 * like System.arraycopy but for indices in the ring. Each piece that does not
+	 * wrap around the end of the array is moved with one bulk copy.
+	 * 
+	 * @param from  the index of the first item to move.
+	 * @param to    where that item should end up.
+	 * @param count how many items to move.
+	 */
+	private void shift(int from, int to, int count) {
+		if (to < from) {
+			// moving toward the front: copy the front pieces first.
+			int done = 0;
+			while (done < count) {
+				int src = slot(from+done);
+				int dst = slot(to+done);
+				int run = Math.min(count-done, Math.min(array.length-src, array.length-dst));
+				System.arraycopy(array, src, array, dst, run);
+				done += run;
+			}
+		} else {
+			// moving toward the back: copy the back pieces first.
+			int left = count;
+			while (left > 0) {
+				int src = slot(from+left-1);
+				int dst = slot(to+left-1);
+				int run = Math.min(left, Math.min(src+1, dst+1));
+				System.arraycopy(array, src-run+1, array, dst-run+1, run);
+				left -= run;
+			}
+		}
+	}
+
+	/**
+	 * Splits by index range, O(1) per split.
+	 */
+	@Override
+	public Spliterator<T> spliterator() {
+		return new IndexSpliterator<>(this, () -> modCount);
+	}
 
+	/**
+	 * O(1) per item, straight out of the ring. Fails fast if the list changes
+	 * underneath it.
+	 */
+	@Override
+	public Iterator<T> iterator() {
+		return new Iter();
+	}
 
+	private class Iter implements Iterator<T> {
+		int next = 0;
+		final int expectedModCount = modCount;
 
+		@Override
+		public boolean hasNext() {
+			return next < fill;
+		}
 
+		@SuppressWarnings("unchecked")
+		@Override
+		public T next() {
+			if (modCount != expectedModCount) {
+				throw new ConcurrentModificationException();
+			}
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			return (T) array[slot(next++)];
+		}
+	}
 }
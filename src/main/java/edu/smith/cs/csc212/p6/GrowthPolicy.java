@@ -0,0 +1,94 @@
+package edu.smith.cs.csc212.p6;
+
+/**
+ * Decides how big an array-backed list's array should get when it runs out of
+ * room. {@link GrowableList} and {@link GapBufferList} both take one.
+ */
+public interface GrowthPolicy {
+	/**
+	 * The largest array we will ask for; some JVMs refuse arrays right at
+	 * Integer.MAX_VALUE.
+	 */
+	int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+
+	/**
+	 * Double the array every time, which is what GrowableList always did.
+	 */
+	GrowthPolicy DOUBLING = factor(2.0);
+
+	/**
+	 * Pick the next array length.
+	 * 
+	 * @param current the current array length (may be zero).
+	 * @param needed  the smallest length that will do.
+	 * @return a new length, at least {@code needed}.
+	 */
+	int nextCapacity(int current, int needed);
+
+	/**
+	 * Grow by multiplying: 1.5 and 2.0 are the usual choices.
+	 * 
+	 * @param factor how much bigger each new array is; must be more than 1.
+	 * @return the policy.
+	 */
+	static GrowthPolicy factor(double factor) {
+		if (!(factor > 1.0)) {
+			throw new IllegalArgumentException("factor must be more than 1: " + factor);
+		}
+		return (current, needed) -> clamp((long) Math.ceil(current * factor), needed);
+	}
+
+	/**
+	 * Grow by adding the same amount every time. Uses less memory than a factor,
+	 * but a long run of addBack calls becomes O(n^2) copying.
+	 * 
+	 * @param step how many slots to add; must be positive.
+	 * @return the policy.
+	 */
+	static GrowthPolicy additive(int step) {
+		if (step < 1) {
+			throw new IllegalArgumentException("step must be positive: " + step);
+		}
+		return (current, needed) -> clamp((long) current + step, needed);
+	}
+
+	/**
+	 * Grow through a fixed list of lengths, e.g. {@code steps(1000, 100000,
+	 * 10000000)} when you know roughly how big the list will get. Past the last
+	 * step it doubles.
+	 * 
+	 * @param capacities increasing array lengths.
+	 * @return the policy.
+	 */
+	static GrowthPolicy steps(int... capacities) {
+		final int[] copy = capacities.clone();
+		for (int i = 1; i < copy.length; i++) {
+			if (copy[i] <= copy[i - 1]) {
+				throw new IllegalArgumentException("steps must increase: " + copy[i - 1] + ", " + copy[i]);
+			}
+		}
+		return (current, needed) -> {
+			for (int capacity : copy) {
+				if (capacity > current && capacity >= needed) {
+					return capacity;
+				}
+			}
+			return DOUBLING.nextCapacity(current, needed);
+		};
+	}
+
+	/**
+	 * Helper for the policies above: at least {@code needed} (and at least 1), at
+	 * most {@link #MAX_CAPACITY}.
+	 */
+	static int clamp(long proposed, int needed) {
+		long capacity = Math.max(Math.max(proposed, needed), 1);
+		if (capacity > MAX_CAPACITY) {
+			if (needed > MAX_CAPACITY) {
+				throw new OutOfMemoryError("list cannot hold " + needed + " items");
+			}
+			return MAX_CAPACITY;
+		}
+		return (int) capacity;
+	}
+}
@@ -0,0 +1,105 @@
+package edu.smith.cs.csc212.p6;
+
+import java.util.ConcurrentModificationException;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.IntSupplier;
+
+/**
+ * A {@link Spliterator} for lists with an O(1) getIndex: it covers a range of
+ * indices and splits it in half, so a parallel stream hands each thread its
+ * own piece of the array.
+ * 
+ * The range is fixed when the first item is read or the first split is made;
+ * if the list's modCount changes after that, it throws
+ * {@link ConcurrentModificationException}.
+ * 
+ * @param <T> the type of item inside the list.
+ */
+final class IndexSpliterator<T> implements Spliterator<T> {
+	private final P6List<T> list;
+	private final IntSupplier modCount;
+	private int index;
+	/**
+	 * One past the last index we cover, or -1 until we bind to the list.
+	 */
+	private int end;
+	private int expectedModCount;
+
+	/**
+	 * @param list     the list to read with getIndex.
+	 * @param modCount reads the list's modCount.
+	 */
+	IndexSpliterator(P6List<T> list, IntSupplier modCount) {
+		this(list, modCount, 0, -1, 0);
+	}
+
+	private IndexSpliterator(P6List<T> list, IntSupplier modCount, int index, int end, int expectedModCount) {
+		this.list = list;
+		this.modCount = modCount;
+		this.index = index;
+		this.end = end;
+		this.expectedModCount = expectedModCount;
+	}
+
+	/**
+	 * Late-binding: the list may still change between spliterator() and the
+	 * stream actually starting.
+	 */
+	private int end() {
+		if (end < 0) {
+			end = list.size();
+			expectedModCount = modCount.getAsInt();
+		}
+		return end;
+	}
+
+	@Override
+	public boolean tryAdvance(Consumer<? super T> action) {
+		if (index >= end()) {
+			return false;
+		}
+		T item = list.getIndex(index++);
+		action.accept(item);
+		if (modCount.getAsInt() != expectedModCount) {
+			throw new ConcurrentModificationException();
+		}
+		return true;
+	}
+
+	@Override
+	public void forEachRemaining(Consumer<? super T> action) {
+		int stop = end();
+		for (; index < stop; index++) {
+			action.accept(list.getIndex(index));
+		}
+		if (modCount.getAsInt() != expectedModCount) {
+			throw new ConcurrentModificationException();
+		}
+	}
+
+	/**
+	 * O(1)-hands the front half of the range to a new spliterator.
+	 */
+	@Override
+	public Spliterator<T> trySplit() {
+		int stop = end();
+		int mid = (index + stop) >>> 1;
+		if (mid <= index) {
+			return null;
+		}
+		Spliterator<T> front = new IndexSpliterator<>(list, modCount, index, mid, expectedModCount);
+		index = mid;
+		return front;
+	}
+
+	@Override
+	public long estimateSize() {
+		return end() - index;
+	}
+
+	@Override
+	public int characteristics() {
+		return ORDERED | SIZED | SUBSIZED;
+	}
+}
@@ -0,0 +1,472 @@
+package edu.smith.cs.csc212.p6;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+import edu.smith.cs.csc212.p6.errors.BadIndexError;
+import edu.smith.cs.csc212.p6.errors.EmptyListError;
+
+/**
+ * A {@link ChunkyLinkedList} whose chunks are {@link IntFixedSizeList}s, so the
+ * values sit in int[] arrays with no boxing. Works the same way: a chunk
+ * directory for O(log chunks) getIndex, full middle chunks split in half, and
+ * underfull chunks merge with a neighbor.
+ * 
+ * The P6List methods still work (they box and unbox), but the Int methods such
+ * as {@link #getInt(int)} and {@link #addBackInt(int)} only allocate when a new
+ * chunk is needed.
+ */
+public class IntChunkyLinkedList implements P6List<Integer> {
+	private int chunkSize;
+	private int mergeBelow;
+	private SinglyLinkedList<IntFixedSizeList> chunks;
+	private int size;
+	/**
+	 * Bumped by every add and remove, so iterators can notice.
+	 */
+	private int modCount;
+	/**
+	 * Same as in ChunkyLinkedList: directory[i] is the i-th chunk and starts[i]
+	 * the index of its first item, rebuilt lazily after anything but a back
+	 * operation.
+	 */
+	private IntFixedSizeList[] directory;
+	private int[] starts;
+	private int numChunks;
+	private boolean directoryValid;
+
+	public IntChunkyLinkedList(int chunkSize) {
+		this(chunkSize, ChunkyLinkedList.DEFAULT_MERGE_THRESHOLD);
+	}
+
+	/**
+	 * @param chunkSize      how many items fit in each chunk.
+	 * @param mergeThreshold a fraction of chunkSize, from 0 (never merge) to 1.
+	 */
+	public IntChunkyLinkedList(int chunkSize, double mergeThreshold) {
+		if (chunkSize < 1) {
+			throw new IllegalArgumentException("chunkSize must be positive: " + chunkSize);
+		}
+		if (mergeThreshold < 0 || mergeThreshold > 1) {
+			throw new IllegalArgumentException("mergeThreshold must be between 0 and 1: " + mergeThreshold);
+		}
+		this.chunkSize = chunkSize;
+		this.mergeBelow = (int) Math.ceil(chunkSize * mergeThreshold);
+		this.chunks = new SinglyLinkedList<>();
+		this.size = 0;
+		this.directory = new IntFixedSizeList[4];
+		this.starts = new int[4];
+		this.numChunks = 0;
+		this.directoryValid = true;
+	}
+
+	public int removeFrontInt() {
+		checkNotEmpty();
+		IntFixedSizeList chunk = chunks.getFront();
+		int ret = chunk.removeFrontInt();
+		if (chunk.isEmpty()) {
+			chunks.removeFront();
+		}
+		modCount++;
+		size--;
+		directoryValid = false;
+		return ret;
+	}
+
+	public int removeBackInt() {
+		checkNotEmpty();
+		IntFixedSizeList chunk = chunks.getBack();
+		int ret = chunk.removeBackInt();
+		if (chunk.isEmpty()) {
+			chunks.removeBack();
+			if (directoryValid) {
+				numChunks--;
+				directory[numChunks] = null;
+			}
+		}
+		modCount++;
+		size--;
+		return ret;
+	}
+
+	public int removeIndexInt(int index) {
+		checkNotEmpty();
+		if (index < 0 || index >= size) {
+			throw new BadIndexError();
+		}
+		if (index == 0) {
+			return removeFrontInt();
+		}
+		if (index == size - 1) {
+			return removeBackInt();
+		}
+		int which = findChunk(index);
+		IntFixedSizeList chunk = directory[which];
+		int ret = chunk.removeIndexInt(index - starts[which]);
+		if (chunk.isEmpty()) {
+			chunks.removeIndex(which);
+		} else if (chunk.size() < mergeBelow) {
+			mergeWithNeighbor(which);
+		}
+		modCount++;
+		size--;
+		directoryValid = false;
+		return ret;
+	}
+
+	public void addFrontInt(int item) {
+		if (chunks.isEmpty() || chunks.getFront().size() == chunkSize) {
+			chunks.addFront(new IntFixedSizeList(chunkSize));
+		}
+		chunks.getFront().addFrontInt(item);
+		modCount++;
+		size++;
+		directoryValid = false;
+	}
+
+	public void addBackInt(int item) {
+		IntFixedSizeList back;
+		if (chunks.isEmpty() || chunks.getBack().size() == chunkSize) {
+			back = new IntFixedSizeList(chunkSize);
+			if (directoryValid) {
+				appendToDirectory(back, size);
+			}
+			chunks.addBack(back);
+		} else {
+			back = chunks.getBack();
+		}
+		back.addBackInt(item);
+		modCount++;
+		size++;
+	}
+
+	public void addIndexInt(int item, int index) {
+		if (index < 0 || index > size) {
+			throw new BadIndexError();
+		}
+		if (index == 0) {
+			addFrontInt(item);
+			return;
+		}
+		if (index == size) {
+			addBackInt(item);
+			return;
+		}
+		int which = findChunk(index);
+		IntFixedSizeList chunk = directory[which];
+		int local = index - starts[which];
+		if (chunk.size() == chunkSize) {
+			// split the full chunk in half and insert into the right half.
+			IntFixedSizeList upper = new IntFixedSizeList(chunkSize);
+			chunk.moveTailTo(chunk.size() / 2, upper);
+			chunks.addIndex(upper, which + 1);
+			if (local > chunk.size()) {
+				upper.addIndexInt(item, local - chunk.size());
+			} else {
+				chunk.addIndexInt(item, local);
+			}
+		} else {
+			chunk.addIndexInt(item, local);
+		}
+		modCount++;
+		size++;
+		directoryValid = false;
+	}
+
+	/**
+	 * O(log chunks) to binary search the directory, then O(1) inside the chunk.
+	 */
+	public int getInt(int index) {
+		checkNotEmpty();
+		if (index < 0) {
+			throw new BadIndexError();
+		}
+		int which = findChunk(index);
+		return directory[which].getInt(index - starts[which]);
+	}
+
+	public int getFrontInt() {
+		checkNotEmpty();
+		return chunks.getFront().getFrontInt();
+	}
+
+	public int getBackInt() {
+		checkNotEmpty();
+		return chunks.getBack().getBackInt();
+	}
+
+	private int findChunk(int index) {
+		if (!directoryValid) {
+			rebuildDirectory();
+		}
+		int lo = 0;
+		int hi = numChunks - 1;
+		while (lo < hi) {
+			int mid = (lo + hi + 1) >>> 1;
+			if (starts[mid] <= index) {
+				lo = mid;
+			} else {
+				hi = mid - 1;
+			}
+		}
+		if (index >= starts[lo] + directory[lo].size()) {
+			throw new BadIndexError();
+		}
+		return lo;
+	}
+
+	private void appendToDirectory(IntFixedSizeList chunk, int start) {
+		if (numChunks == directory.length) {
+			directory = Arrays.copyOf(directory, numChunks * 2);
+			starts = Arrays.copyOf(starts, numChunks * 2);
+		}
+		directory[numChunks] = chunk;
+		starts[numChunks] = start;
+		numChunks++;
+	}
+
+	private void rebuildDirectory() {
+		Arrays.fill(directory, 0, numChunks, null);
+		numChunks = 0;
+		int start = 0;
+		for (IntFixedSizeList chunk : chunks) {
+			appendToDirectory(chunk, start);
+			start += chunk.size();
+		}
+		directoryValid = true;
+	}
+
+	private void mergeWithNeighbor(int which) {
+		int into;
+		if (which + 1 < numChunks) {
+			into = which;
+		} else if (which > 0) {
+			into = which - 1;
+		} else {
+			return;
+		}
+		IntFixedSizeList keep = directory[into];
+		IntFixedSizeList drop = directory[into + 1];
+		if (keep.size() + drop.size() > chunkSize) {
+			return;
+		}
+		drop.moveTailTo(0, keep);
+		chunks.removeIndex(into + 1);
+	}
+
+	@Override
+	public Integer removeFront() {
+		return removeFrontInt();
+	}
+
+	@Override
+	public Integer removeBack() {
+		return removeBackInt();
+	}
+
+	@Override
+	public Integer removeIndex(int index) {
+		return removeIndexInt(index);
+	}
+
+	@Override
+	public void addFront(Integer item) {
+		addFrontInt(item);
+	}
+
+	@Override
+	public void addBack(Integer item) {
+		addBackInt(item);
+	}
+
+	@Override
+	public void addIndex(Integer item, int index) {
+		addIndexInt(item, index);
+	}
+
+	@Override
+	public Integer getFront() {
+		return getFrontInt();
+	}
+
+	@Override
+	public Integer getBack() {
+		return getBackInt();
+	}
+
+	@Override
+	public Integer getIndex(int index) {
+		return getInt(index);
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	private void checkNotEmpty() {
+		if (this.isEmpty()) {
+			throw new EmptyListError();
+		}
+	}
+
+	/**
+	 * O(1) per item: walks the chunk chain once and reads each chunk's int[]
+	 * directly. Fails fast if the list changes underneath it.
+	 */
+	@Override
+	public PrimitiveIterator.OfInt iterator() {
+		return new Iter();
+	}
+
+	private class Iter implements PrimitiveIterator.OfInt {
+		final Iterator<IntFixedSizeList> nextChunk = chunks.iterator();
+		int[] items = new int[0];
+		int index = 0;
+		int fill = 0;
+		final int expectedModCount = modCount;
+
+		@Override
+		public boolean hasNext() {
+			while (index >= fill && nextChunk.hasNext()) {
+				IntFixedSizeList chunk = nextChunk.next();
+				items = chunk.items();
+				fill = chunk.size();
+				index = 0;
+			}
+			return index < fill;
+		}
+
+		@Override
+		public int nextInt() {
+			if (modCount != expectedModCount) {
+				throw new ConcurrentModificationException();
+			}
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			return items[index++];
+		}
+	}
+
+	/**
+	 * Splits along the chunk chain: each half gets whole chunks, and items are
+	 * read straight out of each chunk's array. O(chunks) to set up, then O(1)
+	 * per split. Fails fast like the iterator.
+	 */
+	@Override
+	public Spliterator.OfInt spliterator() {
+		if (!directoryValid) {
+			rebuildDirectory();
+		}
+		Object[] snapshot = Arrays.copyOf(directory, numChunks);
+		int[] bounds = Arrays.copyOf(starts, numChunks + 1);
+		bounds[numChunks] = size;
+		return new ChunkSpliterator(snapshot, bounds, 0, numChunks, modCount);
+	}
+
+	private class ChunkSpliterator implements Spliterator.OfInt {
+		/**
+		 * The chunks as of spliterator(), and bounds[i] the index of the first item
+		 * in chunk i (with size at the end).
+		 */
+		final Object[] snapshot;
+		final int[] bounds;
+		/**
+		 * We cover chunks [chunk, lastChunk), starting at offset in the first one.
+		 */
+		int chunk;
+		int offset;
+		final int lastChunk;
+		final int expectedModCount;
+
+		ChunkSpliterator(Object[] snapshot, int[] bounds, int chunk, int lastChunk, int expectedModCount) {
+			this.snapshot = snapshot;
+			this.bounds = bounds;
+			this.chunk = chunk;
+			this.offset = 0;
+			this.lastChunk = lastChunk;
+			this.expectedModCount = expectedModCount;
+		}
+
+		@Override
+		public boolean tryAdvance(IntConsumer action) {
+			while (chunk < lastChunk) {
+				IntFixedSizeList current = (IntFixedSizeList) snapshot[chunk];
+				if (offset < current.size()) {
+					action.accept(current.items()[offset++]);
+					checkModCount();
+					return true;
+				}
+				chunk++;
+				offset = 0;
+			}
+			return false;
+		}
+
+		@Override
+		public void forEachRemaining(IntConsumer action) {
+			for (; chunk < lastChunk; chunk++) {
+				IntFixedSizeList current = (IntFixedSizeList) snapshot[chunk];
+				int[] items = current.items();
+				for (int i = offset, n = current.size(); i < n; i++) {
+					action.accept(items[i]);
+				}
+				offset = 0;
+			}
+			checkModCount();
+		}
+
+		@Override
+		public Spliterator.OfInt trySplit() {
+			int mid = (chunk + lastChunk) >>> 1;
+			if (mid <= chunk) {
+				return null;
+			}
+			ChunkSpliterator front = new ChunkSpliterator(snapshot, bounds, chunk, mid, expectedModCount);
+			front.offset = offset;
+			chunk = mid;
+			offset = 0;
+			return front;
+		}
+
+		@Override
+		public long estimateSize() {
+			if (chunk >= lastChunk) {
+				return 0;
+			}
+			return bounds[lastChunk] - bounds[chunk] - offset;
+		}
+
+		@Override
+		public int characteristics() {
+			return ORDERED | SIZED | SUBSIZED;
+		}
+
+		private void checkModCount() {
+			if (modCount != expectedModCount) {
+				throw new ConcurrentModificationException();
+			}
+		}
+	}
+
+	/**
+	 * @return a sequential IntStream of the values; call parallel() on it to
+	 *         spread the chunks across threads.
+	 */
+	public IntStream intStream() {
+		return StreamSupport.intStream(spliterator(), false);
+	}
+}
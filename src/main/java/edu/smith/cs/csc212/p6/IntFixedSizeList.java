@@ -0,0 +1,283 @@
+package edu.smith.cs.csc212.p6;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+import edu.smith.cs.csc212.p6.errors.BadIndexError;
+import edu.smith.cs.csc212.p6.errors.EmptyListError;
+import edu.smith.cs.csc212.p6.errors.RanOutOfSpaceError;
+
+/**
+ * A {@link FixedSizeList} that stores int values directly in an int[], so each
+ * item costs 4 bytes instead of a pointer plus a boxed Integer.
+ * 
+ * The P6List methods still work (they box and unbox), but the Int methods such
+ * as {@link #getInt(int)} and {@link #addBackInt(int)} never allocate. The errors
+ * are the same as FixedSizeList: {@link RanOutOfSpaceError} when it is full,
+ * {@link EmptyListError} and {@link BadIndexError} otherwise.
+ */
+public class IntFixedSizeList implements P6List<Integer> {
+	private int[] array;
+	private int fill;
+	/**
+	 * Bumped by every add and remove, so iterators can notice.
+	 */
+	private int modCount;
+
+	public IntFixedSizeList(int maximumSize) {
+		this.array = new int[maximumSize];
+		this.fill = 0;
+	}
+
+	public int removeFrontInt() {
+		return removeIndexInt(0);
+	}
+
+	public int removeBackInt() {
+		if (this.fill == 0) {
+			throw new EmptyListError();
+		}
+		modCount++;
+		fill--;
+		return array[fill];
+	}
+
+	public int removeIndexInt(int index) {
+		if (this.fill == 0) {
+			throw new EmptyListError();
+		}
+		int removed = this.getInt(index);
+		System.arraycopy(array, index + 1, array, index, fill - index - 1);
+		modCount++;
+		fill--;
+		return removed;
+	}
+
+	public void addFrontInt(int item) {
+		addIndexInt(item, 0);
+	}
+
+	public void addBackInt(int item) {
+		if (fill < array.length) {
+			modCount++;
+			array[fill++] = item;
+		} else {
+			throw new RanOutOfSpaceError();
+		}
+	}
+
+	public void addIndexInt(int item, int index) {
+		if (fill >= array.length) {
+			throw new RanOutOfSpaceError();
+		}
+		if (index < 0 || index > fill) {
+			throw new BadIndexError();
+		}
+		System.arraycopy(array, index, array, index + 1, fill - index);
+		array[index] = item;
+		modCount++;
+		fill++;
+	}
+
+	public int getInt(int index) {
+		if (index < 0 || index >= fill) {
+			throw new BadIndexError();
+		}
+		return this.array[index];
+	}
+
+	public int getFrontInt() {
+		if (this.isEmpty()) {
+			throw new EmptyListError();
+		}
+		return this.array[0];
+	}
+
+	public int getBackInt() {
+		if (this.isEmpty()) {
+			throw new EmptyListError();
+		}
+		return this.array[fill - 1];
+	}
+
+	public void setInt(int index, int item) {
+		if (index >= fill || index < 0) {
+			throw new BadIndexError();
+		}
+		array[index] = item;
+	}
+
+	// O(n); uses Integer.compare so it agrees with Integer.equals.
+	public int find(int item) {
+		for (int i = 0; i < fill; i++) {
+			if (Integer.compare(array[i], item) == 0) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	public void swap(int i, int j) {
+		int tmp = getInt(i);
+		setInt(i, getInt(j));
+		setInt(j, tmp);
+	}
+
+	/**
+	 * @return a copy of the items, in order.
+	 */
+	public int[] toIntArray() {
+		return Arrays.copyOf(array, fill);
+	}
+
+	/**
+	 * Copy ``count`` values from ``items[from]`` onward onto the back of this
+	 * list in one go. {@link IntChunkyLinkedList} uses this to move items between
+	 * chunks.
+	 * 
+	 * @throws RanOutOfSpaceError if they don't all fit.
+	 */
+	void addBackFrom(int[] items, int from, int count) {
+		if (count > array.length - fill) {
+			throw new RanOutOfSpaceError();
+		}
+		System.arraycopy(items, from, array, fill, count);
+		modCount++;
+		fill += count;
+	}
+
+	/**
+	 * Move the items from ``from`` onward to the back of ``other``, leaving
+	 * [0, from) here.
+	 */
+	void moveTailTo(int from, IntFixedSizeList other) {
+		other.addBackFrom(array, from, fill - from);
+		modCount++;
+		fill = from;
+	}
+
+	@Override
+	public void removeRange(int fromIndex, int toIndex) {
+		BulkItems.checkRange(this, fromIndex, toIndex);
+		System.arraycopy(array, toIndex, array, fromIndex, fill - toIndex);
+		modCount++;
+		fill -= toIndex - fromIndex;
+	}
+
+	@Override
+	public Integer removeFront() {
+		return removeFrontInt();
+	}
+
+	@Override
+	public Integer removeBack() {
+		return removeBackInt();
+	}
+
+	@Override
+	public Integer removeIndex(int index) {
+		return removeIndexInt(index);
+	}
+
+	@Override
+	public void addFront(Integer item) {
+		addFrontInt(item);
+	}
+
+	@Override
+	public void addBack(Integer item) {
+		addBackInt(item);
+	}
+
+	@Override
+	public void addIndex(Integer item, int index) {
+		addIndexInt(item, index);
+	}
+
+	@Override
+	public Integer getFront() {
+		return getFrontInt();
+	}
+
+	@Override
+	public Integer getBack() {
+		return getBackInt();
+	}
+
+	@Override
+	public Integer getIndex(int index) {
+		return getInt(index);
+	}
+
+	@Override
+	public int size() {
+		return this.fill;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return this.fill == 0;
+	}
+
+	/**
+	 * The backing array, for {@link IntChunkyLinkedList} to iterate over
+	 * without a getInt call per item. Only the first size() slots are items.
+	 */
+	int[] items() {
+		return array;
+	}
+
+	/**
+	 * O(1) per item, and {@link PrimitiveIterator.OfInt#nextInt()} never boxes.
+	 * Fails fast if the list changes underneath it.
+	 */
+	@Override
+	public PrimitiveIterator.OfInt iterator() {
+		return new Iter();
+	}
+
+	private class Iter implements PrimitiveIterator.OfInt {
+		int next = 0;
+		final int expectedModCount = modCount;
+
+		@Override
+		public boolean hasNext() {
+			return next < fill;
+		}
+
+		@Override
+		public int nextInt() {
+			if (modCount != expectedModCount) {
+				throw new ConcurrentModificationException();
+			}
+			if (next >= fill) {
+				throw new NoSuchElementException();
+			}
+			return array[next++];
+		}
+	}
+
+	/**
+	 * Splits by index range, O(1) per split, and never boxes. Unlike the
+	 * iterator this does not fail fast, so don't change the list while a stream
+	 * over it is running.
+	 */
+	@Override
+	public Spliterator.OfInt spliterator() {
+		return Spliterators.spliterator(array, 0, fill, Spliterator.ORDERED);
+	}
+
+	/**
+	 * @return a sequential IntStream of the values; call parallel() on it to
+	 *         split the work across threads.
+	 */
+	public IntStream intStream() {
+		return StreamSupport.intStream(spliterator(), false);
+	}
+}
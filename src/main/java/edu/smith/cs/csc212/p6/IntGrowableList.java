@@ -0,0 +1,309 @@
+package edu.smith.cs.csc212.p6;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+import edu.smith.cs.csc212.p6.errors.BadIndexError;
+import edu.smith.cs.csc212.p6.errors.EmptyListError;
+
+/**
+ * A {@link GrowableList} that stores int values directly in an int[], so each
+ * item costs 4 bytes instead of a pointer plus a boxed Integer, and the garbage
+ * collector has one array to look at instead of millions of objects.
+ * 
+ * The P6List methods still work (they box and unbox), but the Int methods such
+ * as {@link #getInt(int)} and {@link #addBackInt(int)} never allocate. It grows
+ * with a {@link GrowthPolicy} like GrowableList, but keeps its items at the
+ * start of the array (no ring), since numeric series are mostly appended to.
+ */
+public class IntGrowableList implements P6List<Integer> {
+	private int[] array;
+	private int fill;
+	/**
+	 * Bumped by every add and remove, so iterators can notice.
+	 */
+	private int modCount;
+	private GrowthPolicy growth;
+
+	public IntGrowableList() {
+		this(GrowableList.START_SIZE);
+	}
+
+	/**
+	 * @param initialCapacity how many items fit before the first resize.
+	 */
+	public IntGrowableList(int initialCapacity) {
+		this(initialCapacity, GrowthPolicy.DOUBLING);
+	}
+
+	/**
+	 * @param initialCapacity how many items fit before the first resize.
+	 * @param growth          how to pick the next capacity when it's full.
+	 */
+	public IntGrowableList(int initialCapacity, GrowthPolicy growth) {
+		if (initialCapacity < 0) {
+			throw new IllegalArgumentException("initialCapacity must not be negative: " + initialCapacity);
+		}
+		this.array = new int[initialCapacity];
+		this.fill = 0;
+		this.growth = growth;
+	}
+
+	/**
+	 * O(n)-everything after it shifts left.
+	 */
+	public int removeFrontInt() {
+		return removeIndexInt(0);
+	}
+
+	/**
+	 * O(1)
+	 */
+	public int removeBackInt() {
+		if (fill == 0) {
+			throw new EmptyListError();
+		}
+		modCount++;
+		fill--;
+		return array[fill];
+	}
+
+	/**
+	 * O(n)-one bulk shift of the items after index.
+	 */
+	public int removeIndexInt(int index) {
+		if (fill == 0) {
+			throw new EmptyListError();
+		}
+		int removed = getInt(index);
+		System.arraycopy(array, index + 1, array, index, fill - index - 1);
+		modCount++;
+		fill--;
+		return removed;
+	}
+
+	/**
+	 * O(n)-everything shifts right.
+	 */
+	public void addFrontInt(int item) {
+		addIndexInt(item, 0);
+	}
+
+	/**
+	 * O(1)-amortized.
+	 */
+	public void addBackInt(int item) {
+		if (fill >= array.length) {
+			grow(fill + 1);
+		}
+		modCount++;
+		array[fill++] = item;
+	}
+
+	/**
+	 * O(n)-one bulk shift of the items from index on.
+	 */
+	public void addIndexInt(int item, int index) {
+		if (index < 0 || index > fill) {
+			throw new BadIndexError();
+		}
+		if (fill >= array.length) {
+			grow(fill + 1);
+		}
+		System.arraycopy(array, index, array, index + 1, fill - index);
+		array[index] = item;
+		modCount++;
+		fill++;
+	}
+
+	/**
+	 * O(1)
+	 */
+	public int getInt(int index) {
+		if (index < 0 || index >= fill) {
+			throw new BadIndexError();
+		}
+		return array[index];
+	}
+
+	public int getFrontInt() {
+		if (fill == 0) {
+			throw new EmptyListError();
+		}
+		return array[0];
+	}
+
+	public int getBackInt() {
+		if (fill == 0) {
+			throw new EmptyListError();
+		}
+		return array[fill - 1];
+	}
+
+	public void setInt(int index, int item) {
+		if (index < 0 || index >= fill) {
+			throw new BadIndexError();
+		}
+		array[index] = item;
+	}
+
+	/**
+	 * Append a whole array of values with at most one resize and one bulk copy.
+	 * 
+	 * @param items the values to add to the back, in order.
+	 */
+	public void addAllInt(int[] items) {
+		ensureCapacity(fill + items.length);
+		System.arraycopy(items, 0, array, fill, items.length);
+		modCount++;
+		fill += items.length;
+	}
+
+	/**
+	 * @return a copy of the items, in order.
+	 */
+	public int[] toIntArray() {
+		return Arrays.copyOf(array, fill);
+	}
+
+	/**
+	 * Make sure at least ``minCapacity`` items fit without another resize.
+	 * 
+	 * @param minCapacity how many items need to fit.
+	 */
+	public void ensureCapacity(int minCapacity) {
+		if (minCapacity > array.length) {
+			array = Arrays.copyOf(array, minCapacity);
+		}
+	}
+
+	/**
+	 * Shrink the array so it holds exactly size() items.
+	 */
+	public void trimToSize() {
+		if (fill < array.length) {
+			array = Arrays.copyOf(array, fill);
+		}
+	}
+
+	private void grow(int needed) {
+		array = Arrays.copyOf(array, growth.nextCapacity(array.length, needed));
+	}
+
+	@Override
+	public void removeRange(int fromIndex, int toIndex) {
+		BulkItems.checkRange(this, fromIndex, toIndex);
+		System.arraycopy(array, toIndex, array, fromIndex, fill - toIndex);
+		modCount++;
+		fill -= toIndex - fromIndex;
+	}
+
+	@Override
+	public Integer removeFront() {
+		return removeFrontInt();
+	}
+
+	@Override
+	public Integer removeBack() {
+		return removeBackInt();
+	}
+
+	@Override
+	public Integer removeIndex(int index) {
+		return removeIndexInt(index);
+	}
+
+	@Override
+	public void addFront(Integer item) {
+		addFrontInt(item);
+	}
+
+	@Override
+	public void addBack(Integer item) {
+		addBackInt(item);
+	}
+
+	@Override
+	public void addIndex(Integer item, int index) {
+		addIndexInt(item, index);
+	}
+
+	@Override
+	public Integer getFront() {
+		return getFrontInt();
+	}
+
+	@Override
+	public Integer getBack() {
+		return getBackInt();
+	}
+
+	@Override
+	public Integer getIndex(int index) {
+		return getInt(index);
+	}
+
+	@Override
+	public int size() {
+		return fill;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return fill == 0;
+	}
+
+	/**
+	 * O(1) per item, and {@link PrimitiveIterator.OfInt#nextInt()} never boxes.
+	 * Fails fast if the list changes underneath it.
+	 */
+	@Override
+	public PrimitiveIterator.OfInt iterator() {
+		return new Iter();
+	}
+
+	private class Iter implements PrimitiveIterator.OfInt {
+		int next = 0;
+		final int expectedModCount = modCount;
+
+		@Override
+		public boolean hasNext() {
+			return next < fill;
+		}
+
+		@Override
+		public int nextInt() {
+			if (modCount != expectedModCount) {
+				throw new ConcurrentModificationException();
+			}
+			if (next >= fill) {
+				throw new NoSuchElementException();
+			}
+			return array[next++];
+		}
+	}
+
+	/**
+	 * Splits by index range, O(1) per split, and never boxes. Unlike the
+	 * iterator this does not fail fast, so don't change the list while a stream
+	 * over it is running.
+	 */
+	@Override
+	public Spliterator.OfInt spliterator() {
+		return Spliterators.spliterator(array, 0, fill, Spliterator.ORDERED);
+	}
+
+	/**
+	 * @return a sequential IntStream of the values; call parallel() on it to
+	 *         split the work across threads.
+	 */
+	public IntStream intStream() {
+		return StreamSupport.intStream(spliterator(), false);
+	}
+}
@@ -0,0 +1,472 @@
+package edu.smith.cs.csc212.p6;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.function.LongConsumer;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
+
+import edu.smith.cs.csc212.p6.errors.BadIndexError;
+import edu.smith.cs.csc212.p6.errors.EmptyListError;
+
+/**
+ * A {@link ChunkyLinkedList} whose chunks are {@link LongFixedSizeList}s, so the
+ * values sit in long[] arrays with no boxing. Works the same way: a chunk
+ * directory for O(log chunks) getIndex, full middle chunks split in half, and
+ * underfull chunks merge with a neighbor.
+ * 
+ * The P6List methods still work (they box and unbox), but the Long methods such
+ * as {@link #getLong(int)} and {@link #addBackLong(long)} only allocate when a new
+ * chunk is needed.
+ */
+public class LongChunkyLinkedList implements P6List<Long> {
+	private int chunkSize;
+	private int mergeBelow;
+	private SinglyLinkedList<LongFixedSizeList> chunks;
+	private int size;
+	/**
+	 * Bumped by every add and remove, so iterators can notice.
+	 */
+	private int modCount;
+	/**
+	 * Same as in ChunkyLinkedList: directory[i] is the i-th chunk and starts[i]
+	 * the index of its first item, rebuilt lazily after anything but a back
+	 * operation.
+	 */
+	private LongFixedSizeList[] directory;
+	private int[] starts;
+	private int numChunks;
+	private boolean directoryValid;
+
+	public LongChunkyLinkedList(int chunkSize) {
+		this(chunkSize, ChunkyLinkedList.DEFAULT_MERGE_THRESHOLD);
+	}
+
+	/**
+	 * @param chunkSize      how many items fit in each chunk.
+	 * @param mergeThreshold a fraction of chunkSize, from 0 (never merge) to 1.
+	 */
+	public LongChunkyLinkedList(int chunkSize, double mergeThreshold) {
+		if (chunkSize < 1) {
+			throw new IllegalArgumentException("chunkSize must be positive: " + chunkSize);
+		}
+		if (mergeThreshold < 0 || mergeThreshold > 1) {
+			throw new IllegalArgumentException("mergeThreshold must be between 0 and 1: " + mergeThreshold);
+		}
+		this.chunkSize = chunkSize;
+		this.mergeBelow = (int) Math.ceil(chunkSize * mergeThreshold);
+		this.chunks = new SinglyLinkedList<>();
+		this.size = 0;
+		this.directory = new LongFixedSizeList[4];
+		this.starts = new int[4];
+		this.numChunks = 0;
+		this.directoryValid = true;
+	}
+
+	public long removeFrontLong() {
+		checkNotEmpty();
+		LongFixedSizeList chunk = chunks.getFront();
+		long ret = chunk.removeFrontLong();
+		if (chunk.isEmpty()) {
+			chunks.removeFront();
+		}
+		modCount++;
+		size--;
+		directoryValid = false;
+		return ret;
+	}
+
+	public long removeBackLong() {
+		checkNotEmpty();
+		LongFixedSizeList chunk = chunks.getBack();
+		long ret = chunk.removeBackLong();
+		if (chunk.isEmpty()) {
+			chunks.removeBack();
+			if (directoryValid) {
+				numChunks--;
+				directory[numChunks] = null;
+			}
+		}
+		modCount++;
+		size--;
+		return ret;
+	}
+
+	public long removeIndexLong(int index) {
+		checkNotEmpty();
+		if (index < 0 || index >= size) {
+			throw new BadIndexError();
+		}
+		if (index == 0) {
+			return removeFrontLong();
+		}
+		if (index == size - 1) {
+			return removeBackLong();
+		}
+		int which = findChunk(index);
+		LongFixedSizeList chunk = directory[which];
+		long ret = chunk.removeIndexLong(index - starts[which]);
+		if (chunk.isEmpty()) {
+			chunks.removeIndex(which);
+		} else if (chunk.size() < mergeBelow) {
+			mergeWithNeighbor(which);
+		}
+		modCount++;
+		size--;
+		directoryValid = false;
+		return ret;
+	}
+
+	public void addFrontLong(long item) {
+		if (chunks.isEmpty() || chunks.getFront().size() == chunkSize) {
+			chunks.addFront(new LongFixedSizeList(chunkSize));
+		}
+		chunks.getFront().addFrontLong(item);
+		modCount++;
+		size++;
+		directoryValid = false;
+	}
+
+	public void addBackLong(long item) {
+		LongFixedSizeList back;
+		if (chunks.isEmpty() || chunks.getBack().size() == chunkSize) {
+			back = new LongFixedSizeList(chunkSize);
+			if (directoryValid) {
+				appendToDirectory(back, size);
+			}
+			chunks.addBack(back);
+		} else {
+			back = chunks.getBack();
+		}
+		back.addBackLong(item);
+		modCount++;
+		size++;
+	}
+
+	public void addIndexLong(long item, int index) {
+		if (index < 0 || index > size) {
+			throw new BadIndexError();
+		}
+		if (index == 0) {
+			addFrontLong(item);
+			return;
+		}
+		if (index == size) {
+			addBackLong(item);
+			return;
+		}
+		int which = findChunk(index);
+		LongFixedSizeList chunk = directory[which];
+		int local = index - starts[which];
+		if (chunk.size() == chunkSize) {
+			// split the full chunk in half and insert into the right half.
+			LongFixedSizeList upper = new LongFixedSizeList(chunkSize);
+			chunk.moveTailTo(chunk.size() / 2, upper);
+			chunks.addIndex(upper, which + 1);
+			if (local > chunk.size()) {
+				upper.addIndexLong(item, local - chunk.size());
+			} else {
+				chunk.addIndexLong(item, local);
+			}
+		} else {
+			chunk.addIndexLong(item, local);
+		}
+		modCount++;
+		size++;
+		directoryValid = false;
+	}
+
+	/**
+	 * O(log chunks) to binary search the directory, then O(1) inside the chunk.
+	 */
+	public long getLong(int index) {
+		checkNotEmpty();
+		if (index < 0) {
+			throw new BadIndexError();
+		}
+		int which = findChunk(index);
+		return directory[which].getLong(index - starts[which]);
+	}
+
+	public long getFrontLong() {
+		checkNotEmpty();
+		return chunks.getFront().getFrontLong();
+	}
+
+	public long getBackLong() {
+		checkNotEmpty();
+		return chunks.getBack().getBackLong();
+	}
+
+	private int findChunk(int index) {
+		if (!directoryValid) {
+			rebuildDirectory();
+		}
+		int lo = 0;
+		int hi = numChunks - 1;
+		while (lo < hi) {
+			int mid = (lo + hi + 1) >>> 1;
+			if (starts[mid] <= index) {
+				lo = mid;
+			} else {
+				hi = mid - 1;
+			}
+		}
+		if (index >= starts[lo] + directory[lo].size()) {
+			throw new BadIndexError();
+		}
+		return lo;
+	}
+
+	private void appendToDirectory(LongFixedSizeList chunk, int start) {
+		if (numChunks == directory.length) {
+			directory = Arrays.copyOf(directory, numChunks * 2);
+			starts = Arrays.copyOf(starts, numChunks * 2);
+		}
+		directory[numChunks] = chunk;
+		starts[numChunks] = start;
+		numChunks++;
+	}
+
+	private void rebuildDirectory() {
+		Arrays.fill(directory, 0, numChunks, null);
+		numChunks = 0;
+		int start = 0;
+		for (LongFixedSizeList chunk : chunks) {
+			appendToDirectory(chunk, start);
+			start += chunk.size();
+		}
+		directoryValid = true;
+	}
+
+	private void mergeWithNeighbor(int which) {
+		int into;
+		if (which + 1 < numChunks) {
+			into = which;
+		} else if (which > 0) {
+			into = which - 1;
+		} else {
+			return;
+		}
+		LongFixedSizeList keep = directory[into];
+		LongFixedSizeList drop = directory[into + 1];
+		if (keep.size() + drop.size() > chunkSize) {
+			return;
+		}
+		drop.moveTailTo(0, keep);
+		chunks.removeIndex(into + 1);
+	}
+
+	@Override
+	public Long removeFront() {
+		return removeFrontLong();
+	}
+
+	@Override
+	public Long removeBack() {
+		return removeBackLong();
+	}
+
+	@Override
+	public Long removeIndex(int index) {
+		return removeIndexLong(index);
+	}
+
+	@Override
+	public void addFront(Long item) {
+		addFrontLong(item);
+	}
+
+	@Override
+	public void addBack(Long item) {
+		addBackLong(item);
+	}
+
+	@Override
+	public void addIndex(Long item, int index) {
+		addIndexLong(item, index);
+	}
+
+	@Override
+	public Long getFront() {
+		return getFrontLong();
+	}
+
+	@Override
+	public Long getBack() {
+		return getBackLong();
+	}
+
+	@Override
+	public Long getIndex(int index) {
+		return getLong(index);
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	private void checkNotEmpty() {
+		if (this.isEmpty()) {
+			throw new EmptyListError();
+		}
+	}
+
+	/**
+	 * O(1) per item: walks the chunk chain once and reads each chunk's long[]
+	 * directly. Fails fast if the list changes underneath it.
+	 */
+	@Override
+	public PrimitiveIterator.OfLong iterator() {
+		return new Iter();
+	}
+
+	private class Iter implements PrimitiveIterator.OfLong {
+		final Iterator<LongFixedSizeList> nextChunk = chunks.iterator();
+		long[] items = new long[0];
+		int index = 0;
+		int fill = 0;
+		final int expectedModCount = modCount;
+
+		@Override
+		public boolean hasNext() {
+			while (index >= fill && nextChunk.hasNext()) {
+				LongFixedSizeList chunk = nextChunk.next();
+				items = chunk.items();
+				fill = chunk.size();
+				index = 0;
+			}
+			return index < fill;
+		}
+
+		@Override
+		public long nextLong() {
+			if (modCount != expectedModCount) {
+				throw new ConcurrentModificationException();
+			}
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			return items[index++];
+		}
+	}
+
+	/**
+	 * Splits along the chunk chain: each half gets whole chunks, and items are
+	 * read straight out of each chunk's array. O(chunks) to set up, then O(1)
+	 * per split. Fails fast like the iterator.
+	 */
+	@Override
+	public Spliterator.OfLong spliterator() {
+		if (!directoryValid) {
+			rebuildDirectory();
+		}
+		Object[] snapshot = Arrays.copyOf(directory, numChunks);
+		int[] bounds = Arrays.copyOf(starts, numChunks + 1);
+		bounds[numChunks] = size;
+		return new ChunkSpliterator(snapshot, bounds, 0, numChunks, modCount);
+	}
+
+	private class ChunkSpliterator implements Spliterator.OfLong {
+		/**
+		 * The chunks as of spliterator(), and bounds[i] the index of the first item
+		 * in chunk i (with size at the end).
+		 */
+		final Object[] snapshot;
+		final int[] bounds;
+		/**
+		 * We cover chunks [chunk, lastChunk), starting at offset in the first one.
+		 */
+		int chunk;
+		int offset;
+		final int lastChunk;
+		final int expectedModCount;
+
+		ChunkSpliterator(Object[] snapshot, int[] bounds, int chunk, int lastChunk, int expectedModCount) {
+			this.snapshot = snapshot;
+			this.bounds = bounds;
+			this.chunk = chunk;
+			this.offset = 0;
+			this.lastChunk = lastChunk;
+			this.expectedModCount = expectedModCount;
+		}
+
+		@Override
+		public boolean tryAdvance(LongConsumer action) {
+			while (chunk < lastChunk) {
+				LongFixedSizeList current = (LongFixedSizeList) snapshot[chunk];
+				if (offset < current.size()) {
+					action.accept(current.items()[offset++]);
+					checkModCount();
+					return true;
+				}
+				chunk++;
+				offset = 0;
+			}
+			return false;
+		}
+
+		@Override
+		public void forEachRemaining(LongConsumer action) {
+			for (; chunk < lastChunk; chunk++) {
+				LongFixedSizeList current = (LongFixedSizeList) snapshot[chunk];
+				long[] items = current.items();
+				for (int i = offset, n = current.size(); i < n; i++) {
+					action.accept(items[i]);
+				}
+				offset = 0;
+			}
+			checkModCount();
+		}
+
+		@Override
+		public Spliterator.OfLong trySplit() {
+			int mid = (chunk + lastChunk) >>> 1;
+			if (mid <= chunk) {
+				return null;
+			}
+			ChunkSpliterator front = new ChunkSpliterator(snapshot, bounds, chunk, mid, expectedModCount);
+			front.offset = offset;
+			chunk = mid;
+			offset = 0;
+			return front;
+		}
+
+		@Override
+		public long estimateSize() {
+			if (chunk >= lastChunk) {
+				return 0;
+			}
+			return bounds[lastChunk] - bounds[chunk] - offset;
+		}
+
+		@Override
+		public int characteristics() {
+			return ORDERED | SIZED | SUBSIZED;
+		}
+
+		private void checkModCount() {
+			if (modCount != expectedModCount) {
+				throw new ConcurrentModificationException();
+			}
+		}
+	}
+
+	/**
+	 * @return a sequential LongStream of the values; call parallel() on it to
+	 *         spread the chunks across threads.
+	 */
+	public LongStream longStream() {
+		return StreamSupport.longStream(spliterator(), false);
+	}
+}
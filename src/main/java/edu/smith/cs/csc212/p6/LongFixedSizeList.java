@@ -0,0 +1,283 @@
+package edu.smith.cs.csc212.p6;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
+
+import edu.smith.cs.csc212.p6.errors.BadIndexError;
+import edu.smith.cs.csc212.p6.errors.EmptyListError;
+import edu.smith.cs.csc212.p6.errors.RanOutOfSpaceError;
+
+/**
+ * A {@link FixedSizeList} that stores long values directly in a long[], so each
+ * item costs 8 bytes instead of a pointer plus a boxed Long.
+ * 
+ * The P6List methods still work (they box and unbox), but the Long methods such
+ * as {@link #getLong(int)} and {@link #addBackLong(long)} never allocate. The errors
+ * are the same as FixedSizeList: {@link RanOutOfSpaceError} when it is full,
+ * {@link EmptyListError} and {@link BadIndexError} otherwise.
+ */
+public class LongFixedSizeList implements P6List<Long> {
+	private long[] array;
+	private int fill;
+	/**
+	 * Bumped by every add and remove, so iterators can notice.
+	 */
+	private int modCount;
+
+	public LongFixedSizeList(int maximumSize) {
+		this.array = new long[maximumSize];
+		this.fill = 0;
+	}
+
+	public long removeFrontLong() {
+		return removeIndexLong(0);
+	}
+
+	public long removeBackLong() {
+		if (this.fill == 0) {
+			throw new EmptyListError();
+		}
+		modCount++;
+		fill--;
+		return array[fill];
+	}
+
+	public long removeIndexLong(int index) {
+		if (this.fill == 0) {
+			throw new EmptyListError();
+		}
+		long removed = this.getLong(index);
+		System.arraycopy(array, index + 1, array, index, fill - index - 1);
+		modCount++;
+		fill--;
+		return removed;
+	}
+
+	public void addFrontLong(long item) {
+		addIndexLong(item, 0);
+	}
+
+	public void addBackLong(long item) {
+		if (fill < array.length) {
+			modCount++;
+			array[fill++] = item;
+		} else {
+			throw new RanOutOfSpaceError();
+		}
+	}
+
+	public void addIndexLong(long item, int index) {
+		if (fill >= array.length) {
+			throw new RanOutOfSpaceError();
+		}
+		if (index < 0 || index > fill) {
+			throw new BadIndexError();
+		}
+		System.arraycopy(array, index, array, index + 1, fill - index);
+		array[index] = item;
+		modCount++;
+		fill++;
+	}
+
+	public long getLong(int index) {
+		if (index < 0 || index >= fill) {
+			throw new BadIndexError();
+		}
+		return this.array[index];
+	}
+
+	public long getFrontLong() {
+		if (this.isEmpty()) {
+			throw new EmptyListError();
+		}
+		return this.array[0];
+	}
+
+	public long getBackLong() {
+		if (this.isEmpty()) {
+			throw new EmptyListError();
+		}
+		return this.array[fill - 1];
+	}
+
+	public void setLong(int index, long item) {
+		if (index >= fill || index < 0) {
+			throw new BadIndexError();
+		}
+		array[index] = item;
+	}
+
+	// O(n); uses Long.compare so it agrees with Long.equals.
+	public int find(long item) {
+		for (int i = 0; i < fill; i++) {
+			if (Long.compare(array[i], item) == 0) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	public void swap(int i, int j) {
+		long tmp = getLong(i);
+		setLong(i, getLong(j));
+		setLong(j, tmp);
+	}
+
+	/**
+	 * @return a copy of the items, in order.
+	 */
+	public long[] toLongArray() {
+		return Arrays.copyOf(array, fill);
+	}
+
+	/**
+	 * Copy ``count`` values from ``items[from]`` onward onto the back of this
+	 * list in one go. {@link LongChunkyLinkedList} uses this to move items between
+	 * chunks.
+	 * 
+	 * @throws RanOutOfSpaceError if they don't all fit.
+	 */
+	void addBackFrom(long[] items, int from, int count) {
+		if (count > array.length - fill) {
+			throw new RanOutOfSpaceError();
+		}
+		System.arraycopy(items, from, array, fill, count);
+		modCount++;
+		fill += count;
+	}
+
+	/**
+	 * Move the items from ``from`` onward to the back of ``other``, leaving
+	 * [0, from) here.
+	 */
+	void moveTailTo(int from, LongFixedSizeList other) {
+		other.addBackFrom(array, from, fill - from);
+		modCount++;
+		fill = from;
+	}
+
+	@Override
+	public void removeRange(int fromIndex, int toIndex) {
+		BulkItems.checkRange(this, fromIndex, toIndex);
+		System.arraycopy(array, toIndex, array, fromIndex, fill - toIndex);
+		modCount++;
+		fill -= toIndex - fromIndex;
+	}
+
+	@Override
+	public Long removeFront() {
+		return removeFrontLong();
+	}
+
+	@Override
+	public Long removeBack() {
+		return removeBackLong();
+	}
+
+	@Override
+	public Long removeIndex(int index) {
+		return removeIndexLong(index);
+	}
+
+	@Override
+	public void addFront(Long item) {
+		addFrontLong(item);
+	}
+
+	@Override
+	public void addBack(Long item) {
+		addBackLong(item);
+	}
+
+	@Override
+	public void addIndex(Long item, int index) {
+		addIndexLong(item, index);
+	}
+
+	@Override
+	public Long getFront() {
+		return getFrontLong();
+	}
+
+	@Override
+	public Long getBack() {
+		return getBackLong();
+	}
+
+	@Override
+	public Long getIndex(int index) {
+		return getLong(index);
+	}
+
+	@Override
+	public int size() {
+		return this.fill;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return this.fill == 0;
+	}
+
+	/**
+	 * The backing array, for {@link LongChunkyLinkedList} to iterate over
+	 * without a getLong call per item. Only the first size() slots are items.
+	 */
+	long[] items() {
+		return array;
+	}
+
+	/**
+	 * O(1) per item, and {@link PrimitiveIterator.OfLong#nextLong()} never boxes.
+	 * Fails fast if the list changes underneath it.
+	 */
+	@Override
+	public PrimitiveIterator.OfLong iterator() {
+		return new Iter();
+	}
+
+	private class Iter implements PrimitiveIterator.OfLong {
+		int next = 0;
+		final int expectedModCount = modCount;
+
+		@Override
+		public boolean hasNext() {
+			return next < fill;
+		}
+
+		@Override
+		public long nextLong() {
+			if (modCount != expectedModCount) {
+				throw new ConcurrentModificationException();
+			}
+			if (next >= fill) {
+				throw new NoSuchElementException();
+			}
+			return array[next++];
+		}
+	}
+
+	/**
+	 * Splits by index range, O(1) per split, and never boxes. Unlike the
+	 * iterator this does not fail fast, so don't change the list while a stream
+	 * over it is running.
+	 */
+	@Override
+	public Spliterator.OfLong spliterator() {
+		return Spliterators.spliterator(array, 0, fill, Spliterator.ORDERED);
+	}
+
+	/**
+	 * @return a sequential LongStream of the values; call parallel() on it to
+	 *         split the work across threads.
+	 */
+	public LongStream longStream() {
+		return StreamSupport.longStream(spliterator(), false);
+	}
+}
@@ -0,0 +1,309 @@
+package edu.smith.cs.csc212.p6;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
+
+import edu.smith.cs.csc212.p6.errors.BadIndexError;
+import edu.smith.cs.csc212.p6.errors.EmptyListError;
+
+/**
+ * A {@link GrowableList} that stores long values directly in a long[], so each
+ * item costs 8 bytes instead of a pointer plus a boxed Long, and the garbage
+ * collector has one array to look at instead of millions of objects.
+ * 
+ * The P6List methods still work (they box and unbox), but the Long methods such
+ * as {@link #getLong(int)} and {@link #addBackLong(long)} never allocate. It grows
+ * with a {@link GrowthPolicy} like GrowableList, but keeps its items at the
+ * start of the array (no ring), since numeric series are mostly appended to.
+ */
+public class LongGrowableList implements P6List<Long> {
+	private long[] array;
+	private int fill;
+	/**
+	 * Bumped by every add and remove, so iterators can notice.
+	 */
+	private int modCount;
+	private GrowthPolicy growth;
+
+	public LongGrowableList() {
+		this(GrowableList.START_SIZE);
+	}
+
+	/**
+	 * @param initialCapacity how many items fit before the first resize.
+	 */
+	public LongGrowableList(int initialCapacity) {
+		this(initialCapacity, GrowthPolicy.DOUBLING);
+	}
+
+	/**
+	 * @param initialCapacity how many items fit before the first resize.
+	 * @param growth          how to pick the next capacity when it's full.
+	 */
+	public LongGrowableList(int initialCapacity, GrowthPolicy growth) {
+		if (initialCapacity < 0) {
+			throw new IllegalArgumentException("initialCapacity must not be negative: " + initialCapacity);
+		}
+		this.array = new long[initialCapacity];
+		this.fill = 0;
+		this.growth = growth;
+	}
+
+	/**
+	 * O(n)-everything after it shifts left.
+	 */
+	public long removeFrontLong() {
+		return removeIndexLong(0);
+	}
+
+	/**
+	 * O(1)
+	 */
+	public long removeBackLong() {
+		if (fill == 0) {
+			throw new EmptyListError();
+		}
+		modCount++;
+		fill--;
+		return array[fill];
+	}
+
+	/**
+	 * O(n)-one bulk shift of the items after index.
+	 */
+	public long removeIndexLong(int index) {
+		if (fill == 0) {
+			throw new EmptyListError();
+		}
+		long removed = getLong(index);
+		System.arraycopy(array, index + 1, array, index, fill - index - 1);
+		modCount++;
+		fill--;
+		return removed;
+	}
+
+	/**
+	 * O(n)-everything shifts right.
+	 */
+	public void addFrontLong(long item) {
+		addIndexLong(item, 0);
+	}
+
+	/**
+	 * O(1)-amortized.
+	 */
+	public void addBackLong(long item) {
+		if (fill >= array.length) {
+			grow(fill + 1);
+		}
+		modCount++;
+		array[fill++] = item;
+	}
+
+	/**
+	 * O(n)-one bulk shift of the items from index on.
+	 */
+	public void addIndexLong(long item, int index) {
+		if (index < 0 || index > fill) {
+			throw new BadIndexError();
+		}
+		if (fill >= array.length) {
+			grow(fill + 1);
+		}
+		System.arraycopy(array, index, array, index + 1, fill - index);
+		array[index] = item;
+		modCount++;
+		fill++;
+	}
+
+	/**
+	 * O(1)
+	 */
+	public long getLong(int index) {
+		if (index < 0 || index >= fill) {
+			throw new BadIndexError();
+		}
+		return array[index];
+	}
+
+	public long getFrontLong() {
+		if (fill == 0) {
+			throw new EmptyListError();
+		}
+		return array[0];
+	}
+
+	public long getBackLong() {
+		if (fill == 0) {
+			throw new EmptyListError();
+		}
+		return array[fill - 1];
+	}
+
+	public void setLong(int index, long item) {
+		if (index < 0 || index >= fill) {
+			throw new BadIndexError();
+		}
+		array[index] = item;
+	}
+
+	/**
+	 * Append a whole array of values with at most one resize and one bulk copy.
+	 * 
+	 * @param items the values to add to the back, in order.
+	 */
+	public void addAllLong(long[] items) {
+		ensureCapacity(fill + items.length);
+		System.arraycopy(items, 0, array, fill, items.length);
+		modCount++;
+		fill += items.length;
+	}
+
+	/**
+	 * @return a copy of the items, in order.
+	 */
+	public long[] toLongArray() {
+		return Arrays.copyOf(array, fill);
+	}
+
+	/**
+	 * Make sure at least ``minCapacity`` items fit without another resize.
+	 * 
+	 * @param minCapacity how many items need to fit.
+	 */
+	public void ensureCapacity(int minCapacity) {
+		if (minCapacity > array.length) {
+			array = Arrays.copyOf(array, minCapacity);
+		}
+	}
+
+	/**
+	 * Shrink the array so it holds exactly size() items.
+	 */
+	public void trimToSize() {
+		if (fill < array.length) {
+			array = Arrays.copyOf(array, fill);
+		}
+	}
+
+	private void grow(int needed) {
+		array = Arrays.copyOf(array, growth.nextCapacity(array.length, needed));
+	}
+
+	@Override
+	public void removeRange(int fromIndex, int toIndex) {
+		BulkItems.checkRange(this, fromIndex, toIndex);
+		System.arraycopy(array, toIndex, array, fromIndex, fill - toIndex);
+		modCount++;
+		fill -= toIndex - fromIndex;
+	}
+
+	@Override
+	public Long removeFront() {
+		return removeFrontLong();
+	}
+
+	@Override
+	public Long removeBack() {
+		return removeBackLong();
+	}
+
+	@Override
+	public Long removeIndex(int index) {
+		return removeIndexLong(index);
+	}
+
+	@Override
+	public void addFront(Long item) {
+		addFrontLong(item);
+	}
+
+	@Override
+	public void addBack(Long item) {
+		addBackLong(item);
+	}
+
+	@Override
+	public void addIndex(Long item, int index) {
+		addIndexLong(item, index);
+	}
+
+	@Override
+	public Long getFront() {
+		return getFrontLong();
+	}
+
+	@Override
+	public Long getBack() {
+		return getBackLong();
+	}
+
+	@Override
+	public Long getIndex(int index) {
+		return getLong(index);
+	}
+
+	@Override
+	public int size() {
+		return fill;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return fill == 0;
+	}
+
+	/**
+	 * O(1) per item, and {@link PrimitiveIterator.OfLong#nextLong()} never boxes.
+	 * Fails fast if the list changes underneath it.
+	 */
+	@Override
+	public PrimitiveIterator.OfLong iterator() {
+		return new Iter();
+	}
+
+	private class Iter implements PrimitiveIterator.OfLong {
+		int next = 0;
+		final int expectedModCount = modCount;
+
+		@Override
+		public boolean hasNext() {
+			return next < fill;
+		}
+
+		@Override
+		public long nextLong() {
+			if (modCount != expectedModCount) {
+				throw new ConcurrentModificationException();
+			}
+			if (next >= fill) {
+				throw new NoSuchElementException();
+			}
+			return array[next++];
+		}
+	}
+
+	/**
+	 * Splits by index range, O(1) per split, and never boxes. Unlike the
+	 * iterator this does not fail fast, so don't change the list while a stream
+	 * over it is running.
+	 */
+	@Override
+	public Spliterator.OfLong spliterator() {
+		return Spliterators.spliterator(array, 0, fill, Spliterator.ORDERED);
+	}
+
+	/**
+	 * @return a sequential LongStream of the values; call parallel() on it to
+	 *         split the work across threads.
+	 */
+	public LongStream longStream() {
+		return StreamSupport.longStream(spliterator(), false);
+	}
+}
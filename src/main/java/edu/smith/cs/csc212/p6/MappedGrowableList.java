@@ -0,0 +1,383 @@
+package edu.smith.cs.csc212.p6;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+
+import edu.smith.cs.csc212.p6.errors.BadIndexError;
+import edu.smith.cs.csc212.p6.errors.EmptyListError;
+
+/**
+ * A growable list that lives in a file, through memory-mapped I/O. Items are
+ * fixed-width records (see {@link RecordCodec}), so opening an existing file
+ * is O(1): we read the header and map the file, and the operating system pages
+ * items in as they are touched.
+ * 
+ * The file is a 64-byte header followed by the records:
+ * 
+ * <pre>
+ * [magic: 8][record width: 4][unused: 4][committed length: 8][unused: 40][record 0][record 1]...
+ * </pre>
+ * 
+ * The records are mapped in segments of up to {@link #MAX_SEGMENT_BYTES} each,
+ * because one mapping can't be more than 2 GB. The last segment is remapped
+ * twice as big whenever it fills up, until it reaches full size; then a new
+ * segment starts.
+ * 
+ * Appends are crash-safe: addBack writes the record first and only then bumps
+ * the committed length in the header, so if the process dies, the file never
+ * claims a record it doesn't have. To survive a power failure too, call
+ * {@link #sync()}, which forces the records to disk before the header.
+ * Middle inserts and removes shift records in place and are not crash-safe.
+ * 
+ * @param <T> the type of item stored in the list.
+ */
+public class MappedGrowableList<T> implements P6List<T>, AutoCloseable {
+	/**
+	 * "P6List" and a version number, so we don't open some other file by mistake.
+	 */
+	static final long MAGIC = 0x5036_4C69_7374_0001L;
+	static final int HEADER_BYTES = 64;
+	private static final int WIDTH_OFFSET = 8;
+	private static final int LENGTH_OFFSET = 16;
+	/**
+	 * The biggest single mapping we make.
+	 */
+	public static final int MAX_SEGMENT_BYTES = 1 << 30;
+
+	private final RecordCodec<T> codec;
+	private final int width;
+	/**
+	 * How many records fit in a full-size segment.
+	 */
+	private final int segmentRecords;
+	private final FileChannel channel;
+	private MappedByteBuffer header;
+	/**
+	 * The mapped segments, in file order. All but the last are full size.
+	 */
+	private GrowableList<MappedByteBuffer> segments;
+	/**
+	 * How many records fit in the last segment as it is currently mapped.
+	 */
+	private int lastSegmentRecords;
+	private long fill;
+	/**
+	 * Bumped by every add and remove, so iterators can notice.
+	 */
+	private int modCount;
+	private final byte[] scratch;
+
+	/**
+	 * Open the list stored in ``file``, or start a new empty one if the file does
+	 * not exist yet.
+	 * 
+	 * @param file  where the list lives.
+	 * @param codec how to turn an item into bytes and back; must match the one
+	 *              the file was made with.
+	 * @throws IOException if the file can't be opened, or isn't a list with
+	 *                     records of this width.
+	 */
+	public MappedGrowableList(Path file, RecordCodec<T> codec) throws IOException {
+		this(file, codec, MAX_SEGMENT_BYTES);
+	}
+
+	/**
+	 * Visible for testing, so segments can be made small.
+	 */
+	MappedGrowableList(Path file, RecordCodec<T> codec, int maxSegmentBytes) throws IOException {
+		this.codec = codec;
+		this.width = codec.width();
+		this.segmentRecords = Math.max(1, maxSegmentBytes / width);
+		this.scratch = new byte[width];
+		this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+				StandardOpenOption.WRITE);
+		try {
+			boolean fresh = channel.size() == 0;
+			this.header = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_BYTES);
+			header.order(ByteOrder.LITTLE_ENDIAN);
+			if (fresh) {
+				header.putLong(0, MAGIC);
+				header.putInt(WIDTH_OFFSET, width);
+				header.putLong(LENGTH_OFFSET, 0);
+			} else if (header.getLong(0) != MAGIC) {
+				throw new IOException(file + " is not a MappedGrowableList file");
+			} else if (header.getInt(WIDTH_OFFSET) != width) {
+				throw new IOException(file + " holds " + header.getInt(WIDTH_OFFSET) + "-byte records, not " + width);
+			}
+			this.fill = header.getLong(LENGTH_OFFSET);
+			this.segments = new GrowableList<>();
+			this.lastSegmentRecords = 0;
+			ensureCapacity(Math.max(fill, GrowableList.START_SIZE));
+		} catch (IOException | RuntimeException e) {
+			channel.close();
+			throw e;
+		}
+	}
+
+	@Override
+	public T removeFront() {
+		return removeIndex(0);
+	}
+
+	/**
+	 * O(1)-just lowers the committed length.
+	 */
+	@Override
+	public T removeBack() {
+		checkNotEmpty();
+		T value = getIndex(size() - 1);
+		commit(fill - 1);
+		return value;
+	}
+
+	/**
+	 * O(n)-shifts every record after index forward by one.
+	 */
+	@Override
+	public T removeIndex(int index) {
+		checkNotEmpty();
+		T removed = getIndex(index);
+		for (long i = index; i < fill - 1; i++) {
+			copyRecord(i + 1, i);
+		}
+		commit(fill - 1);
+		return removed;
+	}
+
+	@Override
+	public void addFront(T item) {
+		addIndex(item, 0);
+	}
+
+	/**
+	 * O(1)-amortized; crash-safe (the record is written before the length).
+	 */
+	@Override
+	public void addBack(T item) {
+		checkOpen();
+		ensureCapacity(fill + 1);
+		write(fill, item);
+		commit(fill + 1);
+	}
+
+	/**
+	 * O(n)-shifts every record from index on back by one.
+	 */
+	@Override
+	public void addIndex(T item, int index) {
+		checkOpen();
+		if (index < 0 || index > fill) {
+			throw new BadIndexError();
+		}
+		ensureCapacity(fill + 1);
+		for (long i = fill; i > index; i--) {
+			copyRecord(i - 1, i);
+		}
+		write(index, item);
+		commit(fill + 1);
+	}
+
+	@Override
+	public T getFront() {
+		checkNotEmpty();
+		return getIndex(0);
+	}
+
+	@Override
+	public T getBack() {
+		checkNotEmpty();
+		return getIndex(size() - 1);
+	}
+
+	/**
+	 * O(1)-one decode straight out of the mapped file.
+	 */
+	@Override
+	public T getIndex(int index) {
+		checkOpen();
+		if (index < 0 || index >= fill) {
+			throw new BadIndexError();
+		}
+		return codec.read(segmentFor(index), offsetFor(index));
+	}
+
+	/**
+	 * @throws IllegalStateException if the list is too big for an int index.
+	 */
+	@Override
+	public int size() {
+		if (fill > Integer.MAX_VALUE) {
+			throw new IllegalStateException("list has " + fill + " items");
+		}
+		return (int) fill;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return fill == 0;
+	}
+
+	/**
+	 * Force every record and then the header out to disk, so the list survives a
+	 * power failure as of this call.
+	 */
+	public void sync() {
+		checkOpen();
+		for (int i = 0; i < segments.size(); i++) {
+			segments.getIndex(i).force();
+		}
+		header.force();
+	}
+
+	/**
+	 * Sync, unmap and close the file, trimming off any space that was mapped
+	 * ahead of the committed length. Safe to call more than once.
+	 */
+	@Override
+	public void close() throws IOException {
+		if (header == null) {
+			return;
+		}
+		sync();
+		for (int i = 0; i < segments.size(); i++) {
+			DirectBuffers.free(segments.getIndex(i));
+		}
+		DirectBuffers.free(header);
+		segments = null;
+		header = null;
+		try {
+			channel.truncate(HEADER_BYTES + fill * width);
+		} finally {
+			channel.close();
+		}
+	}
+
+	/**
+	 * Map enough of the file for ``records`` records, remapping the last segment
+	 * bigger or adding segments as needed.
+	 */
+	private void ensureCapacity(long records) {
+		long mapped = (long) (segments.size() - 1) * segmentRecords + lastSegmentRecords;
+		if (segments.isEmpty()) {
+			mapped = 0;
+		}
+		try {
+			while (mapped < records) {
+				if (segments.isEmpty() || lastSegmentRecords == segmentRecords) {
+					int first = (int) Math.min(segmentRecords, Math.max(records - mapped, GrowableList.START_SIZE));
+					segments.addBack(map(segments.size(), first));
+					lastSegmentRecords = first;
+					mapped += first;
+				} else {
+					long wanted = Math.max(2L * lastSegmentRecords, records - mapped + lastSegmentRecords);
+					int bigger = (int) Math.min(segmentRecords, wanted);
+					MappedByteBuffer old = segments.removeBack();
+					segments.addBack(map(segments.size(), bigger));
+					DirectBuffers.free(old);
+					mapped += bigger - lastSegmentRecords;
+					lastSegmentRecords = bigger;
+				}
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private MappedByteBuffer map(int segment, int records) throws IOException {
+		long position = HEADER_BYTES + (long) segment * segmentRecords * width;
+		MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, position, (long) records * width);
+		buffer.order(ByteOrder.LITTLE_ENDIAN);
+		return buffer;
+	}
+
+	private ByteBuffer segmentFor(long index) {
+		return segments.getIndex((int) (index / segmentRecords));
+	}
+
+	private int offsetFor(long index) {
+		return (int) (index % segmentRecords) * width;
+	}
+
+	private void write(long index, T item) {
+		codec.write(segmentFor(index), offsetFor(index), item);
+	}
+
+	private void copyRecord(long from, long to) {
+		ByteBuffer src = segmentFor(from).duplicate();
+		src.position(offsetFor(from));
+		src.get(scratch);
+		ByteBuffer dst = segmentFor(to).duplicate();
+		dst.position(offsetFor(to));
+		dst.put(scratch);
+	}
+
+	/**
+	 * Publish a new length in the header; always the last step of a change.
+	 */
+	private void commit(long length) {
+		modCount++;
+		fill = length;
+		header.putLong(LENGTH_OFFSET, length);
+	}
+
+	private void checkOpen() {
+		if (header == null) {
+			throw new IllegalStateException("MappedGrowableList has been closed");
+		}
+	}
+
+	private void checkNotEmpty() {
+		checkOpen();
+		if (isEmpty()) {
+			throw new EmptyListError();
+		}
+	}
+
+	/**
+	 * Splits by index range, O(1) per split.
+	 */
+	@Override
+	public Spliterator<T> spliterator() {
+		return new IndexSpliterator<>(this, () -> modCount);
+	}
+
+	/**
+	 * O(1) per item, decoding as it goes. Fails fast if the list changes
+	 * underneath it.
+	 */
+	@Override
+	public Iterator<T> iterator() {
+		return new Iter();
+	}
+
+	private class Iter implements Iterator<T> {
+		int next = 0;
+		final int expectedModCount = modCount;
+
+		@Override
+		public boolean hasNext() {
+			return next < fill;
+		}
+
+		@Override
+		public T next() {
+			if (modCount != expectedModCount) {
+				throw new ConcurrentModificationException();
+			}
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			return getIndex(next++);
+		}
+	}
+}
@@ -0,0 +1,265 @@
+package edu.smith.cs.csc212.p6;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+
+import edu.smith.cs.csc212.p6.errors.BadIndexError;
+import edu.smith.cs.csc212.p6.errors.EmptyListError;
+import edu.smith.cs.csc212.p6.errors.RanOutOfSpaceError;
+
+/**
+ * A {@link FixedSizeList} whose items live outside the Java heap, in a direct
+ * {@link ByteBuffer}. Every item is turned into {@code codec.width()} bytes by
+ * a {@link RecordCodec}, so the garbage collector never has to look at them.
+ * 
+ * The memory is freed as soon as you call {@link #close()} (use
+ * try-with-resources), not whenever the garbage collector gets around to it.
+ * Using the list after that throws an IllegalStateException.
+ * 
+ * @param <T> the type of item stored in the list.
+ */
+public class OffHeapFixedSizeList<T> implements P6List<T>, AutoCloseable {
+	/**
+	 * Shifts are done through this much heap scratch space at a time.
+	 */
+	private static final int SCRATCH_BYTES = 8192;
+
+	private final RecordCodec<T> codec;
+	private final int width;
+	private final int capacity;
+	private ByteBuffer buffer;
+	private int fill;
+	/**
+	 * Bumped by every add and remove, so iterators can notice.
+	 */
+	private int modCount;
+	private final byte[] scratch;
+
+	/**
+	 * @param maximumSize how many items fit.
+	 * @param codec       how to turn an item into bytes and back.
+	 */
+	public OffHeapFixedSizeList(int maximumSize, RecordCodec<T> codec) {
+		this.codec = codec;
+		this.width = codec.width();
+		if (width <= 0) {
+			throw new IllegalArgumentException("records must be at least 1 byte: " + width);
+		}
+		if (maximumSize < 0 || (long) maximumSize * width > Integer.MAX_VALUE) {
+			throw new IllegalArgumentException("cannot hold " + maximumSize + " records of " + width + " bytes");
+		}
+		this.capacity = maximumSize;
+		this.buffer = ByteBuffer.allocateDirect(maximumSize * width).order(ByteOrder.nativeOrder());
+		this.fill = 0;
+		this.scratch = new byte[Math.min(SCRATCH_BYTES, Math.max(width, maximumSize * width))];
+	}
+
+	@Override
+	public T removeFront() {
+		return removeIndex(0);
+	}
+
+	@Override
+	public T removeBack() {
+		checkNotEmpty();
+		T value = getIndex(fill - 1);
+		modCount++;
+		fill--;
+		return value;
+	}
+
+	@Override
+	public T removeIndex(int index) {
+		checkNotEmpty();
+		T removed = getIndex(index);
+		move((index + 1) * width, index * width, (fill - index - 1) * width);
+		modCount++;
+		fill--;
+		return removed;
+	}
+
+	@Override
+	public void addFront(T item) {
+		addIndex(item, 0);
+	}
+
+	@Override
+	public void addBack(T item) {
+		addIndex(item, fill);
+	}
+
+	@Override
+	public void addIndex(T item, int index) {
+		checkOpen();
+		if (fill >= capacity) {
+			throw new RanOutOfSpaceError();
+		}
+		if (index < 0 || index > fill) {
+			throw new BadIndexError();
+		}
+		move(index * width, (index + 1) * width, (fill - index) * width);
+		codec.write(buffer, index * width, item);
+		modCount++;
+		fill++;
+	}
+
+	@Override
+	public T getIndex(int index) {
+		checkOpen();
+		if (index < 0 || index >= fill) {
+			throw new BadIndexError();
+		}
+		return codec.read(buffer, index * width);
+	}
+
+	@Override
+	public int size() {
+		return this.fill;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return this.fill == 0;
+	}
+
+	@Override
+	public T getFront() {
+		checkNotEmpty();
+		return this.getIndex(0);
+	}
+
+	@Override
+	public T getBack() {
+		checkNotEmpty();
+		return this.getIndex(this.size() - 1);
+	}
+
+	// O(n): decodes each item to compare it.
+	public int find(T item) {
+		for (int i = 0; i < fill; i++) {
+			if (item.equals(getIndex(i))) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	public void setIndex(int index, T item) {
+		checkOpen();
+		if (index >= fill || index < 0) {
+			throw new BadIndexError();
+		}
+		codec.write(buffer, index * width, item);
+	}
+
+	public void swap(int i, int j) {
+		T tmp = getIndex(i);
+		setIndex(i, getIndex(j));
+		setIndex(j, tmp);
+	}
+
+	/**
+	 * @return how many items fit.
+	 */
+	public int capacity() {
+		return capacity;
+	}
+
+	/**
+	 * Free the off-heap memory right now. Safe to call more than once.
+	 */
+	@Override
+	public void close() {
+		ByteBuffer freed = buffer;
+		buffer = null;
+		fill = 0;
+		if (freed != null) {
+			DirectBuffers.free(freed);
+		}
+	}
+
+	/**
+	 * Move ``length`` bytes from ``from`` to ``to`` (the ranges may overlap),
+	 * through the scratch array so nothing is allocated per call.
+	 */
+	private void move(int from, int to, int length) {
+		if (length <= 0 || from == to) {
+			return;
+		}
+		ByteBuffer view = buffer.duplicate();
+		if (to < from) {
+			// moving toward the front: copy the front pieces first.
+			for (int done = 0; done < length; done += scratch.length) {
+				int n = Math.min(scratch.length, length - done);
+				view.position(from + done);
+				view.get(scratch, 0, n);
+				view.position(to + done);
+				view.put(scratch, 0, n);
+			}
+		} else {
+			// moving toward the back: copy the back pieces first.
+			for (int left = length; left > 0; left -= scratch.length) {
+				int n = Math.min(scratch.length, left);
+				view.position(from + left - n);
+				view.get(scratch, 0, n);
+				view.position(to + left - n);
+				view.put(scratch, 0, n);
+			}
+		}
+	}
+
+	private void checkOpen() {
+		if (buffer == null) {
+			throw new IllegalStateException("OffHeapFixedSizeList has been closed");
+		}
+	}
+
+	private void checkNotEmpty() {
+		checkOpen();
+		if (this.isEmpty()) {
+			throw new EmptyListError();
+		}
+	}
+
+	/**
+	 * Splits by index range, O(1) per split.
+	 */
+	@Override
+	public Spliterator<T> spliterator() {
+		return new IndexSpliterator<>(this, () -> modCount);
+	}
+
+	/**
+	 * O(1) per item, decoding as it goes. Fails fast if the list changes
+	 * underneath it.
+	 */
+	@Override
+	public Iterator<T> iterator() {
+		return new Iter();
+	}
+
+	private class Iter implements Iterator<T> {
+		int next = 0;
+		final int expectedModCount = modCount;
+
+		@Override
+		public boolean hasNext() {
+			return next < fill;
+		}
+
+		@Override
+		public T next() {
+			if (modCount != expectedModCount) {
+				throw new ConcurrentModificationException();
+			}
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			return getIndex(next++);
+		}
+	}
+}
@@ -1,16 +1,26 @@
 package edu.smith.cs.csc212.p6;
 
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
 import edu.smith.cs.csc212.p6.errors.BadIndexError;
 import edu.smith.cs.csc212.p6.errors.EmptyListError;
 
 /**
  * This interface defines the required operations for all Lists in P6.
  * 
+ * Every list can be looped over with a for-each loop. Iterators are fail-fast:
+ * if the list is added to or removed from (other than through the iterator),
+ * the next call to next() throws {@link java.util.ConcurrentModificationException}.
+ * Every list can also be streamed, in parallel too: see {@link #spliterator()}.
+ * 
  * @author jfoley
  *
  * @param <T> the type of item inside the list.
  */
-public interface P6List<T> {
+public interface P6List<T> extends Iterable<T> {
 	/**
 	 * Delete the item at the front of the list.
 	 * 
@@ -99,4 +109,77 @@ public interface P6List<T> {
 	 * @return true if the list is empty.
 	 */
 	public boolean isEmpty();
+
+	/**
+	 * Add every item to the back of this list, in order.
+	 * 
+	 * @param items the data to add to the list.
+	 */
+	public default void addAll(Iterable<? extends T> items) {
+		insertAll(size(), items);
+	}
+
+	/**
+	 * Add every item before ``index`` in this list, in order. The first one ends
+	 * up at getIndex(index). Implementations make room once instead of once per
+	 * item where they can.
+	 * 
+	 * @param index a number from 0 to size, including size.
+	 * @param items the data to add to the list.
+	 * @throws BadIndexError if the index does not exist.
+	 */
+	public default void insertAll(int index, Iterable<? extends T> items) {
+		if (index < 0 || index > size()) {
+			throw new BadIndexError();
+		}
+		for (T item : items) {
+			addIndex(item, index++);
+		}
+	}
+
+	/**
+	 * Delete the items from ``fromIndex`` up to (but not including) ``toIndex``.
+	 * 
+	 * @param fromIndex the index of the first item to remove.
+	 * @param toIndex   one past the index of the last item to remove.
+	 * @throws EmptyListError if the list is empty and the range is not.
+	 * @throws BadIndexError  if the range does not fit inside the list.
+	 */
+	public default void removeRange(int fromIndex, int toIndex) {
+		BulkItems.checkRange(this, fromIndex, toIndex);
+		for (int i = fromIndex; i < toIndex; i++) {
+			removeIndex(fromIndex);
+		}
+	}
+
+	/**
+	 * Split this list up for a (parallel) stream. It knows its exact size
+	 * (SIZED, SUBSIZED) and keeps items in list order (ORDERED).
+	 * 
+	 * This default walks iterator() and splits off batches copied into arrays,
+	 * which is the best a linked list can do. Lists with an O(1) getIndex split
+	 * by index range instead, and {@link ChunkyLinkedList} splits along its
+	 * chunks.
+	 * 
+	 * @return a spliterator over the items, front to back.
+	 */
+	@Override
+	public default Spliterator<T> spliterator() {
+		return Spliterators.spliterator(iterator(), size(), Spliterator.ORDERED);
+	}
+
+	/**
+	 * @return a sequential stream of the items, front to back.
+	 */
+	public default Stream<T> stream() {
+		return StreamSupport.stream(spliterator(), false);
+	}
+
+	/**
+	 * @return a parallel stream of the items; see {@link #spliterator()} for how
+	 *         the work gets divided.
+	 */
+	public default Stream<T> parallelStream() {
+		return StreamSupport.stream(spliterator(), true);
+	}
 }
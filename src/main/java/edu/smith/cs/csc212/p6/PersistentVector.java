@@ -0,0 +1,689 @@
+package edu.smith.cs.csc212.p6;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+
+import edu.smith.cs.csc212.p6.errors.BadIndexError;
+import edu.smith.cs.csc212.p6.errors.EmptyListError;
+
+/**
+ * A list that never changes: every "change" returns a new version, and the
+ * old version still works. Versions share almost all of their memory, so
+ * keeping many versions of a big list costs about the size of the changes,
+ * not a full copy each time.
+ *
+ * It is a relaxed radix balanced tree (RRB tree). Items sit in leaves of up to
+ * 32, and every node above has up to 32 children, so even a billion items are
+ * only 6 levels deep. A change copies just the nodes on the path down to the
+ * item: O(log32 n) arrays of at most 32 slots.
+ * <ul>
+ * <li>In a node built by appending, every child but the last is completely
+ * full, so the child holding index i is just i / 32^height: that's the radix
+ * part.</li>
+ * <li>{@link #concat} and {@link #slice} can leave nodes that aren't full, so
+ * those nodes also keep a table of how many items are under each child, and
+ * lookups start from the radix guess and step forward: the relaxed part.</li>
+ * <li>concat joins the two trees down the seam between them, and only repacks
+ * the nodes along that seam if there got to be too many of them. That keeps
+ * the tree shallow without touching anything else.</li>
+ * </ul>
+ * Inserting or removing in the middle is a slice, a concat and a bit more, so
+ * it is O(log n) too, just with a bigger constant than withBack or withSet.
+ *
+ * P6List's add and remove methods throw UnsupportedOperationException; use the
+ * "with" and "without" methods, and keep what they return.
+ *
+ * @param <T> the type of item inside the list.
+ */
+public final class PersistentVector<T> implements P6List<T> {
+	private static final int BITS = 5;
+	private static final int WIDTH = 1 << BITS;
+	/**
+	 * Concat leaves at most this many extra nodes along the seam beyond the
+	 * fewest that could hold the items.
+	 */
+	private static final int EXTRA = 2;
+	private static final Node EMPTY_LEAF = new Node(new Object[0], null, 0);
+
+	/**
+	 * A leaf if height is 0; otherwise its children are height-1 nodes.
+	 */
+	private final Node root;
+	private final int height;
+
+	/**
+	 * An empty vector.
+	 */
+	public PersistentVector() {
+		this(EMPTY_LEAF, 0);
+	}
+
+	private PersistentVector(Node root, int height) {
+		this.root = root;
+		this.height = height;
+	}
+
+	/**
+	 * O(n)-builds full leaves and nodes bottom up, so the tree is as small and
+	 * shallow as it can be.
+	 *
+	 * @param items the items to start with, in order.
+	 * @return a vector holding them.
+	 */
+	public static <T> PersistentVector<T> copyOf(Iterable<? extends T> items) {
+		Object[] array = BulkItems.toArray(items);
+		if (array.length == 0) {
+			return new PersistentVector<>();
+		}
+		Node[] level = new Node[(array.length + WIDTH - 1) / WIDTH];
+		for (int i = 0; i < level.length; i++) {
+			Object[] leaf = Arrays.copyOfRange(array, i * WIDTH, Math.min(array.length, (i + 1) * WIDTH));
+			level[i] = new Node(leaf, null, leaf.length);
+		}
+		int height = 0;
+		while (level.length > 1) {
+			height++;
+			Node[] above = new Node[(level.length + WIDTH - 1) / WIDTH];
+			for (int i = 0; i < above.length; i++) {
+				above[i] = branch(Arrays.copyOfRange(level, i * WIDTH, Math.min(level.length, (i + 1) * WIDTH)), height);
+			}
+			level = above;
+		}
+		return new PersistentVector<>(level[0], height);
+	}
+
+	/**
+	 * O(log32 n)-walks down from the root.
+	 */
+	@SuppressWarnings("unchecked")
+	@Override
+	public T getIndex(int index) {
+		if (index < 0 || index >= root.size) {
+			throw new BadIndexError();
+		}
+		Node node = root;
+		for (int h = height; h > 0; h--) {
+			int slot = node.slot(index, h);
+			if (slot > 0) {
+				index -= node.startOf(slot, h);
+			}
+			node = (Node) node.slots[slot];
+		}
+		return (T) node.slots[index];
+	}
+
+	@Override
+	public T getFront() {
+		if (isEmpty()) {
+			throw new EmptyListError();
+		}
+		return getIndex(0);
+	}
+
+	@Override
+	public T getBack() {
+		if (isEmpty()) {
+			throw new EmptyListError();
+		}
+		return getIndex(root.size - 1);
+	}
+
+	/**
+	 * O(1)-every node knows how many items are under it.
+	 */
+	@Override
+	public int size() {
+		return root.size;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return root.size == 0;
+	}
+
+	/**
+	 * O(log32 n)-copies the path down to the item.
+	 *
+	 * @param index a number from 0 to size, excluding size.
+	 * @param item  what to put there instead.
+	 * @return the new version.
+	 * @throws BadIndexError if the index does not exist.
+	 */
+	public PersistentVector<T> withSet(int index, T item) {
+		if (index < 0 || index >= root.size) {
+			throw new BadIndexError();
+		}
+		return new PersistentVector<>(set(root, height, index, item), height);
+	}
+
+	/**
+	 * O(log32 n)-copies the path down the right edge, and adds a level on top if
+	 * the tree is full.
+	 *
+	 * @param item the data to add at the back.
+	 * @return the new version.
+	 */
+	public PersistentVector<T> withBack(T item) {
+		Node appended = append(root, height, item);
+		if (appended != null) {
+			return new PersistentVector<>(appended, height);
+		}
+		Node[] children = { root, path(item, height) };
+		return new PersistentVector<>(branch(children, height + 1), height + 1);
+	}
+
+	/**
+	 * O(log n)-a concat of a one-item vector and this one.
+	 *
+	 * @param item the data to add at the front.
+	 * @return the new version.
+	 */
+	public PersistentVector<T> withFront(T item) {
+		return single(item).concat(this);
+	}
+
+	/**
+	 * O(log n)-slices this in two and concats the pieces back together around
+	 * the item.
+	 *
+	 * @param item  the data to add.
+	 * @param index a number from 0 to size, including size; the item ends up at
+	 *              getIndex(index).
+	 * @return the new version.
+	 * @throws BadIndexError if the index does not exist.
+	 */
+	public PersistentVector<T> withIndex(T item, int index) {
+		if (index < 0 || index > root.size) {
+			throw new BadIndexError();
+		}
+		if (index == root.size) {
+			return withBack(item);
+		}
+		if (index == 0) {
+			return withFront(item);
+		}
+		return slice(0, index).withBack(item).concat(slice(index, root.size));
+	}
+
+	/**
+	 * O(log n).
+	 *
+	 * @return the new version, without the first item.
+	 * @throws EmptyListError if the list is empty.
+	 */
+	public PersistentVector<T> withoutFront() {
+		if (isEmpty()) {
+			throw new EmptyListError();
+		}
+		return slice(1, root.size);
+	}
+
+	/**
+	 * O(log n).
+	 *
+	 * @return the new version, without the last item.
+	 * @throws EmptyListError if the list is empty.
+	 */
+	public PersistentVector<T> withoutBack() {
+		if (isEmpty()) {
+			throw new EmptyListError();
+		}
+		return slice(0, root.size - 1);
+	}
+
+	/**
+	 * O(log n)-the slices on either side, concatenated.
+	 *
+	 * @param index a number from 0 to size, excluding size.
+	 * @return the new version, without the item at ``index``.
+	 * @throws EmptyListError if the list is empty.
+	 * @throws BadIndexError  if the index does not exist.
+	 */
+	public PersistentVector<T> withoutIndex(int index) {
+		if (isEmpty()) {
+			throw new EmptyListError();
+		}
+		if (index < 0 || index >= root.size) {
+			throw new BadIndexError();
+		}
+		return slice(0, index).concat(slice(index + 1, root.size));
+	}
+
+	/**
+	 * O(log n)-only copies the nodes along the two cut edges; everything in
+	 * between is shared with this version.
+	 *
+	 * @param fromIndex the index of the first item to keep.
+	 * @param toIndex   one past the index of the last item to keep.
+	 * @return the items from fromIndex up to (but not including) toIndex.
+	 * @throws BadIndexError if the range does not fit inside the list.
+	 */
+	public PersistentVector<T> slice(int fromIndex, int toIndex) {
+		if (fromIndex < 0 || toIndex > root.size || fromIndex > toIndex) {
+			throw new BadIndexError();
+		}
+		if (fromIndex == toIndex) {
+			return new PersistentVector<>();
+		}
+		if (fromIndex == 0 && toIndex == root.size) {
+			return this;
+		}
+		return shrink(sliceLeft(sliceRight(root, height, toIndex), height, fromIndex), height);
+	}
+
+	/**
+	 * O(log n)-joins the right edge of this tree to the left edge of the other,
+	 * copying and repacking only the nodes along that seam.
+	 *
+	 * @param other the items to put after these.
+	 * @return a vector with this one's items, then other's.
+	 */
+	public PersistentVector<T> concat(PersistentVector<? extends T> other) {
+		if (other.isEmpty()) {
+			return this;
+		}
+		if (this.isEmpty()) {
+			return new PersistentVector<>(other.root, other.height);
+		}
+		Node joined = concat(root, height, other.root, other.height);
+		return shrink(joined, Math.max(height, other.height) + 1);
+	}
+
+	/**
+	 * @return how many levels of branches sit above the leaves.
+	 */
+	int height() {
+		return height;
+	}
+
+	/**
+	 * O(1) per item-walks the leaves in order.
+	 */
+	@Override
+	public Iterator<T> iterator() {
+		return new Iter<>(root, height);
+	}
+
+	/**
+	 * Splits by index range; nothing can change underneath it.
+	 */
+	@Override
+	public Spliterator<T> spliterator() {
+		return new IndexSpliterator<>(this, () -> 0);
+	}
+
+	/**
+	 * @throws UnsupportedOperationException always; use withoutFront.
+	 */
+	@Override
+	public T removeFront() {
+		throw new UnsupportedOperationException("PersistentVector never changes; use withoutFront");
+	}
+
+	/**
+	 * @throws UnsupportedOperationException always; use withoutBack.
+	 */
+	@Override
+	public T removeBack() {
+		throw new UnsupportedOperationException("PersistentVector never changes; use withoutBack");
+	}
+
+	/**
+	 * @throws UnsupportedOperationException always; use withoutIndex.
+	 */
+	@Override
+	public T removeIndex(int index) {
+		throw new UnsupportedOperationException("PersistentVector never changes; use withoutIndex");
+	}
+
+	/**
+	 * @throws UnsupportedOperationException always; use withFront.
+	 */
+	@Override
+	public void addFront(T item) {
+		throw new UnsupportedOperationException("PersistentVector never changes; use withFront");
+	}
+
+	/**
+	 * @throws UnsupportedOperationException always; use withBack.
+	 */
+	@Override
+	public void addBack(T item) {
+		throw new UnsupportedOperationException("PersistentVector never changes; use withBack");
+	}
+
+	/**
+	 * @throws UnsupportedOperationException always; use withIndex.
+	 */
+	@Override
+	public void addIndex(T item, int index) {
+		throw new UnsupportedOperationException("PersistentVector never changes; use withIndex");
+	}
+
+	/**
+	 * A vector rooted at ``node``, minus any one-child levels on top.
+	 */
+	private static <T> PersistentVector<T> shrink(Node node, int h) {
+		while (h > 0 && node.slots.length == 1) {
+			node = (Node) node.slots[0];
+			h--;
+		}
+		return new PersistentVector<>(node, h);
+	}
+
+	private static <T> PersistentVector<T> single(T item) {
+		return new PersistentVector<>(new Node(new Object[] { item }, null, 1), 0);
+	}
+
+	/**
+	 * How many items a completely full child of a height-h node holds: 32^h, or
+	 * more than an int can count.
+	 */
+	private static int childCapacity(int h) {
+		return (BITS * h >= 31) ? Integer.MAX_VALUE : 1 << (BITS * h);
+	}
+
+	/**
+	 * Make a height-h node over ``children``. It only needs a size table if some
+	 * child before the last isn't full.
+	 */
+	private static Node branch(Node[] children, int h) {
+		int capacity = childCapacity(h);
+		int total = 0;
+		boolean dense = true;
+		for (int i = 0; i < children.length; i++) {
+			if (i < children.length - 1 && children[i].size != capacity) {
+				dense = false;
+			}
+			total += children[i].size;
+		}
+		int[] sizes = null;
+		if (!dense) {
+			sizes = new int[children.length];
+			int sum = 0;
+			for (int i = 0; i < children.length; i++) {
+				sum += children[i].size;
+				sizes[i] = sum;
+			}
+		}
+		return new Node(Arrays.copyOf(children, children.length, Object[].class), sizes, total);
+	}
+
+	/**
+	 * A height-h chain of one-child nodes down to a leaf holding ``item``.
+	 */
+	private static Node path(Object item, int h) {
+		Node node = new Node(new Object[] { item }, null, 1);
+		for (int i = 1; i <= h; i++) {
+			node = new Node(new Object[] { node }, null, 1);
+		}
+		return node;
+	}
+
+	private static Node set(Node node, int h, int index, Object item) {
+		Object[] slots = node.slots.clone();
+		if (h == 0) {
+			slots[index] = item;
+		} else {
+			int slot = node.slot(index, h);
+			int start = (slot > 0) ? node.startOf(slot, h) : 0;
+			slots[slot] = set((Node) slots[slot], h - 1, index - start, item);
+		}
+		return new Node(slots, node.sizes, node.size);
+	}
+
+	/**
+	 * @return a copy of ``node`` with item added at the back, or null if there's
+	 *         no room left along its right edge.
+	 */
+	private static Node append(Node node, int h, Object item) {
+		int count = node.slots.length;
+		if (h == 0) {
+			if (count == WIDTH) {
+				return null;
+			}
+			Object[] slots = Arrays.copyOf(node.slots, count + 1);
+			slots[count] = item;
+			return new Node(slots, null, count + 1);
+		}
+		Node[] children = node.children();
+		Node last = append(children[count - 1], h - 1, item);
+		if (last != null) {
+			children[count - 1] = last;
+		} else if (count < WIDTH) {
+			children = Arrays.copyOf(children, count + 1);
+			children[count] = path(item, h - 1);
+		} else {
+			return null;
+		}
+		return branch(children, h);
+	}
+
+	/**
+	 * @return ``node`` cut down to its first ``end`` items, at the same height.
+	 */
+	private static Node sliceRight(Node node, int h, int end) {
+		if (end == node.size) {
+			return node;
+		}
+		if (h == 0) {
+			return new Node(Arrays.copyOf(node.slots, end), null, end);
+		}
+		int slot = node.slot(end - 1, h);
+		int start = (slot > 0) ? node.startOf(slot, h) : 0;
+		Node[] children = Arrays.copyOf(node.children(), slot + 1);
+		children[slot] = sliceRight(children[slot], h - 1, end - start);
+		return branch(children, h);
+	}
+
+	/**
+	 * @return ``node`` without its first ``from`` items, at the same height.
+	 */
+	private static Node sliceLeft(Node node, int h, int from) {
+		if (from == 0) {
+			return node;
+		}
+		if (h == 0) {
+			return new Node(Arrays.copyOfRange(node.slots, from, node.size), null, node.size - from);
+		}
+		int slot = node.slot(from, h);
+		int start = (slot > 0) ? node.startOf(slot, h) : 0;
+		Node[] children = Arrays.copyOfRange(node.children(), slot, node.slots.length);
+		children[0] = sliceLeft(children[0], h - 1, from - start);
+		return branch(children, h);
+	}
+
+	/**
+	 * Join two trees along the seam between them.
+	 *
+	 * @return a node one level above the taller tree, with one or two children.
+	 */
+	private static Node concat(Node left, int hl, Node right, int hr) {
+		if (hl > hr) {
+			Node[] lefts = left.children();
+			Node middle = concat(lefts[lefts.length - 1], hl - 1, right, hr);
+			return rebalance(lefts, middle, null, hl);
+		}
+		if (hl < hr) {
+			Node[] rights = right.children();
+			Node middle = concat(left, hl, rights[0], hr - 1);
+			return rebalance(null, middle, rights, hr);
+		}
+		if (hl == 0) {
+			if (left.size + right.size <= WIDTH) {
+				Object[] items = Arrays.copyOf(left.slots, left.size + right.size);
+				System.arraycopy(right.slots, 0, items, left.size, right.size);
+				return branch(new Node[] { new Node(items, null, items.length) }, 1);
+			}
+			return branch(new Node[] { left, right }, 1);
+		}
+		Node[] lefts = left.children();
+		Node[] rights = right.children();
+		Node middle = concat(lefts[lefts.length - 1], hl - 1, rights[0], hr - 1);
+		return rebalance(lefts, middle, rights, hl);
+	}
+
+	/**
+	 * Put the children of ``lefts`` (but its last), ``middle``, and ``rights``
+	 * (but its first) side by side, repack them if there are too many, and
+	 * return them under one or two height-h nodes, under a height h+1 node.
+	 */
+	private static Node rebalance(Node[] lefts, Node middle, Node[] rights, int h) {
+		int fromLeft = (lefts == null) ? 0 : lefts.length - 1;
+		int fromRight = (rights == null) ? 0 : rights.length - 1;
+		Node[] all = new Node[fromLeft + middle.slots.length + fromRight];
+		if (fromLeft > 0) {
+			System.arraycopy(lefts, 0, all, 0, fromLeft);
+		}
+		System.arraycopy(middle.slots, 0, all, fromLeft, middle.slots.length);
+		if (fromRight > 0) {
+			System.arraycopy(rights, 1, all, fromLeft + middle.slots.length, fromRight);
+		}
+		all = repack(all, h - 1);
+		if (all.length <= WIDTH) {
+			return branch(new Node[] { branch(all, h) }, h + 1);
+		}
+		Node[] halves = { branch(Arrays.copyOf(all, WIDTH), h), branch(Arrays.copyOfRange(all, WIDTH, all.length), h) };
+		return branch(halves, h + 1);
+	}
+
+	/**
+	 * If these height-h nodes use more than EXTRA nodes beyond the fewest that
+	 * could hold their slots, move their slots into as few full nodes as
+	 * possible. The grandchildren are shared, not copied.
+	 */
+	private static Node[] repack(Node[] nodes, int h) {
+		int slots = 0;
+		for (Node node : nodes) {
+			slots += node.slots.length;
+		}
+		int fewest = (slots + WIDTH - 1) / WIDTH;
+		if (nodes.length <= fewest + EXTRA) {
+			return nodes;
+		}
+		Object[] flat = new Object[slots];
+		int at = 0;
+		for (Node node : nodes) {
+			System.arraycopy(node.slots, 0, flat, at, node.slots.length);
+			at += node.slots.length;
+		}
+		Node[] packed = new Node[fewest];
+		for (int i = 0; i < fewest; i++) {
+			Object[] part = Arrays.copyOfRange(flat, i * WIDTH, Math.min(slots, (i + 1) * WIDTH));
+			if (h == 0) {
+				packed[i] = new Node(part, null, part.length);
+			} else {
+				packed[i] = branch(Arrays.copyOf(part, part.length, Node[].class), h);
+			}
+		}
+		return packed;
+	}
+
+	/**
+	 * A leaf (slots are items) or a branch (slots are Nodes); which one depends
+	 * on the height it is at. Never changed after it is made, so any number of
+	 * versions can share it.
+	 */
+	private static final class Node {
+		final Object[] slots;
+		/**
+		 * For a branch whose children aren't all full: sizes[i] is how many items
+		 * are under children 0 through i. Otherwise null.
+		 */
+		final int[] sizes;
+		/**
+		 * How many items are under this node.
+		 */
+		final int size;
+
+		Node(Object[] slots, int[] sizes, int size) {
+			this.slots = slots;
+			this.sizes = sizes;
+			this.size = size;
+		}
+
+		/**
+		 * Which child of this height-h branch holds ``index``.
+		 */
+		int slot(int index, int h) {
+			int shift = BITS * h;
+			int guess = (shift >= 31) ? 0 : index >>> shift;
+			if (sizes == null) {
+				return guess;
+			}
+			// children are never bigger than full, so the answer is at or after guess.
+			while (sizes[guess] <= index) {
+				guess++;
+			}
+			return guess;
+		}
+
+		/**
+		 * The index of the first item under child ``slot`` (at least 1).
+		 */
+		int startOf(int slot, int h) {
+			return (sizes == null) ? slot << (BITS * h) : sizes[slot - 1];
+		}
+
+		Node[] children() {
+			return Arrays.copyOf(slots, slots.length, Node[].class);
+		}
+	}
+
+	/**
+	 * Keeps the path from the root down to the current leaf, so moving to the
+	 * next leaf only climbs as far as it has to.
+	 */
+	private static final class Iter<T> implements Iterator<T> {
+		private final Node[] path;
+		private final int[] at;
+		private Object[] leaf;
+		private int leafIndex;
+		private int remaining;
+
+		Iter(Node root, int height) {
+			this.path = new Node[height + 1];
+			this.at = new int[height + 1];
+			this.remaining = root.size;
+			path[height] = root;
+			descend(height);
+		}
+
+		/**
+		 * Go down the first children from path[h] to a leaf.
+		 */
+		private void descend(int h) {
+			for (; h > 0; h--) {
+				path[h - 1] = (Node) path[h].slots[at[h]];
+				at[h - 1] = 0;
+			}
+			leaf = path[0].slots;
+			leafIndex = 0;
+		}
+
+		@Override
+		public boolean hasNext() {
+			return remaining > 0;
+		}
+
+		@SuppressWarnings("unchecked")
+		@Override
+		public T next() {
+			if (remaining == 0) {
+				throw new NoSuchElementException();
+			}
+			if (leafIndex == leaf.length) {
+				int h = 1;
+				while (at[h] + 1 == path[h].slots.length) {
+					h++;
+				}
+				at[h]++;
+				descend(h);
+			}
+			remaining--;
+			return (T) leaf[leafIndex++];
+		}
+	}
+}
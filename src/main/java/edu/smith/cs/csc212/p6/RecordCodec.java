@@ -0,0 +1,96 @@
+package edu.smith.cs.csc212.p6;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Turns a value into a fixed number of bytes and back, so it can be stored
+ * outside the Java heap by {@link OffHeapFixedSizeList} or in a file by
+ * {@link MappedGrowableList}.
+ * 
+ * @param <T> the type of value this codec understands.
+ */
+public interface RecordCodec<T> {
+	/**
+	 * 32-bit ints, 4 bytes each.
+	 */
+	RecordCodec<Integer> INT = new RecordCodec<Integer>() {
+		@Override
+		public int width() {
+			return Integer.BYTES;
+		}
+
+		@Override
+		public void write(ByteBuffer buffer, int offset, Integer value) {
+			buffer.putInt(offset, value);
+		}
+
+		@Override
+		public Integer read(ByteBuffer buffer, int offset) {
+			return buffer.getInt(offset);
+		}
+	};
+
+	/**
+	 * 64-bit longs, 8 bytes each.
+	 */
+	RecordCodec<Long> LONG = new RecordCodec<Long>() {
+		@Override
+		public int width() {
+			return Long.BYTES;
+		}
+
+		@Override
+		public void write(ByteBuffer buffer, int offset, Long value) {
+			buffer.putLong(offset, value);
+		}
+
+		@Override
+		public Long read(ByteBuffer buffer, int offset) {
+			return buffer.getLong(offset);
+		}
+	};
+
+	/**
+	 * 64-bit doubles, 8 bytes each.
+	 */
+	RecordCodec<Double> DOUBLE = new RecordCodec<Double>() {
+		@Override
+		public int width() {
+			return Double.BYTES;
+		}
+
+		@Override
+		public void write(ByteBuffer buffer, int offset, Double value) {
+			buffer.putDouble(offset, value);
+		}
+
+		@Override
+		public Double read(ByteBuffer buffer, int offset) {
+			return buffer.getDouble(offset);
+		}
+	};
+
+	/**
+	 * @return how many bytes every value takes; never changes, and at least 1.
+	 */
+	int width();
+
+	/**
+	 * Store a value at buffer[offset, offset+width()). Use the absolute get/put
+	 * methods; don't move the buffer's position.
+	 * 
+	 * @param buffer where to write.
+	 * @param offset the byte offset of the record.
+	 * @param value  what to write.
+	 */
+	void write(ByteBuffer buffer, int offset, T value);
+
+	/**
+	 * Rebuild a value from buffer[offset, offset+width()).
+	 * 
+	 * @param buffer where to read from.
+	 * @param offset the byte offset of the record.
+	 * @return the value.
+	 */
+	T read(ByteBuffer buffer, int offset);
+}
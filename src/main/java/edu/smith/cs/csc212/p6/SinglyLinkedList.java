@@ -1,6 +1,10 @@
 package edu.smith.cs.csc212.p6;
 
+import java.util.ConcurrentModificationException;
 import java.util.Iterator;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+
 import edu.smith.cs.csc212.p6.errors.BadIndexError;
 import edu.smith.cs.csc212.p6.errors.EmptyListError;
 import edu.smith.cs.csc212.p6.errors.P6NotImplemented;
@@ -13,11 +17,32 @@ import edu.smith.cs.csc212.p6.errors.RanOutOfSpaceError;
  *
  * @param <T> - what type of items in list
  */
-public class SinglyLinkedList<T> implements P6List<T>, Iterable<T> {
+public class SinglyLinkedList<T> implements P6List<T> {
 	/**
 	 * The start of this list. Node is defined at the bottom of this file.
 	 */
 	Node<T> start;
+	/**
+	 * The last node of this list, so addBack and getBack don't have to walk.
+	 */
+	Node<T> end;
+	/**
+	 * How many items are in this list; kept up to date by every add and remove.
+	 */
+	int size;
+	/**
+	 * Bumped by every add and remove, so iterators can notice.
+	 */
+	int modCount;
+	/**
+	 * The last node an index lookup landed on, and its index, so the next lookup
+	 * at or after it can start walking from there instead of from start. Only
+	 * trusted while fingerModCount == modCount; the index-based adds and removes
+	 * move it to a node they know is still right.
+	 */
+	private Node<T> finger;
+	private int fingerIndex;
+	private int fingerModCount = -1;
 
 	/**
 	 * Deletes item at index 0 AKA front of list
@@ -32,6 +57,11 @@ public class SinglyLinkedList<T> implements P6List<T>, Iterable<T> {
 		checkNotEmpty();
 		T before = start.value;
 		start = start.next;
+		modCount++;
+		size--;
+		if (start == null) {
+			end = null;
+		}
 		return before;
 	}
 
@@ -50,21 +80,21 @@ public class SinglyLinkedList<T> implements P6List<T>, Iterable<T> {
 	@Override
 	public T removeBack() {
 		checkNotEmpty();
-		if (size()==1) {
+		if (size==1) {
 			T casper=start.value;
 			start=null;
+			end=null;
+			modCount++;
+			size=0;
 			return casper;
 		}
-		else {
-			for (Node<T> current = start; current != null; current = current.next) {
-				if (current.next.next==null) {
-					T groot=current.next.value;
-					current.next=null;
-					return groot;
-				}
-			}
-		}
-		return null;
+		Node<T> current = nodeBefore(size-1);
+		T groot=end.value;
+		current.next=null;
+		end=current;
+		modCount++;
+		size--;
+		return groot;
 	}
 
 	/**
@@ -72,7 +102,7 @@ public class SinglyLinkedList<T> implements P6List<T>, Iterable<T> {
 	 * 
 	 * O(n)-indicate some change in growth of function, speed proportional to amt data
 	 * 
-	 * If only one value in list, will remove that item
+	 * If removing the front, same as removeFront
 	 * Otherwise, loop through list until item before item to be deleted. Delete
 	 * links and create new link in order to delete desired item. 
 	 * 
@@ -86,27 +116,22 @@ public class SinglyLinkedList<T> implements P6List<T>, Iterable<T> {
 	@Override
 	public T removeIndex(int index) {
 		checkNotEmpty();
-		T removed = getIndex(index);
-		if (size()==1) {
-			T lonely=start.value;
-			start=null;
-			return lonely;
-		}if (index==0) {
-			start=start.next;
+		if (index<0 || index>=size) {
+			throw new BadIndexError();
 		}
-		else {
-			int gl=0;
-			Node<T>current=start;
-			for (gl=index-1; gl>0; gl--) {
-				if(current.next!=null) {
-					current=current.next;
-				}
-				else {
-					current.next=null;
-				}
-			}
-			current.next=current.next.next;
+		if (index==0) {
+			return removeFront();
 		}
+		Node<T> current=nodeBefore(index);
+		T removed=current.next.value;
+		if (current.next==end) {
+			end=current;
+		}
+		current.next=current.next.next;
+		modCount++;
+		size--;
+		// current is still at index-1.
+		remember(current, index-1);
 		return removed;
 	}
 
@@ -121,29 +146,34 @@ public class SinglyLinkedList<T> implements P6List<T>, Iterable<T> {
 	@Override
 	public void addFront(T item) {
 		this.start = new Node<T>(item, start);
+		if (end == null) {
+			end = start;
+		}
+		modCount++;
+		size++;
 	}
 
 	/**
 	 * Add an item to the back of this list. 
 	 * 
-	 * O(n)-indicate rate change proportionally to amt data
+	 * O(1)-rate constant regardless amt data
 	 * 
 	 * If nothing in list, just add to front
-	 * Otherwise, go to right before last item and add new Node there
+	 * Otherwise, hang the new Node off of end
 	 * 
 	 * @param item the data to add to the list.
 	 * @throws RanOutOfSpaceError if number of items in list is over array length
 	 */
 	@Override
 	public void addBack(T item) {
-		if (size()==0){
+		if (size==0){
 			addFront(item);
 		}else {
-			Node<T> current=start;
-			for (current = start; current.next != null; current = current.next) {	
-			}
-		current.next = new Node<T>(item,null);
-	}
+			end.next = new Node<T>(item,null);
+			end = end.next;
+			modCount++;
+			size++;
+		}
 	}
 
 	/**
@@ -159,29 +189,28 @@ public class SinglyLinkedList<T> implements P6List<T>, Iterable<T> {
 	 */
 	@Override
 	public void addIndex(T item, int index) {
-		Node<T> current=start;
-		Node<T> boo = new Node<T>(item, null);
-		if (index<0 || index>size()) {
+		if (index<0 || index>size) {
 			throw new BadIndexError();
 		}
 		if(index==0){
 			addFront(item);
-		}else if(index==size()) {
+		}else if(index==size) {
 			addBack(item);
 		}
 		else {
-			for (int gi=0; gi<index-1;gi++) {
-					current=current.next;
-				}
-			boo.next=current.next;
-			current.next=boo;
-			}
+			Node<T> current=nodeBefore(index);
+			current.next=new Node<T>(item, current.next);
+			modCount++;
+			size++;
+			// the new node is at index, right where a sequential caller goes next.
+			remember(current.next, index);
 		}
+	}
 
 	/**
 	 * Get the first item in the list.
 	 * 
-	 * O(n)-change proportional to amt data
+	 * O(1)-constant rate
 	 * 
 	 * @return the item.
 	 * @throws EmptyListError
@@ -197,10 +226,7 @@ public class SinglyLinkedList<T> implements P6List<T>, Iterable<T> {
 	/**
 	 * Get the last item in the list.
 	 * 
-	 * O(n)-change proportional to amt data
-	 * 
-	 * If size is one, just get that one item
-	 * Otherwise, loop through to item before last and get last value with current.next
+	 * O(1)-constant rate, end is always the last node
 	 * 
 	 * @return the item.
 	 * @throws EmptyListError
@@ -208,25 +234,13 @@ public class SinglyLinkedList<T> implements P6List<T>, Iterable<T> {
 	@Override
 	public T getBack() {
 		checkNotEmpty();
-		if (size()==1) {
-			T joe=start.value;
-			return joe;
-		}
-		else {
-			for (Node<T> current = start; current != null; current = current.next) {
-				if (current.next.next==null) {
-					T groot=current.next.value;
-					return groot;
-				}
-			}
-		}
-		return null;
+		return end.value;
 	}
 
 	/**
 	 * Find the index-th element of this list.
 	 * 
-	 * O(1)-no matter how much data, will execute at constant time
+	 * O(n)-walks from start, speed proportional to index
 	 * 
 	 * @param index a number from 0 to size, excluding size.
 	 * @return the value at index.
@@ -235,14 +249,13 @@ public class SinglyLinkedList<T> implements P6List<T>, Iterable<T> {
 	@Override
 	public T getIndex(int index) {
 		checkNotEmpty();
-		int at = 0;
-		for (Node<T> current = start; current != null; current = current.next) {
-			if (at == index) {
-				return current.value;
-			}
-			at++;
+		if (index<0 || index>=size) {
+			throw new BadIndexError();
+		}
+		if (index==size-1) {
+			return end.value;
 		}
-		throw new BadIndexError();
+		return nodeBefore(index+1).value;
 	}
 	
 	/**
@@ -250,31 +263,137 @@ public class SinglyLinkedList<T> implements P6List<T>, Iterable<T> {
 	 * 
 	 * O(1)-no matter how much data, will execute at constant time
 	 * 
-	 * Create counter and loop through list to count
+	 * Every add and remove keeps the size field up to date
 	 * 
 	 * @return the length of the list, or zero if empty.
 	 */
 	@Override
 	public int size() {
+		return size;
+	}
+
+	/**
+	 * This is true if the list is empty. Looks at start.
+	 * 
+	 * @return true if the list is empty.
+	 */
+	@Override
+	public boolean isEmpty() {
+		return start == null;
+	}
+
+	/**
+	 * Add every item before ``index`` in this list, in order.
+	 * 
+	 * O(n + k)-builds a chain of new nodes, then walks once to index and splices
+	 * the whole chain in
+	 * 
+	 * @param index a number from 0 to size, including size.
+	 * @param items the data to add to the list.
+	 * @throws BadIndexError if the index does not exist.
+	 */
+	@Override
+	public void insertAll(int index, Iterable<? extends T> items) {
+		if (index<0 || index>size) {
+			throw new BadIndexError();
+		}
+		Node<T> first = null;
+		Node<T> last = null;
 		int count = 0;
-		for (Node<T> n = this.start; n != null; n = n.next) {
+		for (T item : items) {
+			Node<T> made = new Node<T>(item, null);
+			if (first == null) {
+				first = made;
+			} else {
+				last.next = made;
+			}
+			last = made;
 			count++;
 		}
-		return count;
+		if (count == 0) {
+			return;
+		}
+		if (index == 0) {
+			last.next = start;
+			start = first;
+		} else {
+			Node<T> before = (index == size) ? end : nodeBefore(index);
+			last.next = before.next;
+			before.next = first;
+		}
+		if (last.next == null) {
+			end = last;
+		}
+		modCount++;
+		size += count;
 	}
 
 	/**
-	 * This is true if the list is empty. Looks at fill.
+	 * Delete the items from ``fromIndex`` up to (but not including) ``toIndex``.
 	 * 
-	 * @return true if the list is empty.
+	 * O(toIndex)-one walk to the end of the range, then one relink
+	 * 
+	 * @param fromIndex the index of the first item to remove.
+	 * @param toIndex   one past the index of the last item to remove.
+	 * @throws EmptyListError if the list is empty and the range is not.
+	 * @throws BadIndexError  if the range does not fit inside the list.
 	 */
 	@Override
-	public boolean isEmpty() {
-		if (this.size() ==0)
-			return true;
-		else {
-		return false;
+	public void removeRange(int fromIndex, int toIndex) {
+		BulkItems.checkRange(this, fromIndex, toIndex);
+		if (fromIndex == toIndex) {
+			return;
+		}
+		Node<T> before = (fromIndex == 0) ? null : nodeBefore(fromIndex);
+		Node<T> after = (before == null) ? start : before.next;
+		for (int i = fromIndex; i < toIndex; i++) {
+			after = after.next;
+		}
+		if (before == null) {
+			start = after;
+		} else {
+			before.next = after;
+		}
+		if (after == null) {
+			end = before;
+		}
+		modCount++;
+		size -= toIndex - fromIndex;
+		// don't let the finger keep the removed nodes alive.
+		finger = null;
+	}
+
+	/**
+	 * Helper method to walk to the node just before ``index``.
+	 * 
+	 * O(distance)-starts from the finger if it is at or before the node we want,
+	 * so a loop over increasing indices is O(1) per call instead of O(index).
+	 * 
+	 * @param index a number from 1 to size, including size.
+	 * @return the node at index-1.
+	 */
+	private Node<T> nodeBefore(int index) {
+		int target = index - 1;
+		Node<T> current = start;
+		int at = 0;
+		if (finger != null && fingerModCount == modCount && fingerIndex <= target) {
+			current = finger;
+			at = fingerIndex;
+		}
+		for (; at < target; at++) {
+			current = current.next;
 		}
+		remember(current, target);
+		return current;
+	}
+
+	/**
+	 * Point the finger at ``node``, which is at ``index`` right now.
+	 */
+	private void remember(Node<T> node, int index) {
+		finger = node;
+		fingerIndex = index;
+		fingerModCount = modCount;
 	}
 
 	
@@ -328,6 +447,12 @@ public class SinglyLinkedList<T> implements P6List<T>, Iterable<T> {
 		 * This is the value that walks through the list.
 		 */
 		Node<T> current;
+		/**
+		 * The list we're walking, and its modCount when we started; if they ever
+		 * differ, someone changed the list out from under us.
+		 */
+		final SinglyLinkedList<T> list;
+		final int expectedModCount;
 
 		/**
 		 * This constructor details where to start, given a list.
@@ -336,6 +461,8 @@ public class SinglyLinkedList<T> implements P6List<T>, Iterable<T> {
 		 */
 		public Iter(SinglyLinkedList<T> list) {
 			this.current = list.start;
+			this.list = list;
+			this.expectedModCount = list.modCount;
 		}
 
 		/**
@@ -351,16 +478,189 @@ public class SinglyLinkedList<T> implements P6List<T>, Iterable<T> {
 		 */
 		@Override
 		public T next() {
+			if (list.modCount != expectedModCount) {
+				throw new ConcurrentModificationException();
+			}
+			if (current == null) {
+				throw new NoSuchElementException();
+			}
 			T found = current.value;
 			current = current.next;
 			return found;
 		}
 	}
 	
+	/**
+	 * A cursor that starts before the first item; see {@link #listIterator(int)}.
+	 * 
+	 * @return a ListIterator over this list.
+	 */
+	public ListIterator<T> listIterator() {
+		return listIterator(0);
+	}
+	
+	/**
+	 * A cursor that sits between two items. next(), add(), remove() and set()
+	 * are all O(1), because the cursor remembers the node just behind it, so a
+	 * whole pass that edits as it goes is O(n) instead of the O(n^2) of
+	 * addIndex/removeIndex. Only finding the starting point costs O(index).
+	 * 
+	 * Walking backward with previous() is O(n) per step, since the nodes only
+	 * point forward; use a {@link DoublyLinkedList} for that.
+	 * 
+	 * It fails fast like iterator(), but its own add and remove are fine.
+	 * 
+	 * @param index where the cursor starts: the first next() returns this item.
+	 * @return a ListIterator over this list.
+	 * @throws BadIndexError if index is not from 0 to size, including size.
+	 */
+	public ListIterator<T> listIterator(int index) {
+		if (index<0 || index>size) {
+			throw new BadIndexError();
+		}
+		return new Cursor(index);
+	}
+	
+	/**
+	 * The ListIterator from {@link #listIterator(int)}. The cursor sits just
+	 * after ``behind`` (null at the start of the list).
+	 */
+	private class Cursor implements ListIterator<T> {
+		private Node<T> behind;
+		private int nextIndex;
+		/**
+		 * The node remove() and set() act on, and the node before it (null if it
+		 * is the start). Both null after add() or remove().
+		 */
+		private Node<T> lastReturned;
+		private Node<T> beforeLastReturned;
+		private int expectedModCount = modCount;
+
+		Cursor(int index) {
+			this.behind = (index == 0) ? null : nodeBefore(index);
+			this.nextIndex = index;
+		}
+
+		@Override
+		public boolean hasNext() {
+			return nextIndex < size;
+		}
+
+		@Override
+		public T next() {
+			checkModCount();
+			if (nextIndex >= size) {
+				throw new NoSuchElementException();
+			}
+			beforeLastReturned = behind;
+			lastReturned = (behind == null) ? start : behind.next;
+			behind = lastReturned;
+			nextIndex++;
+			return lastReturned.value;
+		}
+
+		@Override
+		public boolean hasPrevious() {
+			return nextIndex > 0;
+		}
+
+		/**
+		 * O(n)-has to walk from the start to find the node before.
+		 */
+		@Override
+		public T previous() {
+			checkModCount();
+			if (nextIndex == 0) {
+				throw new NoSuchElementException();
+			}
+			lastReturned = behind;
+			nextIndex--;
+			behind = (nextIndex == 0) ? null : nodeBefore(nextIndex);
+			beforeLastReturned = behind;
+			return lastReturned.value;
+		}
+
+		@Override
+		public int nextIndex() {
+			return nextIndex;
+		}
+
+		@Override
+		public int previousIndex() {
+			return nextIndex - 1;
+		}
+
+		@Override
+		public void remove() {
+			checkModCount();
+			if (lastReturned == null) {
+				throw new IllegalStateException();
+			}
+			if (beforeLastReturned == null) {
+				start = lastReturned.next;
+			} else {
+				beforeLastReturned.next = lastReturned.next;
+			}
+			if (end == lastReturned) {
+				end = beforeLastReturned;
+			}
+			if (behind == lastReturned) {
+				// it came from next(): it was just behind the cursor.
+				behind = beforeLastReturned;
+				nextIndex--;
+			}
+			lastReturned.next = null;
+			lastReturned = null;
+			beforeLastReturned = null;
+			modCount++;
+			size--;
+			expectedModCount = modCount;
+		}
+
+		@Override
+		public void set(T item) {
+			checkModCount();
+			if (lastReturned == null) {
+				throw new IllegalStateException();
+			}
+			lastReturned.value = item;
+		}
+
+		@Override
+		public void add(T item) {
+			checkModCount();
+			if (behind == null) {
+				start = new Node<T>(item, start);
+				behind = start;
+			} else {
+				behind.next = new Node<T>(item, behind.next);
+				behind = behind.next;
+			}
+			if (behind.next == null) {
+				end = behind;
+			}
+			nextIndex++;
+			lastReturned = null;
+			beforeLastReturned = null;
+			modCount++;
+			size++;
+			expectedModCount = modCount;
+		}
+
+		private void checkModCount() {
+			if (modCount != expectedModCount) {
+				throw new ConcurrentModificationException();
+			}
+		}
+	}
+	
 	/**
 	 * Implement iterator() so that {@code SinglyLinkedList} can be used in a for loop.
+	 * It fails fast: adding or removing while looping throws
+	 * ConcurrentModificationException on the next call to next().
 	 * @return an object that understands "next()" and "hasNext()".
 	 */
+	@Override
 	public Iterator<T> iterator() {
 		return new Iter<>(this);
 	}
@@ -0,0 +1,287 @@
+package edu.smith.cs.csc212.p6;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Makes any P6List safe to share between threads, for lists that are read a lot
+ * more than they are changed.
+ *
+ * Every add and remove takes the write lock. How reads (getIndex, getFront,
+ * getBack, size, isEmpty) are locked depends on the list, so there is no
+ * default: say which kind of list you are wrapping with {@link Reads}.
+ * <ul>
+ * <li>{@link Reads#SHARED}, for lists whose reads really don't write anything
+ * (FixedSizeList, GrowableList, GapBufferList, ...). A read first runs with no
+ * lock at all under an optimistic stamp, then checks the stamp: if no write
+ * happened meanwhile, the answer stands. Only if a write got in the way does
+ * the read run again under the shared read lock. Anything the list throws
+ * during a read that turns out to have raced a write is thrown away too.</li>
+ * <li>{@link Reads#EXCLUSIVE}, for lists whose reads change them:
+ * SinglyLinkedList and DoublyLinkedList move their finger on getIndex, and
+ * ChunkyLinkedList rebuilds its directory on the first getIndex after a chunk
+ * is added or dropped, so two of their reads at once can corrupt each other.
+ * Reads take the write lock, one at a time.</li>
+ * </ul>
+ *
+ * To pay for one lock instead of one per call, use {@link #withWriteLock}:
+ * <pre>
+ * routes.withWriteLock(list -&gt; {
+ *     list.removeFront();
+ *     list.addBack(next);
+ * });
+ * </pre>
+ *
+ * @param <T> the type of item inside the list.
+ */
+public class StampedLockList<T> implements P6List<T> {
+	/**
+	 * Whether the wrapped list's reads can safely run at the same time.
+	 */
+	public enum Reads {
+		/**
+		 * Reads write nothing: run them optimistically, then under the shared read
+		 * lock.
+		 */
+		SHARED,
+		/**
+		 * Reads change the list (a finger, a directory): run them under the write
+		 * lock.
+		 */
+		EXCLUSIVE
+	}
+
+	private final P6List<T> list;
+	private final Reads reads;
+	private final StampedLock lock = new StampedLock();
+
+	/**
+	 * @param list  the list to guard; nothing else should touch it from now on.
+	 * @param reads whether that list's reads can run at the same time; SHARED
+	 *              for a list whose reads change it will corrupt it.
+	 */
+	public StampedLockList(P6List<T> list, Reads reads) {
+		if (reads == null) {
+			throw new NullPointerException("say whether reads are SHARED or EXCLUSIVE");
+		}
+		this.list = list;
+		this.reads = reads;
+	}
+
+	/**
+	 * Run ``action`` on the wrapped list while holding the write lock once, so a
+	 * series of changes is atomic and pays for one lock. Don't keep the list it
+	 * hands you after ``action`` returns, and don't call this wrapper from inside
+	 * it: the lock is not reentrant.
+	 *
+	 * @param action what to do with the list.
+	 */
+	public void withWriteLock(Consumer<? super P6List<T>> action) {
+		long stamp = lock.writeLock();
+		try {
+			action.accept(list);
+		} finally {
+			lock.unlockWrite(stamp);
+		}
+	}
+
+	@Override
+	public T removeFront() {
+		long stamp = lock.writeLock();
+		try {
+			return list.removeFront();
+		} finally {
+			lock.unlockWrite(stamp);
+		}
+	}
+
+	@Override
+	public T removeBack() {
+		long stamp = lock.writeLock();
+		try {
+			return list.removeBack();
+		} finally {
+			lock.unlockWrite(stamp);
+		}
+	}
+
+	@Override
+	public T removeIndex(int index) {
+		long stamp = lock.writeLock();
+		try {
+			return list.removeIndex(index);
+		} finally {
+			lock.unlockWrite(stamp);
+		}
+	}
+
+	@Override
+	public void addFront(T item) {
+		long stamp = lock.writeLock();
+		try {
+			list.addFront(item);
+		} finally {
+			lock.unlockWrite(stamp);
+		}
+	}
+
+	@Override
+	public void addBack(T item) {
+		long stamp = lock.writeLock();
+		try {
+			list.addBack(item);
+		} finally {
+			lock.unlockWrite(stamp);
+		}
+	}
+
+	@Override
+	public void addIndex(T item, int index) {
+		long stamp = lock.writeLock();
+		try {
+			list.addIndex(item, index);
+		} finally {
+			lock.unlockWrite(stamp);
+		}
+	}
+
+	/**
+	 * Atomic: nobody sees half of the items. They are copied before the lock is
+	 * taken, so adding a list to itself works.
+	 */
+	@Override
+	public void addAll(Iterable<? extends T> items) {
+		List<T> copy = copyOf(items);
+		long stamp = lock.writeLock();
+		try {
+			list.addAll(copy);
+		} finally {
+			lock.unlockWrite(stamp);
+		}
+	}
+
+	/**
+	 * Atomic, like {@link #addAll}.
+	 */
+	@Override
+	public void insertAll(int index, Iterable<? extends T> items) {
+		List<T> copy = copyOf(items);
+		long stamp = lock.writeLock();
+		try {
+			list.insertAll(index, copy);
+		} finally {
+			lock.unlockWrite(stamp);
+		}
+	}
+
+	/**
+	 * Atomic: nobody sees half of the range gone.
+	 */
+	@Override
+	public void removeRange(int fromIndex, int toIndex) {
+		long stamp = lock.writeLock();
+		try {
+			list.removeRange(fromIndex, toIndex);
+		} finally {
+			lock.unlockWrite(stamp);
+		}
+	}
+
+	@Override
+	public T getFront() {
+		return read(P6List::getFront);
+	}
+
+	@Override
+	public T getBack() {
+		return read(P6List::getBack);
+	}
+
+	@Override
+	public T getIndex(int index) {
+		return read(guarded -> guarded.getIndex(index));
+	}
+
+	@Override
+	public int size() {
+		return read(P6List::size);
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return read(P6List::isEmpty);
+	}
+
+	/**
+	 * O(n)-walks a copy of the list taken under the lock, so it never throws
+	 * ConcurrentModificationException and never sees half of a change.
+	 */
+	@Override
+	public Iterator<T> iterator() {
+		return snapshot().iterator();
+	}
+
+	/**
+	 * Like iterator(), and its size is exactly the size of the copy.
+	 */
+	@Override
+	public Spliterator<T> spliterator() {
+		return snapshot().spliterator();
+	}
+
+	/**
+	 * Run a read optimistically, and again under a real lock if a write got in
+	 * its way; or, for EXCLUSIVE, just under the write lock.
+	 */
+	private <R> R read(Function<P6List<T>, R> reader) {
+		if (reads == Reads.SHARED) {
+			long stamp = lock.tryOptimisticRead();
+			if (stamp != 0) {
+				try {
+					R found = reader.apply(list);
+					if (lock.validate(stamp)) {
+						return found;
+					}
+				} catch (RuntimeException e) {
+					// a BadIndexError that didn't race anything is the real answer;
+					// anything else may just be from seeing half of a write.
+					if (lock.validate(stamp)) {
+						throw e;
+					}
+				}
+			}
+			stamp = lock.readLock();
+			try {
+				return reader.apply(list);
+			} finally {
+				lock.unlockRead(stamp);
+			}
+		}
+		long stamp = lock.writeLock();
+		try {
+			return reader.apply(list);
+		} finally {
+			lock.unlockWrite(stamp);
+		}
+	}
+
+	/**
+	 * A copy of the whole list, taken under the lock.
+	 */
+	private List<T> snapshot() {
+		return read(guarded -> copyOf(guarded));
+	}
+
+	@SuppressWarnings("unchecked")
+	private List<T> copyOf(Iterable<? extends T> items) {
+		if (items == this) {
+			return snapshot();
+		}
+		return (List<T>) Arrays.asList(BulkItems.toArray(items));
+	}
+}
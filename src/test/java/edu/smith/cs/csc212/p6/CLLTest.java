@@ -8,9 +8,17 @@ import edu.smith.cs.csc212.p6.errors.RanOutOfSpaceError;
 
 import static org.junit.Assert.assertEquals;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Random;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
 
 import org.junit.Assert;
 import org.junit.Ignore;
@@ -326,4 +334,236 @@ public class CLLTest {
 			}
 		}
 	}
+	
+	@Test
+	public void testGetIndexAcrossChunks() {
+		P6List<Integer> data = makeEmptyList();
+		for (int i=0; i<20; i++) {
+			data.addBack(i);
+			Assert.assertEquals(0, (int) data.getIndex(0));
+			Assert.assertEquals(i, (int) data.getIndex(i));
+		}
+		data.addFront(-1);
+		Assert.assertEquals(-1, (int) data.getIndex(0));
+		Assert.assertEquals(19, (int) data.getIndex(20));
+		Assert.assertEquals(19, (int) data.removeBack());
+		Assert.assertEquals(18, (int) data.removeBack());
+		Assert.assertEquals(17, (int) data.getIndex(18));
+		Assert.assertEquals(-1, (int) data.removeFront());
+		Assert.assertEquals(0, (int) data.removeFront());
+		for (int i=1; i<18; i++) {
+			Assert.assertEquals(i, (int) data.getIndex(i-1));
+		}
+	}
+	
+	@Test
+	public void testMiddleEditsSplitAndMerge() {
+		ChunkyLinkedList<Integer> data = new ChunkyLinkedList<>(4);
+		List<Integer> expected = new ArrayList<>();
+		Random rand = new Random(7);
+		for (int i=0; i<500; i++) {
+			int index = rand.nextInt(expected.size()+1);
+			data.addIndex(i, index);
+			expected.add(index, i);
+		}
+		for (int i=0; i<400; i++) {
+			int index = rand.nextInt(expected.size());
+			Assert.assertEquals(expected.remove(index), data.removeIndex(index));
+		}
+		Assert.assertEquals(expected.size(), data.size());
+		for (int i=0; i<expected.size(); i++) {
+			Assert.assertEquals(expected.get(i), data.getIndex(i));
+		}
+	}
+	
+	@Test
+	public void testInChunkEditsKeepDirectory() {
+		// 100 full chunks of 8. Taking an item out of the middle of a chunk and
+		// putting one back in the same place never adds, drops or merges a chunk,
+		// so reads in between never rebuild the directory.
+		ChunkyLinkedList<Integer> data = new ChunkyLinkedList<>(8);
+		List<Integer> expected = new ArrayList<>();
+		for (int i=0; i<800; i++) {
+			data.addBack(i);
+			expected.add(i);
+		}
+		Assert.assertEquals(0, (int) data.getIndex(0));
+		int rebuilds = data.rebuildCount();
+		Random rand = new Random(3);
+		for (int i=0; i<2000; i++) {
+			int index = 8 * rand.nextInt(100) + 1 + rand.nextInt(6);
+			Assert.assertEquals(expected.remove(index), data.removeIndex(index));
+			int read = rand.nextInt(expected.size());
+			Assert.assertEquals(expected.get(read), data.getIndex(read));
+			data.addIndex(-i, index);
+			expected.add(index, -i);
+			read = rand.nextInt(expected.size());
+			Assert.assertEquals(expected.get(read), data.getIndex(read));
+		}
+		Assert.assertEquals(expected.remove(0), data.removeFront());
+		data.addFront(-1);
+		expected.add(0, -1);
+		Assert.assertEquals(expected.get(400), data.getIndex(400));
+		Assert.assertEquals(rebuilds, data.rebuildCount());
+
+		// splitting a full chunk moves every chunk after it: one rebuild.
+		data.addIndex(-5, 404);
+		expected.add(404, -5);
+		for (int i=0; i<expected.size(); i++) {
+			Assert.assertEquals(expected.get(i), data.getIndex(i));
+		}
+		Assert.assertEquals(rebuilds + 1, data.rebuildCount());
+	}
+	
+	@Test(expected=IllegalArgumentException.class)
+	public void testBadMergeThreshold() {
+		new ChunkyLinkedList<String>(4, 1.5);
+	}
+	
+	@Test
+	public void testBulkOps() {
+		P6List<Integer> data = makeEmptyList();
+		data.addAll(Arrays.asList(0, 1, 2, 3, 4, 5, 6, 7, 8, 9));
+		Assert.assertEquals(10, data.size());
+		data.insertAll(3, Arrays.asList(-1, -2, -3, -4, -5, -6, -7));
+		data.insertAll(0, Arrays.asList(-10));
+		data.insertAll(data.size(), Arrays.asList(10, 11));
+		List<Integer> expected = new ArrayList<>(Arrays.asList(-10, 0, 1, 2, -1, -2, -3, -4, -5, -6, -7, 3, 4, 5, 6, 7, 8, 9, 10, 11));
+		Assert.assertEquals(expected.size(), data.size());
+		for (int i=0; i<expected.size(); i++) {
+			Assert.assertEquals(expected.get(i), data.getIndex(i));
+		}
+		data.removeRange(4, 11);
+		expected.subList(4, 11).clear();
+		data.removeRange(0, 1);
+		expected.remove(0);
+		data.removeRange(data.size()-2, data.size());
+		expected.subList(expected.size()-2, expected.size()).clear();
+		data.removeRange(3, 3);
+		Assert.assertEquals(expected.size(), data.size());
+		for (int i=0; i<expected.size(); i++) {
+			Assert.assertEquals(expected.get(i), data.getIndex(i));
+		}
+		Assert.assertEquals(expected.get(expected.size()-1), data.getBack());
+		data.removeRange(0, data.size());
+		Assert.assertEquals(true, data.isEmpty());
+		data.addAll(Arrays.asList(1, 2));
+		Assert.assertEquals(2, (int) data.getBack());
+	}
+	
+	@Test(expected=BadIndexError.class)
+	public void testRemoveRangeBad() {
+		P6List<String> data = makeFullList();
+		data.removeRange(2, 5);
+	}
+	
+	@Test(expected=BadIndexError.class)
+	public void testInsertAllBad() {
+		P6List<String> data = makeFullList();
+		data.insertAll(5, Arrays.asList("x"));
+	}
+	
+	@Test
+	public void testBulkOpsRandom() {
+		ChunkyLinkedList<Integer> data = new ChunkyLinkedList<>(5);
+		List<Integer> expected = new ArrayList<>();
+		Random rand = new Random(3);
+		for (int round=0; round<200; round++) {
+			if (rand.nextBoolean() || expected.size() < 10) {
+				List<Integer> batch = new ArrayList<>();
+				for (int i=rand.nextInt(17); i>0; i--) {
+					batch.add(rand.nextInt(1000));
+				}
+				int index = rand.nextInt(expected.size()+1);
+				data.insertAll(index, batch);
+				expected.addAll(index, batch);
+			} else {
+				int from = rand.nextInt(expected.size());
+				int to = from + rand.nextInt(expected.size() - from + 1);
+				data.removeRange(from, to);
+				expected.subList(from, to).clear();
+			}
+			Assert.assertEquals(expected.size(), data.size());
+		}
+		for (int i=0; i<expected.size(); i++) {
+			Assert.assertEquals(expected.get(i), data.getIndex(i));
+		}
+	}
+
+	@Test
+	public void testIterate() {
+		P6List<Integer> data = makeEmptyList();
+		for (Integer x : data) {
+			Assert.fail("empty list gave " + x);
+		}
+		for (int i=0; i<100; i++) {
+			data.addBack(i);
+		}
+		data.removeFront();
+		data.addFront(-1);
+		int expected = -1;
+		for (Integer x : data) {
+			Assert.assertEquals(expected++, (int) x);
+			if (expected == 0) {
+				expected++;
+			}
+		}
+		Assert.assertEquals(100, expected);
+		// addAll takes any Iterable, so a P6List works too.
+		P6List<Integer> copy = makeEmptyList();
+		copy.addAll(data);
+		Assert.assertEquals(data.size(), copy.size());
+		Assert.assertEquals(data.getBack(), copy.getBack());
+	}
+	
+	@Test(expected=ConcurrentModificationException.class)
+	public void testIteratorFailFast() {
+		P6List<Integer> data = makeEmptyList();
+		data.addAll(Arrays.asList(1, 2, 3));
+		for (Integer x : data) {
+			data.addBack(x);
+		}
+	}
+	
+	@Test(expected=NoSuchElementException.class)
+	public void testIteratorPastEnd() {
+		P6List<Integer> data = makeEmptyList();
+		data.addBack(1);
+		Iterator<Integer> it = data.iterator();
+		it.next();
+		it.next();
+	}
+	
+	@Test
+	public void testStream() {
+		P6List<Integer> data = new ChunkyLinkedList<>(16);
+		List<Integer> expected = new ArrayList<>();
+		for (int i=0; i<1000; i++) {
+			data.addBack(i);
+			expected.add(i);
+		}
+		// make some chunks less than full.
+		data.removeRange(100, 150);
+		expected.subList(100, 150).clear();
+		data.addIndex(-1, 500);
+		expected.add(500, -1);
+		
+		Spliterator<Integer> all = data.spliterator();
+		Assert.assertTrue(all.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.ORDERED));
+		Assert.assertEquals(expected.size(), all.getExactSizeIfKnown());
+		Spliterator<Integer> front = all.trySplit();
+		Assert.assertEquals(expected.size(), front.getExactSizeIfKnown() + all.getExactSizeIfKnown());
+		
+		Assert.assertEquals(expected, data.stream().collect(Collectors.toList()));
+		Assert.assertEquals(expected, data.parallelStream().collect(Collectors.toList()));
+		Assert.assertEquals(expected.stream().mapToLong(x -> x).sum(), data.parallelStream().mapToLong(x -> x).sum());
+		Assert.assertEquals(1, data.parallelStream().filter(x -> x < 0).count());
+	}
+	
+	@Test(expected=ConcurrentModificationException.class)
+	public void testStreamFailFast() {
+		P6List<Integer> data = new ChunkyLinkedList<>(4);
+		data.addAll(Arrays.asList(1, 2, 3, 4, 5, 6, 7, 8, 9));
+		data.stream().forEach(x -> data.addBack(x));
+	}
 }
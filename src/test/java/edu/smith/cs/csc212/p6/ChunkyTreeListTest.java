@@ -0,0 +1,202 @@
+package edu.smith.cs.csc212.p6;
+
+import org.junit.Test;
+
+import edu.smith.cs.csc212.p6.errors.BadIndexError;
+import edu.smith.cs.csc212.p6.errors.EmptyListError;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import org.junit.Assert;
+
+public class ChunkyTreeListTest {
+	private <T> P6List<T> makeEmptyList() {
+		return new ChunkyTreeList<>(4);
+	}
+
+	@Test
+	public void testEmpty() {
+		P6List<String> data = makeEmptyList();
+		Assert.assertEquals(0, data.size());
+		Assert.assertEquals(true, data.isEmpty());
+	}
+
+	@Test(expected=EmptyListError.class)
+	public void testRemoveFrontCrash() {
+		makeEmptyList().removeFront();
+	}
+
+	@Test(expected=EmptyListError.class)
+	public void testRemoveBackCrash() {
+		makeEmptyList().removeBack();
+	}
+
+	@Test(expected=EmptyListError.class)
+	public void testGetBackCrash() {
+		P6List<String> data = makeEmptyList();
+		data.addFront("a");
+		data.removeBack();
+		data.getBack();
+	}
+
+	@Test(expected=BadIndexError.class)
+	public void testGetIndexHigh() {
+		P6List<String> data = makeEmptyList();
+		data.addBack("a");
+		data.getIndex(1);
+	}
+
+	@Test(expected=BadIndexError.class)
+	public void testAddIndexHigh() {
+		P6List<String> data = makeEmptyList();
+		data.addIndex("a", 1);
+	}
+
+	@Test(expected=IllegalArgumentException.class)
+	public void testBadChunkSize() {
+		new ChunkyTreeList<String>(0);
+	}
+
+	@Test
+	public void testMatchesArrayList() {
+		Random rand = new Random(17);
+		P6List<Integer> data = makeEmptyList();
+		List<Integer> expected = new ArrayList<>();
+		for (int i=0; i<20000; i++) {
+			int index = expected.isEmpty() ? 0 : rand.nextInt(expected.size());
+			switch (rand.nextInt(8)) {
+			case 0:
+				data.addFront(i);
+				expected.add(0, i);
+				break;
+			case 1:
+				data.addBack(i);
+				expected.add(i);
+				break;
+			case 2:
+			case 3:
+				index = rand.nextInt(expected.size() + 1);
+				data.addIndex(i, index);
+				expected.add(index, i);
+				break;
+			case 4:
+				if (!expected.isEmpty()) {
+					Assert.assertEquals(expected.remove(index), data.removeIndex(index));
+				}
+				break;
+			case 5:
+				if (!expected.isEmpty()) {
+					Assert.assertEquals(expected.remove(0), data.removeFront());
+				}
+				break;
+			case 6:
+				if (!expected.isEmpty()) {
+					Assert.assertEquals(expected.remove(expected.size()-1), data.removeBack());
+				}
+				break;
+			default:
+				if (!expected.isEmpty()) {
+					Assert.assertEquals(expected.get(index), data.getIndex(index));
+					Assert.assertEquals(expected.get(0), data.getFront());
+					Assert.assertEquals(expected.get(expected.size()-1), data.getBack());
+				}
+			}
+			Assert.assertEquals(expected.size(), data.size());
+			Assert.assertEquals(expected.isEmpty(), data.isEmpty());
+		}
+		Assert.assertEquals(expected, data.stream().collect(Collectors.toList()));
+	}
+
+	@Test(timeout=10000)
+	public void testRandomInsertsAtScale() {
+		// 200k inserts at random places would be O(n^2) in a GrowableList and
+		// take a while with O(n) walks; here every one is O(log n).
+		Random rand = new Random(23);
+		P6List<Integer> data = new ChunkyTreeList<>(64);
+		long sum = 0;
+		for (int i=0; i<200000; i++) {
+			data.addIndex(i, rand.nextInt(data.size() + 1));
+			sum += i;
+		}
+		long found = 0;
+		for (int i=0; i<data.size(); i++) {
+			found += data.getIndex(i);
+		}
+		Assert.assertEquals(sum, found);
+		while (data.size() > 1000) {
+			data.removeIndex(rand.nextInt(data.size()));
+		}
+		Assert.assertEquals(1000, data.stream().count());
+	}
+
+	@Test
+	public void testDeletesMergeChunks() {
+		// 1000 items fill 125 chunks of 8. Without merging, random deletes down to
+		// 100 items would leave most of them holding one or two items each.
+		Random rand = new Random(29);
+		ChunkyTreeList<Integer> data = new ChunkyTreeList<>(8);
+		List<Integer> expected = new ArrayList<>();
+		for (int i=0; i<1000; i++) {
+			data.addBack(i);
+			expected.add(i);
+		}
+		Assert.assertEquals(125, data.chunkCount());
+		while (expected.size() > 100) {
+			int index = rand.nextInt(expected.size());
+			Assert.assertEquals(expected.remove(index), data.removeIndex(index));
+		}
+		Assert.assertEquals(expected, data.stream().collect(Collectors.toList()));
+		// any two neighbors hold at least half a chunk between them.
+		Assert.assertTrue(data.chunkCount() + " chunks", data.chunkCount() <= 2 * 100 / 4 + 1);
+		while (!expected.isEmpty()) {
+			Assert.assertEquals(expected.remove(0), data.removeFront());
+		}
+		Assert.assertEquals(0, data.chunkCount());
+	}
+
+	@Test
+	public void testIterate() {
+		P6List<Integer> data = makeEmptyList();
+		for (Integer x : data) {
+			Assert.fail("empty list gave " + x);
+		}
+		for (int i=0; i<100; i++) {
+			data.addBack(i);
+		}
+		data.removeFront();
+		data.addFront(-1);
+		int expected = -1;
+		for (Integer x : data) {
+			Assert.assertEquals(expected++, (int) x);
+			if (expected == 0) {
+				expected++;
+			}
+		}
+		Assert.assertEquals(100, expected);
+	}
+
+	@Test(expected=ConcurrentModificationException.class)
+	public void testIteratorFailFast() {
+		P6List<Integer> data = makeEmptyList();
+		data.addAll(Arrays.asList(1, 2, 3));
+		for (Integer x : data) {
+			data.addBack(x);
+		}
+	}
+
+	@Test(expected=NoSuchElementException.class)
+	public void testIteratorPastEnd() {
+		P6List<Integer> data = makeEmptyList();
+		data.addBack(1);
+		Iterator<Integer> it = data.iterator();
+		it.next();
+		it.next();
+	}
+}
@@ -0,0 +1,289 @@
+package edu.smith.cs.csc212.p6;
+
+import org.junit.Test;
+
+import edu.smith.cs.csc212.p6.errors.BadIndexError;
+import edu.smith.cs.csc212.p6.errors.EmptyListError;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+import org.junit.Assert;
+
+public class ConcurrentChunkyLinkedListTest {
+	private <T> ConcurrentChunkyLinkedList<T> makeEmptyList() {
+		return new ConcurrentChunkyLinkedList<>(4);
+	}
+
+	@Test
+	public void testEmpty() {
+		P6List<String> data = makeEmptyList();
+		Assert.assertEquals(0, data.size());
+		Assert.assertEquals(true, data.isEmpty());
+	}
+
+	@Test(expected=EmptyListError.class)
+	public void testRemoveFrontCrash() {
+		makeEmptyList().removeFront();
+	}
+
+	@Test(expected=EmptyListError.class)
+	public void testGetBackCrash() {
+		P6List<String> data = makeEmptyList();
+		data.addFront("a");
+		data.removeBack();
+		data.getBack();
+	}
+
+	@Test(expected=BadIndexError.class)
+	public void testGetIndexHigh() {
+		P6List<String> data = makeEmptyList();
+		data.addBack("a");
+		data.getIndex(1);
+	}
+
+	@Test(expected=IllegalArgumentException.class)
+	public void testBadChunkSize() {
+		new ConcurrentChunkyLinkedList<String>(0);
+	}
+
+	@Test
+	public void testMatchesArrayList() {
+		Random rand = new Random(7);
+		P6List<Integer> data = makeEmptyList();
+		List<Integer> expected = new ArrayList<>();
+		for (int i=0; i<5000; i++) {
+			int index = expected.isEmpty() ? 0 : rand.nextInt(expected.size());
+			switch (rand.nextInt(8)) {
+			case 0:
+				data.addFront(i);
+				expected.add(0, i);
+				break;
+			case 1:
+				data.addBack(i);
+				expected.add(i);
+				break;
+			case 2:
+				if (!expected.isEmpty()) {
+					Assert.assertEquals(expected.remove(0), data.removeFront());
+				}
+				break;
+			case 3:
+				if (!expected.isEmpty()) {
+					Assert.assertEquals(expected.remove(expected.size()-1), data.removeBack());
+				}
+				break;
+			case 4:
+				if (!expected.isEmpty()) {
+					Assert.assertEquals(expected.remove(index), data.removeIndex(index));
+				}
+				break;
+			case 5:
+				index = rand.nextInt(expected.size() + 1);
+				data.addIndex(i, index);
+				expected.add(index, i);
+				break;
+			default:
+				if (!expected.isEmpty()) {
+					Assert.assertEquals(expected.get(index), data.getIndex(index));
+					Assert.assertEquals(expected.get(0), data.getFront());
+					Assert.assertEquals(expected.get(expected.size()-1), data.getBack());
+				}
+			}
+			Assert.assertEquals(expected.size(), data.size());
+		}
+		Assert.assertEquals(expected, data.stream().collect(Collectors.toList()));
+		data.removeRange(0, data.size() / 2);
+		expected.subList(0, expected.size() / 2).clear();
+		data.insertAll(1, Arrays.asList(-1, -2, -3));
+		expected.addAll(1, Arrays.asList(-1, -2, -3));
+		Assert.assertEquals(expected, data.parallelStream().collect(Collectors.toList()));
+	}
+
+	@Test(timeout=60000)
+	public void testRemovesInDistinctChunksSkipWriteLock() throws InterruptedException {
+		// nine full chunks of 32; then chunks 0, 2, 4 and 6 drop to 15 items,
+		// under half full but next to a full chunk, so they can never merge.
+		ConcurrentChunkyLinkedList<Integer> data = new ConcurrentChunkyLinkedList<>(32);
+		for (int i=0; i<9*32; i++) {
+			data.addBack(i);
+		}
+		for (int c=6; c>=0; c-=2) {
+			for (int i=0; i<17; i++) {
+				data.removeIndex(32*c);
+			}
+		}
+		int size = data.size();
+		List<Integer> before = data.stream().sorted().collect(Collectors.toList());
+		long writeLocks = data.writeLockCount();
+
+		// each thread takes an item out of the middle of its own underfull chunk
+		// and puts it back. The others are at most one item off each, so every
+		// call stays inside that chunk, and none of them needs the write lock.
+		int threads = 4;
+		AtomicReference<Throwable> failure = new AtomicReference<>();
+		CountDownLatch go = new CountDownLatch(1);
+		List<Thread> workers = new ArrayList<>();
+		for (int t=0; t<threads; t++) {
+			int middle = t * (15 + 32) + 7;
+			Thread worker = new Thread(() -> {
+				try {
+					go.await();
+					for (int i=0; i<5000; i++) {
+						data.addIndex(data.removeIndex(middle), middle);
+					}
+				} catch (Throwable e) {
+					failure.compareAndSet(null, e);
+				}
+			});
+			workers.add(worker);
+			worker.start();
+		}
+		go.countDown();
+		for (Thread worker : workers) {
+			worker.join();
+		}
+		if (failure.get() != null) {
+			throw new AssertionError(failure.get());
+		}
+		Assert.assertEquals(writeLocks, data.writeLockCount());
+		Assert.assertEquals(size, data.size());
+		Assert.assertEquals(before, data.stream().sorted().collect(Collectors.toList()));
+	}
+
+	@Test(timeout=60000)
+	public void testIndexedReadsDuringEdits() throws InterruptedException {
+		// indexed operations are not linearizable, but they are off by no more
+		// than the edits running beside them: two threads each keep at most one
+		// extra item at the front, so getIndex(i) finds what was at i, i-1 or i-2.
+		ConcurrentChunkyLinkedList<Integer> data = new ConcurrentChunkyLinkedList<>(16);
+		int n = 1000;
+		for (int i=0; i<n; i++) {
+			data.addBack(i);
+		}
+		AtomicBoolean done = new AtomicBoolean();
+		AtomicReference<Throwable> failure = new AtomicReference<>();
+		List<Thread> workers = new ArrayList<>();
+		for (int t=0; t<2; t++) {
+			workers.add(new Thread(() -> {
+				try {
+					while (!done.get()) {
+						data.addFront(-1);
+						Assert.assertEquals(-1, (int) data.removeFront());
+					}
+				} catch (Throwable e) {
+					failure.compareAndSet(null, e);
+				}
+			}));
+		}
+		for (Thread worker : workers) {
+			worker.start();
+		}
+		try {
+			Random rand = new Random(11);
+			for (int k=0; k<100000; k++) {
+				int index = 2 + rand.nextInt(n - 2);
+				int found = data.getIndex(index);
+				Assert.assertTrue(index + " gave " + found, found >= index - 2 && found <= index);
+			}
+		} finally {
+			done.set(true);
+			for (Thread worker : workers) {
+				worker.join();
+			}
+		}
+		if (failure.get() != null) {
+			throw new AssertionError(failure.get());
+		}
+		Assert.assertEquals(n, data.size());
+	}
+
+	@Test(timeout=60000)
+	public void testStress() throws InterruptedException {
+		// every thread adds its own numbers at both ends and in the middle, and
+		// removes some; at the end, everything added is either still there or was
+		// removed exactly once.
+		ConcurrentChunkyLinkedList<Integer> data = new ConcurrentChunkyLinkedList<>(64);
+		int threads = 8;
+		int perThread = 20000;
+		List<List<Integer>> removed = new ArrayList<>();
+		AtomicReference<Throwable> failure = new AtomicReference<>();
+		CountDownLatch go = new CountDownLatch(1);
+		List<Thread> workers = new ArrayList<>();
+		for (int t=0; t<threads; t++) {
+			int id = t;
+			List<Integer> mine = new ArrayList<>();
+			removed.add(mine);
+			Thread worker = new Thread(() -> {
+				Random rand = new Random(id);
+				try {
+					go.await();
+					for (int i=0; i<perThread; i++) {
+						int item = id * perThread + i;
+						switch (rand.nextInt(6)) {
+						case 0:
+							data.addFront(item);
+							break;
+						case 1:
+							try {
+								data.addIndex(item, rand.nextInt(data.size() + 1));
+							} catch (BadIndexError e) {
+								// it shrank between size() and addIndex.
+								data.addBack(item);
+							}
+							break;
+						default:
+							data.addBack(item);
+						}
+						if (rand.nextInt(3) == 0) {
+							try {
+								mine.add(rand.nextBoolean() ? data.removeFront() : data.removeBack());
+							} catch (EmptyListError e) {
+								// someone else got there first.
+							}
+						}
+						if (rand.nextInt(10) == 0) {
+							try {
+								mine.add(data.removeIndex(rand.nextInt(Math.max(1, data.size()))));
+							} catch (EmptyListError | BadIndexError e) {
+								// it shrank between size() and removeIndex.
+							}
+						}
+					}
+				} catch (Throwable e) {
+					failure.compareAndSet(null, e);
+				}
+			});
+			workers.add(worker);
+			worker.start();
+		}
+		go.countDown();
+		for (Thread worker : workers) {
+			worker.join();
+		}
+		if (failure.get() != null) {
+			throw new AssertionError(failure.get());
+		}
+
+		List<Integer> all = new ArrayList<>();
+		for (Integer item : data) {
+			all.add(item);
+		}
+		Assert.assertEquals(data.size(), all.size());
+		for (List<Integer> mine : removed) {
+			all.addAll(mine);
+		}
+		Collections.sort(all);
+		Assert.assertEquals(threads * perThread, all.size());
+		for (int i=0; i<all.size(); i++) {
+			Assert.assertEquals(i, (int) all.get(i));
+		}
+	}
+}
@@ -0,0 +1,300 @@
+package edu.smith.cs.csc212.p6;
+
+import org.junit.Test;
+
+import edu.smith.cs.csc212.p6.errors.BadIndexError;
+import edu.smith.cs.csc212.p6.errors.EmptyListError;
+import edu.smith.cs.csc212.p6.errors.RanOutOfSpaceError;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+import org.junit.Assert;
+
+public class ConcurrentRingListTest {
+	private <T> ConcurrentRingList<T> makeEmptyList() {
+		return new ConcurrentRingList<>(3);
+	}
+
+	@Test
+	public void testEmpty() {
+		P6List<String> data = makeEmptyList();
+		Assert.assertEquals(0, data.size());
+		Assert.assertEquals(true, data.isEmpty());
+	}
+
+	@Test(expected=EmptyListError.class)
+	public void testRemoveFrontCrash() {
+		makeEmptyList().removeFront();
+	}
+
+	@Test(expected=EmptyListError.class)
+	public void testGetFrontCrash() {
+		makeEmptyList().getFront();
+	}
+
+	@Test(expected=RanOutOfSpaceError.class)
+	public void testAddBackFull() {
+		P6List<String> data = makeEmptyList();
+		data.addBack("a");
+		data.addBack("b");
+		data.addBack("c");
+		data.addBack("d");
+	}
+
+	@Test(expected=IllegalArgumentException.class)
+	public void testBadCapacity() {
+		new ConcurrentRingList<String>(0);
+	}
+
+	@Test(expected=NullPointerException.class)
+	public void testNoNulls() {
+		makeEmptyList().offer(null);
+	}
+
+	@Test(expected=UnsupportedOperationException.class)
+	public void testAddFrontUnsupported() {
+		makeEmptyList().addFront("a");
+	}
+
+	@Test(expected=UnsupportedOperationException.class)
+	public void testRemoveBackUnsupported() {
+		ConcurrentRingList<String> data = makeEmptyList();
+		data.addBack("a");
+		data.removeBack();
+	}
+
+	@Test(expected=UnsupportedOperationException.class)
+	public void testRemoveIndexUnsupported() {
+		ConcurrentRingList<String> data = makeEmptyList();
+		data.addBack("a");
+		data.removeIndex(0);
+	}
+
+	@Test(expected=UnsupportedOperationException.class)
+	public void testAddIndexUnsupported() {
+		makeEmptyList().addIndex("a", 0);
+	}
+
+	@Test(expected=EmptyListError.class)
+	public void testGetBackCrash() {
+		ConcurrentRingList<String> data = makeEmptyList();
+		data.addBack("a");
+		data.removeFront();
+		data.getBack();
+	}
+
+	@Test(expected=BadIndexError.class)
+	public void testGetIndexHigh() {
+		ConcurrentRingList<String> data = makeEmptyList();
+		data.addBack("a");
+		data.getIndex(1);
+	}
+
+	@Test(expected=BadIndexError.class)
+	public void testGetIndexLow() {
+		ConcurrentRingList<String> data = makeEmptyList();
+		data.addBack("a");
+		data.getIndex(-1);
+	}
+
+	@Test
+	public void testGetIndexAndBack() {
+		// across the wrap-around, too.
+		ConcurrentRingList<Integer> data = makeEmptyList();
+		for (int i=0; i<10; i++) {
+			data.addBack(i);
+			if (data.size() == data.capacity()) {
+				data.removeFront();
+			}
+			Assert.assertEquals(i, (int) data.getBack());
+			for (int j=0; j<data.size(); j++) {
+				Assert.assertEquals(i - data.size() + 1 + j, (int) data.getIndex(j));
+			}
+		}
+	}
+
+	@Test(timeout=60000)
+	public void testReadsWhileMoving() throws InterruptedException {
+		// one producer adds 0, 1, 2, ... and one consumer takes them, so the item
+		// at a position is always that position: getIndex(i) can only see i or a
+		// later one, and getBack never goes backwards.
+		ConcurrentRingList<Integer> data = new ConcurrentRingList<>(16);
+		int n = 50000;
+		AtomicBoolean done = new AtomicBoolean();
+		AtomicReference<Throwable> failure = new AtomicReference<>();
+		Thread producer = new Thread(() -> {
+			for (int i=0; i<n; i++) {
+				while (!data.offer(i)) {
+					Thread.yield();
+				}
+			}
+		});
+		Thread consumer = new Thread(() -> {
+			for (int i=0; i<n; i++) {
+				Integer item;
+				while ((item = data.poll()) == null) {
+					Thread.yield();
+				}
+				if (item != i) {
+					failure.compareAndSet(null, new AssertionError(i + " came out as " + item));
+				}
+			}
+			done.set(true);
+		});
+		producer.start();
+		consumer.start();
+		int back = -1;
+		while (!done.get()) {
+			try {
+				int found = data.getBack();
+				Assert.assertTrue(found >= back);
+				back = found;
+				int index = found % 4;
+				Assert.assertTrue(data.getIndex(index) >= index);
+			} catch (EmptyListError | BadIndexError e) {
+				// it drained between the calls.
+			}
+		}
+		producer.join();
+		consumer.join();
+		if (failure.get() != null) {
+			throw new AssertionError(failure.get());
+		}
+	}
+
+	@Test
+	public void testOfferPoll() {
+		ConcurrentRingList<String> data = makeEmptyList();
+		Assert.assertNull(data.poll());
+		Assert.assertTrue(data.offer("a"));
+		Assert.assertTrue(data.offer("b"));
+		Assert.assertTrue(data.offer("c"));
+		Assert.assertFalse(data.offer("d"));
+		Assert.assertEquals(3, data.size());
+		Assert.assertEquals("a", data.getFront());
+		Assert.assertEquals("a", data.poll());
+		Assert.assertEquals("b", data.removeFront());
+		Assert.assertEquals(1, data.size());
+		Assert.assertEquals("c", data.poll());
+		Assert.assertNull(data.poll());
+		Assert.assertEquals(true, data.isEmpty());
+	}
+
+	@Test
+	public void testWrapAround() {
+		// many laps around a ring whose size isn't a power of two.
+		ConcurrentRingList<Integer> data = makeEmptyList();
+		List<Integer> expected = new ArrayList<>();
+		for (int i=0; i<1000; i++) {
+			data.addBack(i);
+			expected.add(i);
+			if (i % 3 != 0) {
+				Assert.assertEquals(expected.remove(0), data.removeFront());
+			}
+			if (expected.size() == data.capacity()) {
+				Assert.assertEquals(expected.remove(0), data.removeFront());
+			}
+			Assert.assertEquals(expected, data.stream().collect(Collectors.toList()));
+		}
+	}
+
+	@Test
+	public void testIterateCopy() {
+		ConcurrentRingList<String> data = makeEmptyList();
+		data.addBack("a");
+		data.addBack("b");
+		List<String> seen = new ArrayList<>();
+		for (String item : data) {
+			seen.add(item);
+			data.poll();
+		}
+		Assert.assertEquals(Arrays.asList("a", "b"), seen);
+		Assert.assertEquals(true, data.isEmpty());
+	}
+
+	@Test(timeout=60000)
+	public void testStress() throws InterruptedException {
+		// producers hand every number through a small ring to the consumers; each
+		// one comes out exactly once, and each producer's numbers in order.
+		ConcurrentRingList<Integer> data = new ConcurrentRingList<>(100);
+		int producers = 4;
+		int consumers = 4;
+		int perProducer = 50000;
+		AtomicInteger left = new AtomicInteger(producers * perProducer);
+		List<List<Integer>> taken = new ArrayList<>();
+		AtomicReference<Throwable> failure = new AtomicReference<>();
+		CountDownLatch go = new CountDownLatch(1);
+		List<Thread> workers = new ArrayList<>();
+		for (int t=0; t<producers; t++) {
+			int id = t;
+			workers.add(new Thread(() -> {
+				try {
+					go.await();
+					for (int i=0; i<perProducer; i++) {
+						while (!data.offer(id * perProducer + i)) {
+							Thread.yield();
+						}
+					}
+				} catch (Throwable e) {
+					failure.compareAndSet(null, e);
+				}
+			}));
+		}
+		for (int t=0; t<consumers; t++) {
+			List<Integer> mine = new ArrayList<>();
+			taken.add(mine);
+			workers.add(new Thread(() -> {
+				try {
+					go.await();
+					while (left.get() > 0) {
+						Integer item = data.poll();
+						if (item == null) {
+							Thread.yield();
+							continue;
+						}
+						mine.add(item);
+						left.decrementAndGet();
+					}
+				} catch (Throwable e) {
+					failure.compareAndSet(null, e);
+				}
+			}));
+		}
+		for (Thread worker : workers) {
+			worker.start();
+		}
+		go.countDown();
+		for (Thread worker : workers) {
+			worker.join();
+		}
+		if (failure.get() != null) {
+			throw new AssertionError(failure.get());
+		}
+		Assert.assertEquals(true, data.isEmpty());
+
+		List<Integer> all = new ArrayList<>();
+		for (List<Integer> mine : taken) {
+			int[] last = new int[producers];
+			Arrays.fill(last, -1);
+			for (int item : mine) {
+				int from = item / perProducer;
+				Assert.assertTrue(item > last[from]);
+				last[from] = item;
+			}
+			all.addAll(mine);
+		}
+		Collections.sort(all);
+		Assert.assertEquals(producers * perProducer, all.size());
+		for (int i=0; i<all.size(); i++) {
+			Assert.assertEquals(i, (int) all.get(i));
+		}
+	}
+}
@@ -0,0 +1,142 @@
+package edu.smith.cs.csc212.p6;
+
+import org.junit.Test;
+
+import edu.smith.cs.csc212.p6.errors.BadIndexError;
+import edu.smith.cs.csc212.p6.errors.EmptyListError;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+import org.junit.Assert;
+
+public class ConcurrentStackListTest {
+	@Test
+	public void testEmpty() {
+		P6List<String> data = new ConcurrentStackList<>();
+		Assert.assertEquals(0, data.size());
+		Assert.assertEquals(true, data.isEmpty());
+	}
+
+	@Test(expected=EmptyListError.class)
+	public void testRemoveFrontCrash() {
+		new ConcurrentStackList<String>().removeFront();
+	}
+
+	@Test(expected=EmptyListError.class)
+	public void testGetFrontCrash() {
+		new ConcurrentStackList<String>().getFront();
+	}
+
+	@Test(expected=BadIndexError.class)
+	public void testGetIndexHigh() {
+		P6List<String> data = new ConcurrentStackList<>();
+		data.addFront("a");
+		data.getIndex(1);
+	}
+
+	@Test(expected=UnsupportedOperationException.class)
+	public void testAddBackUnsupported() {
+		new ConcurrentStackList<String>().addBack("a");
+	}
+
+	@Test(expected=UnsupportedOperationException.class)
+	public void testAddIndexUnsupported() {
+		new ConcurrentStackList<String>().addIndex("a", 0);
+	}
+
+	@Test(expected=UnsupportedOperationException.class)
+	public void testRemoveBackUnsupported() {
+		ConcurrentStackList<String> data = new ConcurrentStackList<>();
+		data.addFront("a");
+		data.removeBack();
+	}
+
+	@Test(expected=UnsupportedOperationException.class)
+	public void testRemoveIndexUnsupported() {
+		ConcurrentStackList<String> data = new ConcurrentStackList<>();
+		data.addFront("a");
+		data.removeIndex(0);
+	}
+
+	@Test
+	public void testStack() {
+		P6List<String> data = new ConcurrentStackList<>();
+		data.addFront("c");
+		data.addFront("b");
+		data.addFront("a");
+		Assert.assertEquals(3, data.size());
+		Assert.assertEquals("a", data.getFront());
+		Assert.assertEquals("c", data.getBack());
+		Assert.assertEquals("b", data.getIndex(1));
+		Assert.assertEquals(Arrays.asList("a", "b", "c"), data.stream().collect(Collectors.toList()));
+		Assert.assertEquals("a", data.removeFront());
+		Assert.assertEquals("b", data.removeFront());
+		Assert.assertEquals(1, data.size());
+		Assert.assertEquals("c", data.removeFront());
+		Assert.assertEquals(true, data.isEmpty());
+	}
+
+	@Test(timeout=60000)
+	public void testStress() throws InterruptedException {
+		// every thread pushes its own numbers and pops whatever it gets; in the end
+		// each number was popped exactly once or is still on the stack.
+		ConcurrentStackList<Integer> data = new ConcurrentStackList<>();
+		int threads = 8;
+		int perThread = 50000;
+		List<List<Integer>> popped = new ArrayList<>();
+		AtomicReference<Throwable> failure = new AtomicReference<>();
+		CountDownLatch go = new CountDownLatch(1);
+		List<Thread> workers = new ArrayList<>();
+		for (int t=0; t<threads; t++) {
+			int id = t;
+			List<Integer> mine = new ArrayList<>();
+			popped.add(mine);
+			Thread worker = new Thread(() -> {
+				try {
+					go.await();
+					for (int i=0; i<perThread; i++) {
+						data.addFront(id * perThread + i);
+						if (i % 3 != 0) {
+							try {
+								mine.add(data.removeFront());
+							} catch (EmptyListError e) {
+								// someone else got there first.
+							}
+						}
+					}
+				} catch (Throwable e) {
+					failure.compareAndSet(null, e);
+				}
+			});
+			workers.add(worker);
+			worker.start();
+		}
+		go.countDown();
+		for (Thread worker : workers) {
+			worker.join();
+		}
+		if (failure.get() != null) {
+			throw new AssertionError(failure.get());
+		}
+
+		List<Integer> all = new ArrayList<>();
+		for (Integer item : data) {
+			all.add(item);
+		}
+		Assert.assertEquals(data.size(), all.size());
+		for (List<Integer> mine : popped) {
+			all.addAll(mine);
+		}
+		Collections.sort(all);
+		Assert.assertEquals(threads * perThread, all.size());
+		for (int i=0; i<all.size(); i++) {
+			Assert.assertEquals(i, (int) all.get(i));
+		}
+	}
+}
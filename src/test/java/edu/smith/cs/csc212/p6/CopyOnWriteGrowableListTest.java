@@ -0,0 +1,182 @@
+package edu.smith.cs.csc212.p6;
+
+import org.junit.Test;
+
+import edu.smith.cs.csc212.p6.errors.BadIndexError;
+import edu.smith.cs.csc212.p6.errors.EmptyListError;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+import org.junit.Assert;
+
+public class CopyOnWriteGrowableListTest {
+	private <T> CopyOnWriteGrowableList<T> makeEmptyList() {
+		return new CopyOnWriteGrowableList<>();
+	}
+
+	@Test
+	public void testEmpty() {
+		P6List<String> data = makeEmptyList();
+		Assert.assertEquals(0, data.size());
+		Assert.assertEquals(true, data.isEmpty());
+	}
+
+	@Test(expected=EmptyListError.class)
+	public void testRemoveFrontCrash() {
+		makeEmptyList().removeFront();
+	}
+
+	@Test(expected=EmptyListError.class)
+	public void testRemoveBackCrash() {
+		makeEmptyList().removeBack();
+	}
+
+	@Test(expected=EmptyListError.class)
+	public void testGetFrontCrash() {
+		makeEmptyList().getFront();
+	}
+
+	@Test(expected=BadIndexError.class)
+	public void testGetIndexHigh() {
+		P6List<String> data = makeEmptyList();
+		data.addBack("a");
+		data.getIndex(1);
+	}
+
+	@Test(expected=BadIndexError.class)
+	public void testAddIndexHigh() {
+		P6List<String> data = makeEmptyList();
+		data.addIndex("a", 1);
+	}
+
+	@Test
+	public void testMatchesArrayList() {
+		Random rand = new Random(3);
+		P6List<Integer> data = makeEmptyList();
+		List<Integer> expected = new ArrayList<>();
+		for (int i=0; i<2000; i++) {
+			int index = expected.isEmpty() ? 0 : rand.nextInt(expected.size());
+			switch (rand.nextInt(6)) {
+			case 0:
+				data.addFront(i);
+				expected.add(0, i);
+				break;
+			case 1:
+				data.addBack(i);
+				expected.add(i);
+				break;
+			case 2:
+				index = rand.nextInt(expected.size() + 1);
+				data.addIndex(i, index);
+				expected.add(index, i);
+				break;
+			case 3:
+				if (!expected.isEmpty()) {
+					Assert.assertEquals(expected.remove(index), data.removeIndex(index));
+				}
+				break;
+			case 4:
+				if (!expected.isEmpty()) {
+					Assert.assertEquals(expected.remove(0), data.removeFront());
+					Assert.assertEquals(expected.isEmpty(), data.isEmpty());
+				}
+				break;
+			default:
+				if (!expected.isEmpty()) {
+					Assert.assertEquals(expected.remove(expected.size()-1), data.removeBack());
+				}
+			}
+			Assert.assertEquals(expected.size(), data.size());
+			if (!expected.isEmpty()) {
+				Assert.assertEquals(expected.get(0), data.getFront());
+				Assert.assertEquals(expected.get(expected.size()-1), data.getBack());
+			}
+		}
+		Assert.assertEquals(expected, data.stream().collect(Collectors.toList()));
+	}
+
+	@Test
+	public void testBulk() {
+		P6List<Integer> data = makeEmptyList();
+		data.addAll(Arrays.asList(1, 2, 3));
+		data.addAll(data);
+		data.insertAll(1, Arrays.asList(7, 8));
+		data.removeRange(4, 6);
+		Assert.assertEquals(Arrays.asList(1, 7, 8, 2, 2, 3), data.stream().collect(Collectors.toList()));
+		data.removeRange(0, data.size());
+		Assert.assertEquals(true, data.isEmpty());
+	}
+
+	@Test
+	public void testSnapshotIterator() {
+		P6List<String> data = makeEmptyList();
+		data.addBack("a");
+		data.addBack("b");
+		Iterator<String> it = data.iterator();
+		data.removeFront();
+		data.addBack("c");
+		List<String> seen = new ArrayList<>();
+		while (it.hasNext()) {
+			seen.add(it.next());
+		}
+		Assert.assertEquals(Arrays.asList("a", "b"), seen);
+		Assert.assertEquals(Arrays.asList("b", "c"), data.stream().collect(Collectors.toList()));
+	}
+
+	@Test(timeout=60000)
+	public void testReadersDuringWrites() throws InterruptedException {
+		// a writer keeps replacing the list's items in batches of ten; readers
+		// must only ever see whole batches.
+		CopyOnWriteGrowableList<Integer> data = makeEmptyList();
+		data.addAll(Arrays.asList(0, 0, 0, 0, 0, 0, 0, 0, 0, 0));
+		AtomicBoolean done = new AtomicBoolean();
+		AtomicReference<Throwable> failure = new AtomicReference<>();
+		CountDownLatch go = new CountDownLatch(1);
+		List<Thread> readers = new ArrayList<>();
+		for (int t=0; t<4; t++) {
+			Thread reader = new Thread(() -> {
+				try {
+					go.await();
+					while (!done.get()) {
+						int batch = data.getFront();
+						int count = 0;
+						for (int item : data) {
+							Assert.assertTrue(item >= batch);
+							count++;
+						}
+						Assert.assertEquals(0, count % 10);
+						Assert.assertEquals(0, data.size() % 10);
+					}
+				} catch (Throwable e) {
+					failure.compareAndSet(null, e);
+				}
+			});
+			readers.add(reader);
+			reader.start();
+		}
+		go.countDown();
+		for (int batch=1; batch<2000; batch++) {
+			Integer[] items = new Integer[10];
+			Arrays.fill(items, batch);
+			data.addAll(Arrays.asList(items));
+			data.removeRange(0, 10);
+		}
+		done.set(true);
+		for (Thread reader : readers) {
+			reader.join();
+		}
+		if (failure.get() != null) {
+			throw new AssertionError(failure.get());
+		}
+		Assert.assertEquals(10, data.size());
+		Assert.assertEquals(1999, (int) data.getBack());
+	}
+}
@@ -0,0 +1,141 @@
+package edu.smith.cs.csc212.p6;
+
+import org.junit.Test;
+
+import edu.smith.cs.csc212.p6.errors.BadIndexError;
+import edu.smith.cs.csc212.p6.errors.EmptyListError;
+
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.List;
+import java.util.PrimitiveIterator;
+import java.util.Random;
+
+import org.junit.Assert;
+
+public class DoubleChunkyLinkedListTest {
+	private DoubleChunkyLinkedList makeEmptyList() {
+		return new DoubleChunkyLinkedList(3);
+	}
+
+	@Test
+	public void testEmpty() {
+		DoubleChunkyLinkedList data = makeEmptyList();
+		Assert.assertEquals(0, data.size());
+		Assert.assertEquals(true, data.isEmpty());
+	}
+
+	@Test(expected=EmptyListError.class)
+	public void testRemoveFrontCrash() {
+		makeEmptyList().removeFrontDouble();
+	}
+
+	@Test(expected=EmptyListError.class)
+	public void testRemoveBackCrash() {
+		makeEmptyList().removeBack();
+	}
+
+	@Test(expected=EmptyListError.class)
+	public void testGetIndexEmpty() {
+		makeEmptyList().getDouble(0);
+	}
+
+	@Test(expected=BadIndexError.class)
+	public void testGetIndexHigh() {
+		DoubleChunkyLinkedList data = makeEmptyList();
+		data.addBackDouble(1);
+		data.getDouble(1);
+	}
+
+	@Test(expected=BadIndexError.class)
+	public void testAddIndexHigh() {
+		DoubleChunkyLinkedList data = makeEmptyList();
+		data.addBackDouble(1);
+		data.addIndexDouble(2, 2);
+	}
+
+	@Test
+	public void testQueue() {
+		DoubleChunkyLinkedList data = makeEmptyList();
+		for (int trial=0; trial<4; trial++) {
+			for (int i=0; i<20; i++) {
+				data.addBackDouble(i/4.0);
+			}
+			for (int i=0; i<20; i++) {
+				Assert.assertEquals(i/4.0, data.removeFrontDouble(), 0.0);
+			}
+		}
+	}
+
+	@Test
+	public void testMatchesBoxedList() {
+		DoubleChunkyLinkedList data = makeEmptyList();
+		List<Double> expected = new ArrayList<>();
+		Random rand = new Random(4);
+		for (int i=0; i<600; i++) {
+			double item = i/8.0;
+			int op = rand.nextInt(5);
+			if (op < 2 || expected.isEmpty()) {
+				int at = rand.nextInt(expected.size()+1);
+				data.addIndexDouble(item, at);
+				expected.add(at, item);
+			} else if (op == 2) {
+				data.addFrontDouble(item);
+				expected.add(0, item);
+			} else if (op == 3) {
+				data.addBackDouble(item);
+				expected.add(item);
+			} else {
+				int at = rand.nextInt(expected.size());
+				Assert.assertEquals(expected.remove(at), data.removeIndexDouble(at), 0.0);
+			}
+			Assert.assertEquals(expected.size(), data.size());
+		}
+		for (int i=0; i<expected.size(); i++) {
+			Assert.assertEquals(expected.get(i), data.getDouble(i), 0.0);
+		}
+	}
+
+	@Test
+	public void testIterate() {
+		DoubleChunkyLinkedList data = makeEmptyList();
+		for (int i = 0; i < 20; i++) {
+			data.addBackDouble(i);
+		}
+		data.removeIndexDouble(5);
+		data.addIndexDouble(-0.5, 5);
+		PrimitiveIterator.OfDouble it = data.iterator();
+		for (int i = 0; i < 20; i++) {
+			Assert.assertEquals(i == 5 ? -0.5 : i, it.nextDouble(), 0.0);
+		}
+		Assert.assertFalse(it.hasNext());
+	}
+
+	@Test(expected = ConcurrentModificationException.class)
+	public void testIteratorFailFast() {
+		DoubleChunkyLinkedList data = makeEmptyList();
+		for (int i = 0; i < 10; i++) {
+			data.addBackDouble(i);
+		}
+		PrimitiveIterator.OfDouble it = data.iterator();
+		it.nextDouble();
+		data.removeBackDouble();
+		it.nextDouble();
+	}
+
+	@Test
+	public void testStream() {
+		DoubleChunkyLinkedList data = makeEmptyList();
+		DoubleGrowableList flat = new DoubleGrowableList();
+		for (int i = 0; i < 1000; i++) {
+			data.addBackDouble(i/2.0);
+			flat.addBackDouble(i/2.0);
+		}
+		data.removeIndexDouble(10);
+		flat.removeIndexDouble(10);
+		Assert.assertEquals(999, data.spliterator().getExactSizeIfKnown());
+		Assert.assertArrayEquals(flat.doubleStream().toArray(), data.doubleStream().parallel().toArray(), 0.0);
+		Assert.assertEquals(flat.doubleStream().sum(), data.doubleStream().sum(), 0.0);
+		Assert.assertEquals(0, makeEmptyList().doubleStream().count());
+	}
+}
@@ -0,0 +1,103 @@
+package edu.smith.cs.csc212.p6;
+
+import org.junit.Test;
+
+import edu.smith.cs.csc212.p6.errors.BadIndexError;
+import edu.smith.cs.csc212.p6.errors.EmptyListError;
+import edu.smith.cs.csc212.p6.errors.RanOutOfSpaceError;
+
+import org.junit.Assert;
+
+public class DoubleFixedSizeListTest {
+
+	@Test
+	public void testEmpty() {
+		P6List<Double> data = new DoubleFixedSizeList(0);
+		Assert.assertEquals(0, data.size());
+		Assert.assertEquals(true, data.isEmpty());
+	}
+
+	@Test(expected=EmptyListError.class)
+	public void testRemoveFrontCrash() {
+		new DoubleFixedSizeList(4).removeFrontDouble();
+	}
+
+	@Test(expected=EmptyListError.class)
+	public void testRemoveBackCrash() {
+		new DoubleFixedSizeList(4).removeBack();
+	}
+
+	@Test(expected=EmptyListError.class)
+	public void testRemoveIndexCrash() {
+		new DoubleFixedSizeList(4).removeIndexDouble(3);
+	}
+
+	@Test(expected=RanOutOfSpaceError.class)
+	public void testAddBackFull() {
+		DoubleFixedSizeList data = new DoubleFixedSizeList(2);
+		data.addBackDouble(1);
+		data.addBackDouble(2);
+		data.addBackDouble(3);
+	}
+
+	@Test(expected=RanOutOfSpaceError.class)
+	public void testAddFrontFull() {
+		DoubleFixedSizeList data = new DoubleFixedSizeList(1);
+		data.addFrontDouble(1);
+		data.addFront(2.0);
+	}
+
+	@Test(expected=BadIndexError.class)
+	public void testGetIndexHigh() {
+		DoubleFixedSizeList data = new DoubleFixedSizeList(4);
+		data.addBackDouble(1);
+		data.getDouble(1);
+	}
+
+	@Test
+	public void testAddAndRemove() {
+		DoubleFixedSizeList data = new DoubleFixedSizeList(5);
+		data.addBackDouble(2.5);
+		data.addFrontDouble(0.5);
+		data.addIndexDouble(1.5, 1);
+		data.addBack(3.5);
+		Assert.assertArrayEquals(new double[] {0.5, 1.5, 2.5, 3.5}, data.toDoubleArray(), 0.0);
+		Assert.assertEquals(2, data.find(2.5));
+		Assert.assertEquals(-1, data.find(2.0));
+		data.swap(0, 3);
+		Assert.assertEquals(3.5, data.getFrontDouble(), 0.0);
+		Assert.assertEquals(0.5, data.getBackDouble(), 0.0);
+		data.setDouble(2, -2.5);
+		Assert.assertEquals(1.5, data.removeIndexDouble(1), 0.0);
+		Assert.assertEquals(3.5, data.removeFrontDouble(), 0.0);
+		Assert.assertEquals(0.5, data.removeBackDouble(), 0.0);
+		Assert.assertEquals(1, data.size());
+		Assert.assertEquals(-2.5, data.getIndex(0), 0.0);
+	}
+
+	@Test
+	public void testFindNaN() {
+		// find uses the same equality as Double.equals, so NaN can be found.
+		DoubleFixedSizeList data = new DoubleFixedSizeList(3);
+		data.addBackDouble(1.0);
+		data.addBackDouble(Double.NaN);
+		Assert.assertEquals(1, data.find(Double.NaN));
+		Assert.assertTrue(Double.isNaN(data.getBackDouble()));
+	}
+
+	@Test
+	public void testRemoveRangeAndIterate() {
+		DoubleFixedSizeList data = new DoubleFixedSizeList(10);
+		for (int i=0; i<10; i++) {
+			data.addBackDouble(i / 2.0);
+		}
+		data.removeRange(2, 8);
+		Assert.assertArrayEquals(new double[] {0, 0.5, 4, 4.5}, data.toDoubleArray(), 0.0);
+		double sum = 0;
+		for (Double x : data) {
+			sum += x;
+		}
+		Assert.assertEquals(9.0, sum, 0.0);
+		Assert.assertEquals(9.0, data.doubleStream().sum(), 0.0);
+	}
+}
@@ -0,0 +1,122 @@
+package edu.smith.cs.csc212.p6;
+
+import org.junit.Test;
+
+import edu.smith.cs.csc212.p6.errors.BadIndexError;
+import edu.smith.cs.csc212.p6.errors.EmptyListError;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Assert;
+
+public class DoubleGrowableListTest {
+	private DoubleGrowableList makeEmptyList() {
+		return new DoubleGrowableList();
+	}
+
+	@Test
+	public void testEmpty() {
+		DoubleGrowableList data = makeEmptyList();
+		Assert.assertEquals(0, data.size());
+		Assert.assertEquals(true, data.isEmpty());
+	}
+
+	@Test(expected=EmptyListError.class)
+	public void testRemoveFrontCrash() {
+		makeEmptyList().removeFrontDouble();
+	}
+
+	@Test(expected=EmptyListError.class)
+	public void testRemoveBackCrash() {
+		makeEmptyList().removeBackDouble();
+	}
+
+	@Test(expected=EmptyListError.class)
+	public void testGetFrontCrash() {
+		makeEmptyList().getFront();
+	}
+
+	@Test(expected=BadIndexError.class)
+	public void testGetIndexHigh() {
+		DoubleGrowableList data = makeEmptyList();
+		data.addBackDouble(1.0);
+		data.getDouble(1);
+	}
+
+	@Test(expected=BadIndexError.class)
+	public void testAddIndexLow() {
+		makeEmptyList().addIndexDouble(1.0, -1);
+	}
+
+	@Test
+	public void testAddBackFull() {
+		DoubleGrowableList items = makeEmptyList();
+		for (int i=0; i<GrowableList.START_SIZE*5; i++) {
+			items.addBackDouble((i+1)*0.25);
+			Assert.assertEquals(i+1, items.size());
+			Assert.assertEquals((i+1)*0.25, items.getBackDouble(), 0.0);
+		}
+		for (int i=0; i<GrowableList.START_SIZE*5; i++) {
+			Assert.assertEquals((i+1)*0.25, items.getDouble(i), 0.0);
+		}
+	}
+
+	@Test
+	public void testMatchesBoxedList() {
+		DoubleGrowableList data = new DoubleGrowableList(0, GrowthPolicy.additive(5));
+		List<Double> expected = new ArrayList<>();
+		Random rand = new Random(2);
+		for (int i=0; i<500; i++) {
+			double item = i/8.0;
+			int op = rand.nextInt(4);
+			if (op == 0 || expected.isEmpty()) {
+				int at = rand.nextInt(expected.size()+1);
+				data.addIndex(item, at);
+				expected.add(at, item);
+			} else if (op == 1) {
+				data.addFrontDouble(item);
+				expected.add(0, item);
+			} else if (op == 2) {
+				data.addBackDouble(item);
+				expected.add(item);
+			} else {
+				int at = rand.nextInt(expected.size());
+				Assert.assertEquals(expected.remove(at), data.removeIndexDouble(at), 0.0);
+			}
+		}
+		Assert.assertEquals(expected.size(), data.size());
+		double[] values = data.toDoubleArray();
+		for (int i=0; i<expected.size(); i++) {
+			Assert.assertEquals(expected.get(i), values[i], 0.0);
+			Assert.assertEquals(expected.get(i), data.getIndex(i));
+		}
+	}
+
+	@Test
+	public void testBulkAndCapacity() {
+		DoubleGrowableList data = new DoubleGrowableList(4);
+		data.addAllDouble(new double[] {1.5, 2, 3, 4, -0.0, Double.NaN});
+		data.ensureCapacity(100);
+		data.trimToSize();
+		data.removeRange(1, 3);
+		Assert.assertArrayEquals(new double[] {1.5, 4, -0.0, Double.NaN}, data.toDoubleArray(), 0.0);
+		data.setDouble(0, Double.POSITIVE_INFINITY);
+		Assert.assertEquals(Double.POSITIVE_INFINITY, data.getFrontDouble(), 0.0);
+	}
+
+	@Test
+	public void testStream() {
+		DoubleGrowableList data = makeEmptyList();
+		for (int i=0; i<1000; i++) {
+			data.addBackDouble(i*0.5);
+		}
+		Assert.assertEquals(249750.0, data.doubleStream().sum(), 0.0);
+		double sum = 0;
+		for (Double x : data) {
+			sum += x;
+		}
+		Assert.assertEquals(249750.0, sum, 0.0);
+	}
+}
@@ -8,6 +8,9 @@ import edu.smith.cs.csc212.p6.errors.RanOutOfSpaceError;
 
 import static org.junit.Assert.assertEquals;
 
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+
 import org.junit.Assert;
 
 public class FixedSizeListTest {
@@ -238,5 +241,47 @@ public class FixedSizeListTest {
 		P6List<String> data = makeFullList();
 		data.getIndex(data.size()*2);
 	}
-
+	
+	@Test
+	public void testBulkOps() {
+		P6List<Integer> data = new FixedSizeList<Integer>(8);
+		data.addAll(Arrays.asList(0, 1, 2, 3));
+		data.insertAll(1, Arrays.asList(-1, -2, -3));
+		Assert.assertEquals(7, data.size());
+		Assert.assertEquals(-1, (int) data.getIndex(1));
+		Assert.assertEquals(-3, (int) data.getIndex(3));
+		Assert.assertEquals(1, (int) data.getIndex(4));
+		data.removeRange(1, 4);
+		Assert.assertEquals(4, data.size());
+		for (int i=0; i<4; i++) {
+			Assert.assertEquals(i, (int) data.getIndex(i));
+		}
+	}
+	
+	@Test(expected=RanOutOfSpaceError.class)
+	public void testInsertAllFull() {
+		P6List<Integer> data = new FixedSizeList<Integer>(4);
+		data.addAll(Arrays.asList(0, 1, 2));
+		data.insertAll(0, Arrays.asList(-1, -2));
+	}
+	
+	@Test
+	public void testIterate() {
+		P6List<Integer> data = new FixedSizeList<>(10);
+		data.addAll(Arrays.asList(1, 2, 3));
+		int expected = 1;
+		for (Integer x : data) {
+			Assert.assertEquals(expected++, (int) x);
+		}
+		Assert.assertEquals(4, expected);
+	}
+	
+	@Test(expected=ConcurrentModificationException.class)
+	public void testIteratorFailFast() {
+		P6List<Integer> data = new FixedSizeList<>(10);
+		data.addAll(Arrays.asList(1, 2, 3));
+		for (Integer x : data) {
+			data.removeFront();
+		}
+	}
 }
@@ -8,9 +8,17 @@ import edu.smith.cs.csc212.p6.errors.RanOutOfSpaceError;
 
 import static org.junit.Assert.assertEquals;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Random;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
 
 import org.junit.Assert;
 
@@ -324,4 +332,183 @@ public class GrowableListTest {
 			}
 		}
 	}
+	
+	@Test
+	public void testWrapAround() {
+		P6List<Integer> data = makeEmptyList();
+		List<Integer> expected = new ArrayList<>();
+		Random rand = new Random(5);
+		for (int i=0; i<GrowableList.START_SIZE*4; i++) {
+			switch (rand.nextInt(4)) {
+			case 0:
+				data.addFront(i);
+				expected.add(0, i);
+				break;
+			case 1:
+				data.addBack(i);
+				expected.add(i);
+				break;
+			case 2:
+				int index = rand.nextInt(expected.size()+1);
+				data.addIndex(i, index);
+				expected.add(index, i);
+				break;
+			default:
+				if (!expected.isEmpty()) {
+					int at = rand.nextInt(expected.size());
+					Assert.assertEquals(expected.remove(at), data.removeIndex(at));
+				}
+			}
+			Assert.assertEquals(expected.size(), data.size());
+		}
+		for (int i=0; i<expected.size(); i++) {
+			Assert.assertEquals(expected.get(i), data.getIndex(i));
+		}
+		while (!expected.isEmpty()) {
+			Assert.assertEquals(expected.remove(0), data.removeFront());
+		}
+	}
+	
+	@Test
+	public void testGrowthPolicies() {
+		Assert.assertEquals(64, GrowthPolicy.DOUBLING.nextCapacity(32, 33));
+		Assert.assertEquals(1, GrowthPolicy.DOUBLING.nextCapacity(0, 1));
+		Assert.assertEquals(48, GrowthPolicy.factor(1.5).nextCapacity(32, 33));
+		Assert.assertEquals(42, GrowthPolicy.additive(10).nextCapacity(32, 33));
+		GrowthPolicy steps = GrowthPolicy.steps(100, 1000);
+		Assert.assertEquals(100, steps.nextCapacity(32, 33));
+		Assert.assertEquals(1000, steps.nextCapacity(100, 101));
+		Assert.assertEquals(2000, steps.nextCapacity(1000, 1001));
+	}
+	
+	@Test
+	public void testSmallPolicyAndTrim() {
+		GrowableList<Integer> data = new GrowableList<>(0, GrowthPolicy.additive(3));
+		for (int i=0; i<50; i++) {
+			data.addFront(-i);
+			data.addBack(i);
+		}
+		data.trimToSize();
+		data.addIndex(1000, 50);
+		data.ensureCapacity(1000);
+		Assert.assertEquals(101, data.size());
+		Assert.assertEquals(-49, (int) data.getFront());
+		Assert.assertEquals(1000, (int) data.getIndex(50));
+		Assert.assertEquals(0, (int) data.getIndex(51));
+		Assert.assertEquals(49, (int) data.getBack());
+		while (!data.isEmpty()) {
+			data.removeBack();
+		}
+		data.trimToSize();
+		data.addBack(7);
+		Assert.assertEquals(7, (int) data.getFront());
+	}
+	
+	@Test(expected=IllegalArgumentException.class)
+	public void testBadFactor() {
+		GrowthPolicy.factor(1.0);
+	}
+	
+	@Test
+	public void testBulkOps() {
+		P6List<Integer> data = makeEmptyList();
+		data.addAll(Arrays.asList(0, 1, 2, 3, 4, 5, 6, 7, 8, 9));
+		Assert.assertEquals(10, data.size());
+		data.insertAll(3, Arrays.asList(-1, -2, -3, -4, -5, -6, -7));
+		data.insertAll(0, Arrays.asList(-10));
+		data.insertAll(data.size(), Arrays.asList(10, 11));
+		List<Integer> expected = new ArrayList<>(Arrays.asList(-10, 0, 1, 2, -1, -2, -3, -4, -5, -6, -7, 3, 4, 5, 6, 7, 8, 9, 10, 11));
+		Assert.assertEquals(expected.size(), data.size());
+		for (int i=0; i<expected.size(); i++) {
+			Assert.assertEquals(expected.get(i), data.getIndex(i));
+		}
+		data.removeRange(4, 11);
+		expected.subList(4, 11).clear();
+		data.removeRange(0, 1);
+		expected.remove(0);
+		data.removeRange(data.size()-2, data.size());
+		expected.subList(expected.size()-2, expected.size()).clear();
+		data.removeRange(3, 3);
+		Assert.assertEquals(expected.size(), data.size());
+		for (int i=0; i<expected.size(); i++) {
+			Assert.assertEquals(expected.get(i), data.getIndex(i));
+		}
+		Assert.assertEquals(expected.get(expected.size()-1), data.getBack());
+		data.removeRange(0, data.size());
+		Assert.assertEquals(true, data.isEmpty());
+		data.addAll(Arrays.asList(1, 2));
+		Assert.assertEquals(2, (int) data.getBack());
+	}
+	
+	@Test(expected=BadIndexError.class)
+	public void testRemoveRangeBad() {
+		P6List<String> data = makeFullList();
+		data.removeRange(2, 5);
+	}
+	
+	@Test(expected=BadIndexError.class)
+	public void testInsertAllBad() {
+		P6List<String> data = makeFullList();
+		data.insertAll(5, Arrays.asList("x"));
+	}
+
+	@Test
+	public void testIterate() {
+		P6List<Integer> data = makeEmptyList();
+		for (Integer x : data) {
+			Assert.fail("empty list gave " + x);
+		}
+		for (int i=0; i<100; i++) {
+			data.addBack(i);
+		}
+		data.removeFront();
+		data.addFront(-1);
+		int expected = -1;
+		for (Integer x : data) {
+			Assert.assertEquals(expected++, (int) x);
+			if (expected == 0) {
+				expected++;
+			}
+		}
+		Assert.assertEquals(100, expected);
+		// addAll takes any Iterable, so a P6List works too.
+		P6List<Integer> copy = makeEmptyList();
+		copy.addAll(data);
+		Assert.assertEquals(data.size(), copy.size());
+		Assert.assertEquals(data.getBack(), copy.getBack());
+	}
+	
+	@Test(expected=ConcurrentModificationException.class)
+	public void testIteratorFailFast() {
+		P6List<Integer> data = makeEmptyList();
+		data.addAll(Arrays.asList(1, 2, 3));
+		for (Integer x : data) {
+			data.addBack(x);
+		}
+	}
+	
+	@Test(expected=NoSuchElementException.class)
+	public void testIteratorPastEnd() {
+		P6List<Integer> data = makeEmptyList();
+		data.addBack(1);
+		Iterator<Integer> it = data.iterator();
+		it.next();
+		it.next();
+	}
+	
+	@Test
+	public void testStream() {
+		P6List<Integer> data = makeEmptyList();
+		List<Integer> expected = new ArrayList<>();
+		for (int i=0; i<1000; i++) {
+			data.addFront(i);
+			expected.add(0, i);
+		}
+		Spliterator<Integer> all = data.spliterator();
+		Assert.assertTrue(all.hasCharacteristics(Spliterator.SIZED | Spliterator.ORDERED));
+		Assert.assertEquals(1000, all.getExactSizeIfKnown());
+		Assert.assertEquals(expected, data.stream().collect(Collectors.toList()));
+		Assert.assertEquals(expected, data.parallelStream().collect(Collectors.toList()));
+		Assert.assertEquals(999 * 1000 / 2, data.parallelStream().mapToInt(x -> x).sum());
+	}
 }
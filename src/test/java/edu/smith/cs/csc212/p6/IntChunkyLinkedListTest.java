@@ -0,0 +1,171 @@
+package edu.smith.cs.csc212.p6;
+
+import org.junit.Test;
+
+import edu.smith.cs.csc212.p6.errors.BadIndexError;
+import edu.smith.cs.csc212.p6.errors.EmptyListError;
+
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.List;
+import java.util.PrimitiveIterator;
+import java.util.Random;
+
+import org.junit.Assert;
+
+public class IntChunkyLinkedListTest {
+	private IntChunkyLinkedList makeEmptyList() {
+		return new IntChunkyLinkedList(3);
+	}
+
+	@Test
+	public void testEmpty() {
+		IntChunkyLinkedList data = makeEmptyList();
+		Assert.assertEquals(0, data.size());
+		Assert.assertEquals(true, data.isEmpty());
+	}
+
+	@Test(expected=EmptyListError.class)
+	public void testRemoveFrontCrash() {
+		makeEmptyList().removeFrontInt();
+	}
+
+	@Test(expected=EmptyListError.class)
+	public void testRemoveBackCrash() {
+		makeEmptyList().removeBack();
+	}
+
+	@Test(expected=EmptyListError.class)
+	public void testGetIndexEmpty() {
+		makeEmptyList().getInt(0);
+	}
+
+	@Test(expected=BadIndexError.class)
+	public void testGetIndexHigh() {
+		IntChunkyLinkedList data = makeEmptyList();
+		data.addBackInt(1);
+		data.getInt(1);
+	}
+
+	@Test(expected=BadIndexError.class)
+	public void testAddIndexHigh() {
+		IntChunkyLinkedList data = makeEmptyList();
+		data.addBackInt(1);
+		data.addIndexInt(2, 2);
+	}
+
+	@Test
+	public void testQueue() {
+		IntChunkyLinkedList data = makeEmptyList();
+		for (int trial=0; trial<4; trial++) {
+			for (int i=0; i<20; i++) {
+				data.addBackInt(i);
+			}
+			for (int i=0; i<20; i++) {
+				Assert.assertEquals(i, data.removeFrontInt());
+			}
+		}
+	}
+
+	@Test
+	public void testMatchesBoxedList() {
+		IntChunkyLinkedList data = makeEmptyList();
+		List<Integer> expected = new ArrayList<>();
+		Random rand = new Random(4);
+		for (int i=0; i<600; i++) {
+			int op = rand.nextInt(5);
+			if (op < 2 || expected.isEmpty()) {
+				int at = rand.nextInt(expected.size()+1);
+				data.addIndexInt(i, at);
+				expected.add(at, i);
+			} else if (op == 2) {
+				data.addFrontInt(i);
+				expected.add(0, i);
+			} else if (op == 3) {
+				data.addBackInt(i);
+				expected.add(i);
+			} else {
+				int at = rand.nextInt(expected.size());
+				Assert.assertEquals((int) expected.remove(at), data.removeIndexInt(at));
+			}
+			Assert.assertEquals(expected.size(), data.size());
+		}
+		for (int i=0; i<expected.size(); i++) {
+			Assert.assertEquals((int) expected.get(i), data.getInt(i));
+		}
+	}
+
+	@Test
+	public void testLongAndDouble() {
+		LongChunkyLinkedList longs = new LongChunkyLinkedList(4);
+		DoubleChunkyLinkedList doubles = new DoubleChunkyLinkedList(4);
+		for (int i=0; i<50; i++) {
+			longs.addBackLong(-i);
+			doubles.addIndexDouble(i / 4.0, doubles.size() / 2);
+		}
+		Assert.assertEquals(-25L, longs.getLong(25));
+		Assert.assertEquals(50, doubles.size());
+		Assert.assertEquals(49 / 4.0, doubles.getDouble(24), 0.0);
+	}
+
+	@Test
+	public void testIterate() {
+		IntChunkyLinkedList data = makeEmptyList();
+		for (int i = 0; i < 20; i++) {
+			data.addBackInt(i);
+		}
+		data.removeIndexInt(5);
+		data.addIndexInt(-5, 5);
+		PrimitiveIterator.OfInt it = data.iterator();
+		for (int i = 0; i < 20; i++) {
+			Assert.assertEquals(i == 5 ? -5 : i, it.nextInt());
+		}
+		Assert.assertFalse(it.hasNext());
+
+		LongChunkyLinkedList longs = new LongChunkyLinkedList(3);
+		DoubleChunkyLinkedList doubles = new DoubleChunkyLinkedList(3);
+		for (int i = 0; i < 10; i++) {
+			longs.addBackLong(i);
+			doubles.addBackDouble(i);
+		}
+		long sum = 0;
+		for (Long x : longs) {
+			sum += x;
+		}
+		Assert.assertEquals(45, sum);
+		PrimitiveIterator.OfDouble dit = doubles.iterator();
+		double dsum = 0;
+		while (dit.hasNext()) {
+			dsum += dit.nextDouble();
+		}
+		Assert.assertEquals(45.0, dsum, 0.0);
+	}
+
+	@Test(expected = ConcurrentModificationException.class)
+	public void testIteratorFailFast() {
+		IntChunkyLinkedList data = makeEmptyList();
+		for (int i = 0; i < 10; i++) {
+			data.addBackInt(i);
+		}
+		PrimitiveIterator.OfInt it = data.iterator();
+		it.nextInt();
+		data.removeBackInt();
+		it.nextInt();
+	}
+
+	@Test
+	public void testStream() {
+		IntChunkyLinkedList data = makeEmptyList();
+		IntGrowableList flat = new IntGrowableList();
+		for (int i = 0; i < 1000; i++) {
+			data.addBackInt(i);
+			flat.addBackInt(i);
+		}
+		data.removeIndexInt(10);
+		flat.removeIndexInt(10);
+		Assert.assertEquals(999, data.spliterator().getExactSizeIfKnown());
+		Assert.assertArrayEquals(flat.intStream().toArray(), data.intStream().parallel().toArray());
+		Assert.assertEquals(flat.intStream().parallel().sum(), data.intStream().parallel().sum());
+		Assert.assertEquals(0, new LongChunkyLinkedList(7).longStream().count());
+	}
+}
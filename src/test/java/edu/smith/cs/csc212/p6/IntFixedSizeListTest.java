@@ -0,0 +1,87 @@
+package edu.smith.cs.csc212.p6;
+
+import org.junit.Test;
+
+import edu.smith.cs.csc212.p6.errors.BadIndexError;
+import edu.smith.cs.csc212.p6.errors.EmptyListError;
+import edu.smith.cs.csc212.p6.errors.RanOutOfSpaceError;
+
+import org.junit.Assert;
+
+public class IntFixedSizeListTest {
+
+	@Test
+	public void testEmpty() {
+		P6List<Integer> data = new IntFixedSizeList(0);
+		Assert.assertEquals(0, data.size());
+		Assert.assertEquals(true, data.isEmpty());
+	}
+
+	@Test(expected=EmptyListError.class)
+	public void testRemoveFrontCrash() {
+		new IntFixedSizeList(4).removeFrontInt();
+	}
+
+	@Test(expected=EmptyListError.class)
+	public void testRemoveBackCrash() {
+		new IntFixedSizeList(4).removeBack();
+	}
+
+	@Test(expected=EmptyListError.class)
+	public void testRemoveIndexCrash() {
+		new IntFixedSizeList(4).removeIndexInt(3);
+	}
+
+	@Test(expected=RanOutOfSpaceError.class)
+	public void testAddBackFull() {
+		IntFixedSizeList data = new IntFixedSizeList(2);
+		data.addBackInt(1);
+		data.addBackInt(2);
+		data.addBackInt(3);
+	}
+
+	@Test(expected=RanOutOfSpaceError.class)
+	public void testAddFrontFull() {
+		IntFixedSizeList data = new IntFixedSizeList(1);
+		data.addFrontInt(1);
+		data.addFront(2);
+	}
+
+	@Test(expected=BadIndexError.class)
+	public void testGetIndexHigh() {
+		IntFixedSizeList data = new IntFixedSizeList(4);
+		data.addBackInt(1);
+		data.getInt(1);
+	}
+
+	@Test
+	public void testAddAndRemove() {
+		IntFixedSizeList data = new IntFixedSizeList(5);
+		data.addBackInt(2);
+		data.addFrontInt(0);
+		data.addIndexInt(1, 1);
+		data.addBack(3);
+		Assert.assertArrayEquals(new int[] {0, 1, 2, 3}, data.toIntArray());
+		Assert.assertEquals(2, data.find(2));
+		Assert.assertEquals(-1, data.find(7));
+		data.swap(0, 3);
+		Assert.assertEquals(3, data.getFrontInt());
+		Assert.assertEquals(0, data.getBackInt());
+		Assert.assertEquals(1, data.removeIndexInt(1));
+		Assert.assertEquals(3, data.removeFrontInt());
+		Assert.assertEquals(0, data.removeBackInt());
+		Assert.assertEquals(1, data.size());
+	}
+
+	@Test
+	public void testLongAndDouble() {
+		LongFixedSizeList longs = new LongFixedSizeList(2);
+		longs.addBackLong(Long.MAX_VALUE);
+		Assert.assertEquals(Long.MAX_VALUE, longs.getFrontLong());
+		DoubleFixedSizeList doubles = new DoubleFixedSizeList(2);
+		doubles.addBackDouble(Double.NaN);
+		doubles.addBackDouble(1.5);
+		Assert.assertEquals(0, doubles.find(Double.NaN));
+		Assert.assertEquals(1.5, doubles.getBack(), 0.0);
+	}
+}
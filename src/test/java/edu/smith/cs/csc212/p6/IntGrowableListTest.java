@@ -0,0 +1,121 @@
+package edu.smith.cs.csc212.p6;
+
+import org.junit.Test;
+
+import edu.smith.cs.csc212.p6.errors.BadIndexError;
+import edu.smith.cs.csc212.p6.errors.EmptyListError;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Assert;
+
+public class IntGrowableListTest {
+	private IntGrowableList makeEmptyList() {
+		return new IntGrowableList();
+	}
+
+	@Test
+	public void testEmpty() {
+		IntGrowableList data = makeEmptyList();
+		Assert.assertEquals(0, data.size());
+		Assert.assertEquals(true, data.isEmpty());
+	}
+
+	@Test(expected=EmptyListError.class)
+	public void testRemoveFrontCrash() {
+		makeEmptyList().removeFrontInt();
+	}
+
+	@Test(expected=EmptyListError.class)
+	public void testRemoveBackCrash() {
+		makeEmptyList().removeBackInt();
+	}
+
+	@Test(expected=EmptyListError.class)
+	public void testGetFrontCrash() {
+		makeEmptyList().getFront();
+	}
+
+	@Test(expected=BadIndexError.class)
+	public void testGetIndexHigh() {
+		IntGrowableList data = makeEmptyList();
+		data.addBackInt(1);
+		data.getInt(1);
+	}
+
+	@Test(expected=BadIndexError.class)
+	public void testAddIndexLow() {
+		makeEmptyList().addIndexInt(1, -1);
+	}
+
+	@Test
+	public void testAddBackFull() {
+		IntGrowableList items = makeEmptyList();
+		for (int i=0; i<GrowableList.START_SIZE*5; i++) {
+			items.addBackInt((i+1)*3);
+			Assert.assertEquals(i+1, items.size());
+			Assert.assertEquals((i+1)*3, items.getBackInt());
+		}
+		for (int i=0; i<GrowableList.START_SIZE*5; i++) {
+			Assert.assertEquals((i+1)*3, items.getInt(i));
+		}
+	}
+
+	@Test
+	public void testMatchesBoxedList() {
+		IntGrowableList data = new IntGrowableList(0, GrowthPolicy.additive(5));
+		List<Integer> expected = new ArrayList<>();
+		Random rand = new Random(2);
+		for (int i=0; i<500; i++) {
+			int op = rand.nextInt(4);
+			if (op == 0 || expected.isEmpty()) {
+				int at = rand.nextInt(expected.size()+1);
+				data.addIndex(i, at);
+				expected.add(at, i);
+			} else if (op == 1) {
+				data.addFrontInt(i);
+				expected.add(0, i);
+			} else if (op == 2) {
+				data.addBackInt(i);
+				expected.add(i);
+			} else {
+				int at = rand.nextInt(expected.size());
+				Assert.assertEquals((int) expected.remove(at), data.removeIndexInt(at));
+			}
+		}
+		Assert.assertEquals(expected.size(), data.size());
+		int[] values = data.toIntArray();
+		for (int i=0; i<expected.size(); i++) {
+			Assert.assertEquals((int) expected.get(i), values[i]);
+			Assert.assertEquals(expected.get(i), data.getIndex(i));
+		}
+	}
+
+	@Test
+	public void testBulkAndCapacity() {
+		IntGrowableList data = new IntGrowableList(4);
+		data.addAllInt(new int[] {1, 2, 3, 4, 5, 6});
+		data.ensureCapacity(100);
+		data.trimToSize();
+		data.removeRange(1, 3);
+		Assert.assertArrayEquals(new int[] {1, 4, 5, 6}, data.toIntArray());
+		data.setInt(0, 9);
+		Assert.assertEquals(9, data.getFrontInt());
+	}
+
+	@Test
+	public void testLongAndDouble() {
+		LongGrowableList longs = new LongGrowableList();
+		DoubleGrowableList doubles = new DoubleGrowableList();
+		for (int i=0; i<100; i++) {
+			longs.addBackLong(i * 10_000_000_000L);
+			doubles.addFrontDouble(i * 0.5);
+		}
+		Assert.assertEquals(990_000_000_000L, longs.getBackLong());
+		Assert.assertEquals(49.5, doubles.getFrontDouble(), 0.0);
+		Assert.assertEquals(0.0, doubles.removeBackDouble(), 0.0);
+		Assert.assertEquals(99, doubles.size());
+	}
+}
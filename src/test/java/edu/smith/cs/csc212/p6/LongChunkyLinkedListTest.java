@@ -0,0 +1,146 @@
+package edu.smith.cs.csc212.p6;
+
+import org.junit.Test;
+
+import edu.smith.cs.csc212.p6.errors.BadIndexError;
+import edu.smith.cs.csc212.p6.errors.EmptyListError;
+
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.List;
+import java.util.PrimitiveIterator;
+import java.util.Random;
+
+import org.junit.Assert;
+
+public class LongChunkyLinkedListTest {
+	/**
+	 * Bigger than any int, so a slot that quietly kept only 32 bits would show.
+	 */
+	private static final long BIG = 10_000_000_000L;
+
+	private LongChunkyLinkedList makeEmptyList() {
+		return new LongChunkyLinkedList(3);
+	}
+
+	@Test
+	public void testEmpty() {
+		LongChunkyLinkedList data = makeEmptyList();
+		Assert.assertEquals(0, data.size());
+		Assert.assertEquals(true, data.isEmpty());
+	}
+
+	@Test(expected=EmptyListError.class)
+	public void testRemoveFrontCrash() {
+		makeEmptyList().removeFrontLong();
+	}
+
+	@Test(expected=EmptyListError.class)
+	public void testRemoveBackCrash() {
+		makeEmptyList().removeBack();
+	}
+
+	@Test(expected=EmptyListError.class)
+	public void testGetIndexEmpty() {
+		makeEmptyList().getLong(0);
+	}
+
+	@Test(expected=BadIndexError.class)
+	public void testGetIndexHigh() {
+		LongChunkyLinkedList data = makeEmptyList();
+		data.addBackLong(1);
+		data.getLong(1);
+	}
+
+	@Test(expected=BadIndexError.class)
+	public void testAddIndexHigh() {
+		LongChunkyLinkedList data = makeEmptyList();
+		data.addBackLong(1);
+		data.addIndexLong(2, 2);
+	}
+
+	@Test
+	public void testQueue() {
+		LongChunkyLinkedList data = makeEmptyList();
+		for (int trial=0; trial<4; trial++) {
+			for (int i=0; i<20; i++) {
+				data.addBackLong(i*BIG);
+			}
+			for (int i=0; i<20; i++) {
+				Assert.assertEquals(i*BIG, data.removeFrontLong());
+			}
+		}
+	}
+
+	@Test
+	public void testMatchesBoxedList() {
+		LongChunkyLinkedList data = makeEmptyList();
+		List<Long> expected = new ArrayList<>();
+		Random rand = new Random(4);
+		for (int i=0; i<600; i++) {
+			long item = i*BIG;
+			int op = rand.nextInt(5);
+			if (op < 2 || expected.isEmpty()) {
+				int at = rand.nextInt(expected.size()+1);
+				data.addIndexLong(item, at);
+				expected.add(at, item);
+			} else if (op == 2) {
+				data.addFrontLong(item);
+				expected.add(0, item);
+			} else if (op == 3) {
+				data.addBackLong(item);
+				expected.add(item);
+			} else {
+				int at = rand.nextInt(expected.size());
+				Assert.assertEquals((long) expected.remove(at), data.removeIndexLong(at));
+			}
+			Assert.assertEquals(expected.size(), data.size());
+		}
+		for (int i=0; i<expected.size(); i++) {
+			Assert.assertEquals((long) expected.get(i), data.getLong(i));
+		}
+	}
+
+	@Test
+	public void testIterate() {
+		LongChunkyLinkedList data = makeEmptyList();
+		for (int i = 0; i < 20; i++) {
+			data.addBackLong(i);
+		}
+		data.removeIndexLong(5);
+		data.addIndexLong(-BIG, 5);
+		PrimitiveIterator.OfLong it = data.iterator();
+		for (int i = 0; i < 20; i++) {
+			Assert.assertEquals(i == 5 ? -BIG : i, it.nextLong());
+		}
+		Assert.assertFalse(it.hasNext());
+	}
+
+	@Test(expected = ConcurrentModificationException.class)
+	public void testIteratorFailFast() {
+		LongChunkyLinkedList data = makeEmptyList();
+		for (int i = 0; i < 10; i++) {
+			data.addBackLong(i);
+		}
+		PrimitiveIterator.OfLong it = data.iterator();
+		it.nextLong();
+		data.removeBackLong();
+		it.nextLong();
+	}
+
+	@Test
+	public void testStream() {
+		LongChunkyLinkedList data = makeEmptyList();
+		LongGrowableList flat = new LongGrowableList();
+		for (int i = 0; i < 1000; i++) {
+			data.addBackLong(i*BIG);
+			flat.addBackLong(i*BIG);
+		}
+		data.removeIndexLong(10);
+		flat.removeIndexLong(10);
+		Assert.assertEquals(999, data.spliterator().getExactSizeIfKnown());
+		Assert.assertArrayEquals(flat.longStream().toArray(), data.longStream().parallel().toArray());
+		Assert.assertEquals(flat.longStream().parallel().sum(), data.longStream().parallel().sum());
+		Assert.assertEquals(0, makeEmptyList().longStream().count());
+	}
+}
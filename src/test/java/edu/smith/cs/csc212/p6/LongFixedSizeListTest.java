@@ -0,0 +1,93 @@
+package edu.smith.cs.csc212.p6;
+
+import org.junit.Test;
+
+import edu.smith.cs.csc212.p6.errors.BadIndexError;
+import edu.smith.cs.csc212.p6.errors.EmptyListError;
+import edu.smith.cs.csc212.p6.errors.RanOutOfSpaceError;
+
+import org.junit.Assert;
+
+public class LongFixedSizeListTest {
+
+	@Test
+	public void testEmpty() {
+		P6List<Long> data = new LongFixedSizeList(0);
+		Assert.assertEquals(0, data.size());
+		Assert.assertEquals(true, data.isEmpty());
+	}
+
+	@Test(expected=EmptyListError.class)
+	public void testRemoveFrontCrash() {
+		new LongFixedSizeList(4).removeFrontLong();
+	}
+
+	@Test(expected=EmptyListError.class)
+	public void testRemoveBackCrash() {
+		new LongFixedSizeList(4).removeBack();
+	}
+
+	@Test(expected=EmptyListError.class)
+	public void testRemoveIndexCrash() {
+		new LongFixedSizeList(4).removeIndexLong(3);
+	}
+
+	@Test(expected=RanOutOfSpaceError.class)
+	public void testAddBackFull() {
+		LongFixedSizeList data = new LongFixedSizeList(2);
+		data.addBackLong(1);
+		data.addBackLong(2);
+		data.addBackLong(3);
+	}
+
+	@Test(expected=RanOutOfSpaceError.class)
+	public void testAddFrontFull() {
+		LongFixedSizeList data = new LongFixedSizeList(1);
+		data.addFrontLong(1);
+		data.addFront(2L);
+	}
+
+	@Test(expected=BadIndexError.class)
+	public void testGetIndexHigh() {
+		LongFixedSizeList data = new LongFixedSizeList(4);
+		data.addBackLong(1);
+		data.getLong(1);
+	}
+
+	@Test
+	public void testAddAndRemove() {
+		LongFixedSizeList data = new LongFixedSizeList(5);
+		data.addBackLong(2);
+		data.addFrontLong(Long.MIN_VALUE);
+		data.addIndexLong(1, 1);
+		data.addBack(Long.MAX_VALUE);
+		Assert.assertArrayEquals(new long[] {Long.MIN_VALUE, 1, 2, Long.MAX_VALUE}, data.toLongArray());
+		Assert.assertEquals(2, data.find(2));
+		Assert.assertEquals(-1, data.find(2 + (1L << 32)));
+		data.swap(0, 3);
+		Assert.assertEquals(Long.MAX_VALUE, data.getFrontLong());
+		Assert.assertEquals(Long.MIN_VALUE, data.getBackLong());
+		data.setLong(2, -2);
+		Assert.assertEquals(1, data.removeIndexLong(1));
+		Assert.assertEquals(Long.MAX_VALUE, data.removeFrontLong());
+		Assert.assertEquals(Long.MIN_VALUE, data.removeBackLong());
+		Assert.assertEquals(1, data.size());
+		Assert.assertEquals(-2L, (long) data.getIndex(0));
+	}
+
+	@Test
+	public void testRemoveRangeAndIterate() {
+		LongFixedSizeList data = new LongFixedSizeList(10);
+		for (int i=0; i<10; i++) {
+			data.addBackLong(i);
+		}
+		data.removeRange(2, 8);
+		Assert.assertArrayEquals(new long[] {0, 1, 8, 9}, data.toLongArray());
+		long sum = 0;
+		for (Long x : data) {
+			sum += x;
+		}
+		Assert.assertEquals(18, sum);
+		Assert.assertEquals(18, data.longStream().sum());
+	}
+}
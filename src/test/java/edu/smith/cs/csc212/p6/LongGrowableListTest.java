@@ -0,0 +1,127 @@
+package edu.smith.cs.csc212.p6;
+
+import org.junit.Test;
+
+import edu.smith.cs.csc212.p6.errors.BadIndexError;
+import edu.smith.cs.csc212.p6.errors.EmptyListError;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Assert;
+
+public class LongGrowableListTest {
+	/**
+	 * Bigger than any int, so a slot that quietly kept only 32 bits would show.
+	 */
+	private static final long BIG = 10_000_000_000L;
+
+	private LongGrowableList makeEmptyList() {
+		return new LongGrowableList();
+	}
+
+	@Test
+	public void testEmpty() {
+		LongGrowableList data = makeEmptyList();
+		Assert.assertEquals(0, data.size());
+		Assert.assertEquals(true, data.isEmpty());
+	}
+
+	@Test(expected=EmptyListError.class)
+	public void testRemoveFrontCrash() {
+		makeEmptyList().removeFrontLong();
+	}
+
+	@Test(expected=EmptyListError.class)
+	public void testRemoveBackCrash() {
+		makeEmptyList().removeBackLong();
+	}
+
+	@Test(expected=EmptyListError.class)
+	public void testGetFrontCrash() {
+		makeEmptyList().getFront();
+	}
+
+	@Test(expected=BadIndexError.class)
+	public void testGetIndexHigh() {
+		LongGrowableList data = makeEmptyList();
+		data.addBackLong(1);
+		data.getLong(1);
+	}
+
+	@Test(expected=BadIndexError.class)
+	public void testAddIndexLow() {
+		makeEmptyList().addIndexLong(1, -1);
+	}
+
+	@Test
+	public void testAddBackFull() {
+		LongGrowableList items = makeEmptyList();
+		for (int i=0; i<GrowableList.START_SIZE*5; i++) {
+			items.addBackLong((i+1)*BIG);
+			Assert.assertEquals(i+1, items.size());
+			Assert.assertEquals((i+1)*BIG, items.getBackLong());
+		}
+		for (int i=0; i<GrowableList.START_SIZE*5; i++) {
+			Assert.assertEquals((i+1)*BIG, items.getLong(i));
+		}
+	}
+
+	@Test
+	public void testMatchesBoxedList() {
+		LongGrowableList data = new LongGrowableList(0, GrowthPolicy.additive(5));
+		List<Long> expected = new ArrayList<>();
+		Random rand = new Random(2);
+		for (int i=0; i<500; i++) {
+			long item = i*BIG;
+			int op = rand.nextInt(4);
+			if (op == 0 || expected.isEmpty()) {
+				int at = rand.nextInt(expected.size()+1);
+				data.addIndex(item, at);
+				expected.add(at, item);
+			} else if (op == 1) {
+				data.addFrontLong(item);
+				expected.add(0, item);
+			} else if (op == 2) {
+				data.addBackLong(item);
+				expected.add(item);
+			} else {
+				int at = rand.nextInt(expected.size());
+				Assert.assertEquals((long) expected.remove(at), data.removeIndexLong(at));
+			}
+		}
+		Assert.assertEquals(expected.size(), data.size());
+		long[] values = data.toLongArray();
+		for (int i=0; i<expected.size(); i++) {
+			Assert.assertEquals((long) expected.get(i), values[i]);
+			Assert.assertEquals(expected.get(i), data.getIndex(i));
+		}
+	}
+
+	@Test
+	public void testBulkAndCapacity() {
+		LongGrowableList data = new LongGrowableList(4);
+		data.addAllLong(new long[] {1, 2, 3, 4, 5, Long.MIN_VALUE});
+		data.ensureCapacity(100);
+		data.trimToSize();
+		data.removeRange(1, 3);
+		Assert.assertArrayEquals(new long[] {1, 4, 5, Long.MIN_VALUE}, data.toLongArray());
+		data.setLong(0, Long.MAX_VALUE);
+		Assert.assertEquals(Long.MAX_VALUE, data.getFrontLong());
+	}
+
+	@Test
+	public void testStream() {
+		LongGrowableList data = makeEmptyList();
+		for (int i=0; i<1000; i++) {
+			data.addBackLong(i*BIG);
+		}
+		Assert.assertEquals(499500*BIG, data.longStream().parallel().sum());
+		long sum = 0;
+		for (Long x : data) {
+			sum += x;
+		}
+		Assert.assertEquals(499500*BIG, sum);
+	}
+}
@@ -0,0 +1,128 @@
+package edu.smith.cs.csc212.p6;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import edu.smith.cs.csc212.p6.errors.BadIndexError;
+import edu.smith.cs.csc212.p6.errors.EmptyListError;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Assert;
+
+public class MappedGrowableListTest {
+	@Rule
+	public TemporaryFolder tmp = new TemporaryFolder();
+
+	private Path file() throws IOException {
+		return tmp.getRoot().toPath().resolve("list.p6");
+	}
+
+	@Test
+	public void testEmpty() throws IOException {
+		try (MappedGrowableList<Integer> data = new MappedGrowableList<>(file(), RecordCodec.INT)) {
+			Assert.assertEquals(0, data.size());
+			Assert.assertEquals(true, data.isEmpty());
+		}
+	}
+
+	@Test(expected=EmptyListError.class)
+	public void testRemoveBackCrash() throws IOException {
+		try (MappedGrowableList<Integer> data = new MappedGrowableList<>(file(), RecordCodec.INT)) {
+			data.removeBack();
+		}
+	}
+
+	@Test(expected=BadIndexError.class)
+	public void testGetIndexHigh() throws IOException {
+		try (MappedGrowableList<Integer> data = new MappedGrowableList<>(file(), RecordCodec.INT)) {
+			data.addBack(1);
+			data.getIndex(1);
+		}
+	}
+
+	@Test(expected=IllegalStateException.class)
+	public void testUseAfterClose() throws IOException {
+		MappedGrowableList<Integer> data = new MappedGrowableList<>(file(), RecordCodec.INT);
+		data.close();
+		data.close();
+		data.addBack(1);
+	}
+
+	@Test
+	public void testReopen() throws IOException {
+		Path file = file();
+		try (MappedGrowableList<Long> data = new MappedGrowableList<>(file, RecordCodec.LONG)) {
+			for (long i = 0; i < 1000; i++) {
+				data.addBack(i * i);
+			}
+			data.removeBack();
+		}
+		// Trimmed to exactly the committed records on close.
+		Assert.assertEquals(MappedGrowableList.HEADER_BYTES + 999 * Long.BYTES, Files.size(file));
+		try (MappedGrowableList<Long> data = new MappedGrowableList<>(file, RecordCodec.LONG)) {
+			Assert.assertEquals(999, data.size());
+			for (int i = 0; i < 999; i++) {
+				Assert.assertEquals((long) i * i, (long) data.getIndex(i));
+			}
+			data.addBack(-1L);
+			Assert.assertEquals(-1L, (long) data.getBack());
+		}
+	}
+
+	@Test(expected=IOException.class)
+	public void testWrongWidth() throws IOException {
+		Path file = file();
+		try (MappedGrowableList<Integer> data = new MappedGrowableList<>(file, RecordCodec.INT)) {
+			data.addBack(7);
+		}
+		new MappedGrowableList<>(file, RecordCodec.LONG).close();
+	}
+
+	@Test(expected=IOException.class)
+	public void testNotAList() throws IOException {
+		Path file = file();
+		Files.write(file, new byte[100]);
+		new MappedGrowableList<>(file, RecordCodec.INT).close();
+	}
+
+	@Test
+	public void testSmallSegmentsRandom() throws IOException {
+		// 10 ints per segment, so most operations cross a segment boundary.
+		Random rand = new Random(13);
+		List<Integer> expected = new ArrayList<>();
+		Path file = file();
+		try (MappedGrowableList<Integer> data = new MappedGrowableList<>(file, RecordCodec.INT, 40)) {
+			for (int i = 0; i < 2000; i++) {
+				int op = rand.nextInt(4);
+				if (op == 0 && !expected.isEmpty()) {
+					int index = rand.nextInt(expected.size());
+					Assert.assertEquals(expected.remove(index), data.removeIndex(index));
+				} else if (op == 1) {
+					int index = rand.nextInt(expected.size() + 1);
+					expected.add(index, i);
+					data.addIndex(i, index);
+				} else {
+					expected.add(i);
+					data.addBack(i);
+				}
+				Assert.assertEquals(expected.size(), data.size());
+			}
+			for (int i = 0; i < expected.size(); i++) {
+				Assert.assertEquals(expected.get(i), data.getIndex(i));
+			}
+		}
+		try (MappedGrowableList<Integer> data = new MappedGrowableList<>(file, RecordCodec.INT, 40)) {
+			Assert.assertEquals(expected.size(), data.size());
+			for (int i = 0; i < expected.size(); i++) {
+				Assert.assertEquals(expected.get(i), data.getIndex(i));
+			}
+		}
+	}
+}
@@ -0,0 +1,137 @@
+package edu.smith.cs.csc212.p6;
+
+import org.junit.Test;
+
+import edu.smith.cs.csc212.p6.errors.BadIndexError;
+import edu.smith.cs.csc212.p6.errors.EmptyListError;
+import edu.smith.cs.csc212.p6.errors.RanOutOfSpaceError;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Assert;
+
+public class OffHeapFixedSizeListTest {
+	private OffHeapFixedSizeList<Integer> makeList(int size) {
+		return new OffHeapFixedSizeList<>(size, RecordCodec.INT);
+	}
+
+	@Test
+	public void testEmpty() {
+		try (OffHeapFixedSizeList<Integer> data = makeList(0)) {
+			Assert.assertEquals(0, data.size());
+			Assert.assertEquals(true, data.isEmpty());
+		}
+	}
+
+	@Test(expected=EmptyListError.class)
+	public void testRemoveFrontCrash() {
+		makeList(4).removeFront();
+	}
+
+	@Test(expected=EmptyListError.class)
+	public void testRemoveBackCrash() {
+		makeList(4).removeBack();
+	}
+
+	@Test(expected=EmptyListError.class)
+	public void testGetFrontCrash() {
+		makeList(4).getFront();
+	}
+
+	@Test(expected=RanOutOfSpaceError.class)
+	public void testAddBackFull() {
+		P6List<Integer> data = makeList(2);
+		data.addBack(1);
+		data.addBack(2);
+		data.addBack(3);
+	}
+
+	@Test(expected=RanOutOfSpaceError.class)
+	public void testAddFrontFull() {
+		P6List<Integer> data = makeList(1);
+		data.addFront(1);
+		data.addFront(2);
+	}
+
+	@Test(expected=BadIndexError.class)
+	public void testGetIndexHigh() {
+		P6List<Integer> data = makeList(4);
+		data.addBack(1);
+		data.getIndex(1);
+	}
+
+	@Test(expected=BadIndexError.class)
+	public void testAddIndexHigh() {
+		P6List<Integer> data = makeList(4);
+		data.addIndex(1, 1);
+	}
+
+	@Test
+	public void testMatchesHeapList() {
+		try (OffHeapFixedSizeList<Long> data = new OffHeapFixedSizeList<>(3000, RecordCodec.LONG)) {
+			List<Long> expected = new ArrayList<>();
+			Random rand = new Random(9);
+			for (int i=0; i<3000; i++) {
+				if (rand.nextInt(3) == 0 && !expected.isEmpty()) {
+					int at = rand.nextInt(expected.size());
+					Assert.assertEquals(expected.remove(at), data.removeIndex(at));
+				} else {
+					int at = rand.nextInt(expected.size()+1);
+					data.addIndex((long) i << 33, at);
+					expected.add(at, (long) i << 33);
+				}
+			}
+			Assert.assertEquals(expected.size(), data.size());
+			for (int i=0; i<expected.size(); i++) {
+				Assert.assertEquals(expected.get(i), data.getIndex(i));
+			}
+		}
+	}
+
+	@Test
+	public void testExtras() {
+		OffHeapFixedSizeList<Double> data = new OffHeapFixedSizeList<>(4, RecordCodec.DOUBLE);
+		data.addBack(1.0);
+		data.addBack(2.0);
+		data.addBack(3.0);
+		Assert.assertEquals(1, data.find(2.0));
+		Assert.assertEquals(-1, data.find(7.0));
+		data.setIndex(1, 2.5);
+		data.swap(0, 2);
+		Assert.assertEquals(3.0, data.getFront(), 0.0);
+		Assert.assertEquals(2.5, data.getIndex(1), 0.0);
+		Assert.assertEquals(1.0, data.getBack(), 0.0);
+		data.close();
+	}
+
+	@Test(expected=IllegalArgumentException.class)
+	public void testZeroWidthCodec() {
+		new OffHeapFixedSizeList<>(4, new RecordCodec<String>() {
+			@Override
+			public int width() {
+				return 0;
+			}
+
+			@Override
+			public void write(ByteBuffer buffer, int offset, String value) {
+			}
+
+			@Override
+			public String read(ByteBuffer buffer, int offset) {
+				return "";
+			}
+		});
+	}
+
+	@Test(expected=IllegalStateException.class)
+	public void testUseAfterClose() {
+		OffHeapFixedSizeList<Integer> data = makeList(4);
+		data.addBack(1);
+		data.close();
+		data.close();
+		data.getIndex(0);
+	}
+}
@@ -0,0 +1,174 @@
+package edu.smith.cs.csc212.p6;
+
+import org.junit.Test;
+
+import edu.smith.cs.csc212.p6.errors.BadIndexError;
+import edu.smith.cs.csc212.p6.errors.EmptyListError;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.Assert;
+
+public class PersistentVectorTest {
+	private static List<Integer> range(int from, int to) {
+		return IntStream.range(from, to).boxed().collect(Collectors.toList());
+	}
+
+	private static <T> List<T> toList(P6List<T> data) {
+		List<T> out = new ArrayList<>();
+		for (T item : data) {
+			out.add(item);
+		}
+		return out;
+	}
+
+	@Test
+	public void testEmpty() {
+		P6List<String> data = new PersistentVector<>();
+		Assert.assertEquals(0, data.size());
+		Assert.assertEquals(true, data.isEmpty());
+		Assert.assertFalse(data.iterator().hasNext());
+	}
+
+	@Test(expected=EmptyListError.class)
+	public void testGetFrontCrash() {
+		new PersistentVector<String>().getFront();
+	}
+
+	@Test(expected=EmptyListError.class)
+	public void testWithoutFrontCrash() {
+		new PersistentVector<String>().withoutFront();
+	}
+
+	@Test(expected=BadIndexError.class)
+	public void testGetIndexHigh() {
+		new PersistentVector<String>().withBack("a").getIndex(1);
+	}
+
+	@Test(expected=BadIndexError.class)
+	public void testSliceBackwards() {
+		PersistentVector.copyOf(range(0, 10)).slice(5, 4);
+	}
+
+	@Test(expected=UnsupportedOperationException.class)
+	public void testAddBackUnsupported() {
+		new PersistentVector<String>().addBack("a");
+	}
+
+	@Test
+	public void testWithBack() {
+		PersistentVector<Integer> data = new PersistentVector<>();
+		for (int i=0; i<40000; i++) {
+			data = data.withBack(i);
+		}
+		Assert.assertEquals(40000, data.size());
+		for (int i=0; i<40000; i++) {
+			Assert.assertEquals(i, (int) data.getIndex(i));
+		}
+		Assert.assertEquals(range(0, 40000), toList(data));
+		Assert.assertEquals(3, data.height());
+	}
+
+	@Test
+	public void testOldVersionsUnchanged() {
+		PersistentVector<Integer> v1 = PersistentVector.copyOf(range(0, 1000));
+		PersistentVector<Integer> v2 = v1.withSet(500, -1);
+		PersistentVector<Integer> v3 = v2.withIndex(-2, 10).withoutFront();
+		Assert.assertEquals(range(0, 1000), toList(v1));
+		Assert.assertEquals(-1, (int) v2.getIndex(500));
+		Assert.assertEquals(500, (int) v1.getIndex(500));
+		Assert.assertEquals(-2, (int) v3.getIndex(9));
+		Assert.assertEquals(1000, v3.size());
+		Assert.assertEquals(1000, v2.size());
+	}
+
+	@Test
+	public void testSliceAndConcat() {
+		PersistentVector<Integer> data = PersistentVector.copyOf(range(0, 5000));
+		for (int from=0; from<5000; from+=377) {
+			for (int to=from; to<=5000; to+=611) {
+				PersistentVector<Integer> slice = data.slice(from, to);
+				Assert.assertEquals(range(from, to), toList(slice));
+				Assert.assertEquals(range(0, to), toList(data.slice(0, from).concat(slice)));
+				Assert.assertEquals(range(from, 5000), toList(slice.concat(data.slice(to, 5000))));
+			}
+		}
+		PersistentVector<Integer> doubled = data.concat(data);
+		Assert.assertEquals(10000, doubled.size());
+		Assert.assertEquals(4999, (int) doubled.getIndex(4999));
+		Assert.assertEquals(0, (int) doubled.getIndex(5000));
+	}
+
+	@Test
+	public void testManySmallConcats() {
+		// concatenating lots of odd-sized pieces still gives a shallow tree.
+		PersistentVector<Integer> data = new PersistentVector<>();
+		int next = 0;
+		Random rand = new Random(5);
+		while (next < 100000) {
+			int length = 1 + rand.nextInt(50);
+			data = data.concat(PersistentVector.copyOf(range(next, next + length)));
+			next += length;
+		}
+		Assert.assertEquals(range(0, next), toList(data));
+		for (int i=0; i<next; i+=97) {
+			Assert.assertEquals(i, (int) data.getIndex(i));
+		}
+		Assert.assertTrue(data.height() <= 4);
+	}
+
+	@Test(timeout=10000)
+	public void testMatchesArrayList() {
+		Random rand = new Random(11);
+		PersistentVector<Integer> data = new PersistentVector<>();
+		List<Integer> expected = new ArrayList<>();
+		for (int i=0; i<20000; i++) {
+			int index = expected.isEmpty() ? 0 : rand.nextInt(expected.size());
+			switch (rand.nextInt(7)) {
+			case 0:
+				data = data.withFront(i);
+				expected.add(0, i);
+				break;
+			case 1:
+				data = data.withBack(i);
+				expected.add(i);
+				break;
+			case 2:
+			case 3:
+				index = rand.nextInt(expected.size() + 1);
+				data = data.withIndex(i, index);
+				expected.add(index, i);
+				break;
+			case 4:
+				if (!expected.isEmpty()) {
+					data = data.withoutIndex(index);
+					expected.remove(index);
+				}
+				break;
+			case 5:
+				if (!expected.isEmpty()) {
+					data = data.withSet(index, -i);
+					expected.set(index, -i);
+				}
+				break;
+			default:
+				if (!expected.isEmpty()) {
+					Assert.assertEquals(expected.get(index), data.getIndex(index));
+					Assert.assertEquals(expected.get(0), data.getFront());
+					Assert.assertEquals(expected.get(expected.size()-1), data.getBack());
+				}
+			}
+			Assert.assertEquals(expected.size(), data.size());
+		}
+		Assert.assertEquals(expected, toList(data));
+		Assert.assertEquals(expected, data.parallelStream().collect(Collectors.toList()));
+		Assert.assertTrue(data.height() <= 4);
+		data = data.withoutFront().withoutBack();
+		Assert.assertEquals(expected.subList(1, expected.size()-1), Arrays.asList(data.stream().toArray()));
+	}
+}
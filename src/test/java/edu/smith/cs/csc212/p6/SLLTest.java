@@ -8,9 +8,19 @@ import edu.smith.cs.csc212.p6.errors.RanOutOfSpaceError;
 
 import static org.junit.Assert.assertEquals;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.ListIterator;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Random;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
 
 import org.junit.Assert;
 
@@ -325,4 +335,293 @@ public class SLLTest {
 			}
 		}
 	}
+	
+	@Test
+	public void testRemoveIndexBackMovesEnd() {
+		P6List<String> data = makeFullList();
+		Assert.assertEquals("d", data.removeIndex(3));
+		Assert.assertEquals(3, data.size());
+		Assert.assertEquals("c", data.getBack());
+		data.addBack("e");
+		Assert.assertEquals(4, data.size());
+		Assert.assertEquals("e", data.getIndex(3));
+		Assert.assertEquals("e", data.getBack());
+	}
+	
+	@Test
+	public void testEmptyThenAddBack() {
+		P6List<String> data = makeFullList();
+		while (!data.isEmpty()) {
+			data.removeBack();
+		}
+		Assert.assertEquals(0, data.size());
+		data.addBack("z");
+		Assert.assertEquals("z", data.getFront());
+		Assert.assertEquals("z", data.getBack());
+	}
+	
+	@Test
+	public void testBulkOps() {
+		P6List<Integer> data = makeEmptyList();
+		data.addAll(Arrays.asList(0, 1, 2, 3, 4, 5, 6, 7, 8, 9));
+		Assert.assertEquals(10, data.size());
+		data.insertAll(3, Arrays.asList(-1, -2, -3, -4, -5, -6, -7));
+		data.insertAll(0, Arrays.asList(-10));
+		data.insertAll(data.size(), Arrays.asList(10, 11));
+		List<Integer> expected = new ArrayList<>(Arrays.asList(-10, 0, 1, 2, -1, -2, -3, -4, -5, -6, -7, 3, 4, 5, 6, 7, 8, 9, 10, 11));
+		Assert.assertEquals(expected.size(), data.size());
+		for (int i=0; i<expected.size(); i++) {
+			Assert.assertEquals(expected.get(i), data.getIndex(i));
+		}
+		data.removeRange(4, 11);
+		expected.subList(4, 11).clear();
+		data.removeRange(0, 1);
+		expected.remove(0);
+		data.removeRange(data.size()-2, data.size());
+		expected.subList(expected.size()-2, expected.size()).clear();
+		data.removeRange(3, 3);
+		Assert.assertEquals(expected.size(), data.size());
+		for (int i=0; i<expected.size(); i++) {
+			Assert.assertEquals(expected.get(i), data.getIndex(i));
+		}
+		Assert.assertEquals(expected.get(expected.size()-1), data.getBack());
+		data.removeRange(0, data.size());
+		Assert.assertEquals(true, data.isEmpty());
+		data.addAll(Arrays.asList(1, 2));
+		Assert.assertEquals(2, (int) data.getBack());
+	}
+	
+	@Test(expected=BadIndexError.class)
+	public void testRemoveRangeBad() {
+		P6List<String> data = makeFullList();
+		data.removeRange(2, 5);
+	}
+	
+	@Test(expected=BadIndexError.class)
+	public void testInsertAllBad() {
+		P6List<String> data = makeFullList();
+		data.insertAll(5, Arrays.asList("x"));
+	}
+
+	@Test
+	public void testIterate() {
+		P6List<Integer> data = makeEmptyList();
+		for (Integer x : data) {
+			Assert.fail("empty list gave " + x);
+		}
+		for (int i=0; i<100; i++) {
+			data.addBack(i);
+		}
+		data.removeFront();
+		data.addFront(-1);
+		int expected = -1;
+		for (Integer x : data) {
+			Assert.assertEquals(expected++, (int) x);
+			if (expected == 0) {
+				expected++;
+			}
+		}
+		Assert.assertEquals(100, expected);
+		// addAll takes any Iterable, so a P6List works too.
+		P6List<Integer> copy = makeEmptyList();
+		copy.addAll(data);
+		Assert.assertEquals(data.size(), copy.size());
+		Assert.assertEquals(data.getBack(), copy.getBack());
+	}
+	
+	@Test(expected=ConcurrentModificationException.class)
+	public void testIteratorFailFast() {
+		P6List<Integer> data = makeEmptyList();
+		data.addAll(Arrays.asList(1, 2, 3));
+		for (Integer x : data) {
+			data.addBack(x);
+		}
+	}
+	
+	@Test(expected=ConcurrentModificationException.class)
+	public void testIteratorFailFastLastItem() {
+		// removing the only item is a change too.
+		P6List<Integer> data = makeEmptyList();
+		data.addBack(1);
+		Iterator<Integer> it = data.iterator();
+		data.removeBack();
+		it.next();
+	}
+	
+	@Test(expected=NoSuchElementException.class)
+	public void testIteratorPastEnd() {
+		P6List<Integer> data = makeEmptyList();
+		data.addBack(1);
+		Iterator<Integer> it = data.iterator();
+		it.next();
+		it.next();
+	}
+	
+	@Test
+	public void testStream() {
+		P6List<Integer> data = makeEmptyList();
+		List<Integer> expected = new ArrayList<>();
+		for (int i=0; i<1000; i++) {
+			data.addFront(i);
+			expected.add(0, i);
+		}
+		Spliterator<Integer> all = data.spliterator();
+		Assert.assertTrue(all.hasCharacteristics(Spliterator.SIZED | Spliterator.ORDERED));
+		Assert.assertEquals(1000, all.getExactSizeIfKnown());
+		Assert.assertEquals(expected, data.stream().collect(Collectors.toList()));
+		Assert.assertEquals(expected, data.parallelStream().collect(Collectors.toList()));
+		Assert.assertEquals(999 * 1000 / 2, data.parallelStream().mapToInt(x -> x).sum());
+	}
+	
+	@Test
+	public void testCursorMergePass() {
+		SinglyLinkedList<Integer> data = new SinglyLinkedList<>();
+		data.addAll(Arrays.asList(1, 2, 3, 4, 5, 6));
+		// drop the odd numbers, double the rest, and put a 0 after each.
+		ListIterator<Integer> it = data.listIterator();
+		while (it.hasNext()) {
+			int x = it.next();
+			if (x % 2 == 1) {
+				it.remove();
+			} else {
+				it.set(x * 2);
+				it.add(0);
+			}
+		}
+		Assert.assertEquals(Arrays.asList(4, 0, 8, 0, 12, 0), data.stream().collect(Collectors.toList()));
+		Assert.assertEquals(6, data.size());
+		Assert.assertEquals(0, (int) data.getBack());
+		data.addBack(7);
+		Assert.assertEquals(7, (int) data.getBack());
+	}
+	
+	@Test
+	public void testCursorRandom() {
+		Random rand = new Random(17);
+		SinglyLinkedList<Integer> data = new SinglyLinkedList<>();
+		List<Integer> expected = new LinkedList<>();
+		for (int round=0; round<50; round++) {
+			int start = rand.nextInt(expected.size() + 1);
+			ListIterator<Integer> mine = data.listIterator(start);
+			ListIterator<Integer> theirs = expected.listIterator(start);
+			boolean canEdit = false;
+			for (int step=0; step<40; step++) {
+				int op = rand.nextInt(6);
+				if (op == 0 && theirs.hasNext()) {
+					Assert.assertEquals(theirs.next(), mine.next());
+					canEdit = true;
+				} else if (op == 1 && theirs.hasPrevious()) {
+					Assert.assertEquals(theirs.previous(), mine.previous());
+					canEdit = true;
+				} else if (op == 2 && canEdit) {
+					theirs.remove();
+					mine.remove();
+					canEdit = false;
+				} else if (op == 3 && canEdit) {
+					theirs.set(-step);
+					mine.set(-step);
+				} else {
+					theirs.add(step);
+					mine.add(step);
+					canEdit = false;
+				}
+				Assert.assertEquals(theirs.nextIndex(), mine.nextIndex());
+				Assert.assertEquals(theirs.hasNext(), mine.hasNext());
+			}
+			Assert.assertEquals(expected.size(), data.size());
+			Assert.assertEquals(expected, data.stream().collect(Collectors.toList()));
+			if (!expected.isEmpty()) {
+				Assert.assertEquals(expected.get(expected.size()-1), data.getBack());
+			}
+		}
+	}
+	
+	@Test(expected=IllegalStateException.class)
+	public void testCursorRemoveTwice() {
+		SinglyLinkedList<Integer> data = new SinglyLinkedList<>();
+		data.addAll(Arrays.asList(1, 2, 3));
+		ListIterator<Integer> it = data.listIterator(1);
+		it.next();
+		it.remove();
+		it.remove();
+	}
+	
+	@Test(expected=ConcurrentModificationException.class)
+	public void testCursorFailFast() {
+		SinglyLinkedList<Integer> data = new SinglyLinkedList<>();
+		data.addAll(Arrays.asList(1, 2, 3));
+		ListIterator<Integer> it = data.listIterator();
+		it.next();
+		data.removeFront();
+		it.set(4);
+	}
+	
+	@Test(timeout=10000)
+	public void testSequentialIndexScan() {
+		// without the finger this is ~10^10 steps; with it, ~10^5.
+		P6List<Integer> data = new SinglyLinkedList<>();
+		int n = 200000;
+		for (int i=0; i<n; i++) {
+			data.addBack(i);
+		}
+		long sum = 0;
+		for (int i=0; i<data.size(); i++) {
+			sum += data.getIndex(i);
+		}
+		Assert.assertEquals((long) n * (n - 1) / 2, sum);
+		// insert after every item, then take them back out, all by index.
+		for (int i=0; i<data.size(); i+=2) {
+			data.addIndex(-1, i+1);
+		}
+		Assert.assertEquals(2*n, data.size());
+		for (int i=1; i<data.size(); i++) {
+			Assert.assertEquals(-1, (int) data.removeIndex(i));
+		}
+		Assert.assertEquals(n, data.size());
+		Assert.assertEquals(n-1, (int) data.getBack());
+	}
+	
+	@Test
+	public void testFingerAfterOtherEdits() {
+		Random rand = new Random(99);
+		P6List<Integer> data = new SinglyLinkedList<>();
+		List<Integer> expected = new ArrayList<>();
+		for (int i=0; i<5000; i++) {
+			int index = expected.isEmpty() ? 0 : rand.nextInt(expected.size());
+			switch (rand.nextInt(7)) {
+			case 0:
+				data.addFront(i);
+				expected.add(0, i);
+				break;
+			case 1:
+				if (!expected.isEmpty()) {
+					Assert.assertEquals(expected.remove(0), data.removeFront());
+				}
+				break;
+			case 2:
+				if (!expected.isEmpty()) {
+					Assert.assertEquals(expected.remove(index), data.removeIndex(index));
+				}
+				break;
+			case 3:
+				data.addIndex(i, index);
+				expected.add(index, i);
+				break;
+			case 4:
+				if (expected.size() > 2) {
+					data.removeRange(1, 3);
+					expected.subList(1, 3).clear();
+				}
+				break;
+			default:
+				if (!expected.isEmpty()) {
+					Assert.assertEquals(expected.get(index), data.getIndex(index));
+				}
+			}
+			Assert.assertEquals(expected.size(), data.size());
+		}
+		for (int i=0; i<expected.size(); i++) {
+			Assert.assertEquals(expected.get(i), data.getIndex(i));
+		}
+	}
 }
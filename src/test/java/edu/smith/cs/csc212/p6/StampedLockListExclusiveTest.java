@@ -0,0 +1,12 @@
+package edu.smith.cs.csc212.p6;
+
+/**
+ * Every StampedLockListTest again, with EXCLUSIVE reads around a list whose
+ * getIndex moves a finger.
+ */
+public class StampedLockListExclusiveTest extends StampedLockListTest {
+	@Override
+	protected <T> StampedLockList<T> makeEmptyList() {
+		return new StampedLockList<>(new DoublyLinkedList<>(), StampedLockList.Reads.EXCLUSIVE);
+	}
+}
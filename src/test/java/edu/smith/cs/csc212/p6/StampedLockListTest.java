@@ -0,0 +1,183 @@
+package edu.smith.cs.csc212.p6;
+
+import org.junit.Test;
+
+import edu.smith.cs.csc212.p6.errors.BadIndexError;
+import edu.smith.cs.csc212.p6.errors.EmptyListError;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+import org.junit.Assert;
+
+public class StampedLockListTest {
+	/**
+	 * {@link StampedLockListExclusiveTest} runs all of these again with
+	 * EXCLUSIVE reads.
+	 */
+	protected <T> StampedLockList<T> makeEmptyList() {
+		return new StampedLockList<>(new GrowableList<>(), StampedLockList.Reads.SHARED);
+	}
+
+	@Test
+	public void testEmpty() {
+		P6List<String> data = makeEmptyList();
+		Assert.assertEquals(0, data.size());
+		Assert.assertEquals(true, data.isEmpty());
+	}
+
+	@Test(expected=EmptyListError.class)
+	public void testRemoveFrontCrash() {
+		makeEmptyList().removeFront();
+	}
+
+	@Test(expected=BadIndexError.class)
+	public void testGetIndexHigh() {
+		P6List<String> data = makeEmptyList();
+		data.addBack("a");
+		data.getIndex(1);
+	}
+
+	@Test
+	public void testReadsAndWrites() {
+		P6List<String> data = makeEmptyList();
+		data.addBack("b");
+		data.addFront("a");
+		data.addBack("d");
+		data.addIndex("c", 2);
+		Assert.assertEquals(4, data.size());
+		Assert.assertEquals("a", data.getFront());
+		Assert.assertEquals("c", data.getIndex(2));
+		Assert.assertEquals("d", data.getBack());
+		Assert.assertEquals("d", data.removeBack());
+		Assert.assertEquals("b", data.removeIndex(1));
+		Assert.assertEquals("a", data.removeFront());
+		Assert.assertEquals(Arrays.asList("c"), data.stream().collect(Collectors.toList()));
+	}
+
+	@Test
+	public void testBulk() {
+		P6List<Integer> data = makeEmptyList();
+		data.addAll(Arrays.asList(1, 2, 3));
+		data.addAll(data);
+		data.insertAll(1, Arrays.asList(7, 8));
+		data.removeRange(4, 6);
+		Assert.assertEquals(Arrays.asList(1, 7, 8, 2, 2, 3), data.stream().collect(Collectors.toList()));
+	}
+
+	@Test
+	public void testWithWriteLock() {
+		StampedLockList<String> data = makeEmptyList();
+		data.addBack("a");
+		data.withWriteLock(list -> {
+			list.addBack("b");
+			list.addBack("c");
+			list.removeFront();
+		});
+		Assert.assertEquals(Arrays.asList("b", "c"), data.stream().collect(Collectors.toList()));
+	}
+
+	@Test
+	public void testExclusiveReads() {
+		// a linked list's finger moves on getIndex, so it can't share reads.
+		P6List<Integer> data = new StampedLockList<>(new SinglyLinkedList<>(), StampedLockList.Reads.EXCLUSIVE);
+		for (int i=0; i<100; i++) {
+			data.addBack(i);
+		}
+		for (int i=0; i<100; i++) {
+			Assert.assertEquals(i, (int) data.getIndex(i));
+		}
+		Assert.assertEquals(99, (int) data.getBack());
+	}
+
+	@Test(expected=NullPointerException.class)
+	public void testReadsRequired() {
+		new StampedLockList<>(new GrowableList<String>(), null);
+	}
+
+	@Test
+	public void testIteratorIsCopy() {
+		P6List<String> data = makeEmptyList();
+		data.addBack("a");
+		data.addBack("b");
+		List<String> seen = new ArrayList<>();
+		for (String item : data) {
+			seen.add(item);
+			data.addBack("c");
+		}
+		Assert.assertEquals(Arrays.asList("a", "b"), seen);
+		Assert.assertEquals(4, data.size());
+	}
+
+	@Test(timeout=60000)
+	public void testStress() throws InterruptedException {
+		// writers rotate the list (always a permutation of 0..n-1, and never
+		// resized mid-rotation from a reader's point of view) while readers check
+		// that they never see a half-done rotation.
+		int n = 1000;
+		StampedLockList<Integer> data = makeEmptyList();
+		for (int i=0; i<n; i++) {
+			data.addBack(i);
+		}
+		AtomicBoolean done = new AtomicBoolean();
+		AtomicReference<Throwable> failure = new AtomicReference<>();
+		CountDownLatch go = new CountDownLatch(1);
+		List<Thread> workers = new ArrayList<>();
+		for (int t=0; t<2; t++) {
+			workers.add(new Thread(() -> {
+				try {
+					go.await();
+					for (int i=0; i<20000; i++) {
+						data.withWriteLock(list -> list.addBack(list.removeFront()));
+					}
+				} catch (Throwable e) {
+					failure.compareAndSet(null, e);
+				}
+			}));
+		}
+		for (int t=0; t<4; t++) {
+			int id = t;
+			workers.add(new Thread(() -> {
+				Random rand = new Random(id);
+				try {
+					go.await();
+					while (!done.get()) {
+						Assert.assertEquals(n, data.size());
+						int index = rand.nextInt(n);
+						int item = data.getIndex(index);
+						Assert.assertTrue(item >= 0 && item < n);
+						int front = data.getFront();
+						int back = data.getBack();
+						Assert.assertTrue(front >= 0 && back < n);
+					}
+				} catch (Throwable e) {
+					failure.compareAndSet(null, e);
+				}
+			}));
+		}
+		for (Thread worker : workers) {
+			worker.start();
+		}
+		go.countDown();
+		for (int t=0; t<2; t++) {
+			workers.get(t).join();
+		}
+		done.set(true);
+		for (Thread worker : workers) {
+			worker.join();
+		}
+		if (failure.get() != null) {
+			throw new AssertionError(failure.get());
+		}
+		List<Integer> all = data.stream().sorted().collect(Collectors.toList());
+		for (int i=0; i<n; i++) {
+			Assert.assertEquals(i, (int) all.get(i));
+		}
+	}
+}